@@ -12,6 +12,8 @@ repositories {
     mavenCentral()
 }
 
+val bpmnLint: Configuration by configurations.creating
+
 intellij {
     version.set("2023.2.6")
     type.set("IC")
@@ -46,6 +48,32 @@ tasks {
     buildPlugin {
         dependsOn(buildNpm)
     }
+
+    val bpmnLintJar = register<Jar>("bpmnLintJar") {
+        group = "build"
+        description = "Assembles the standalone BPMN lint CLI with Gson into a jar runnable with java -jar"
+        archiveBaseName.set("bpmn-lint")
+        manifest {
+            attributes("Main-Class" to "dev.camunda.bpmn.editor.cli.BpmnLintCli")
+        }
+        from(sourceSets.main.get().output) {
+            include("dev/camunda/bpmn/editor/cli/**")
+            include("dev/camunda/bpmn/editor/lint/engine/**")
+            include("dev/camunda/bpmn/editor/lint/rule/**")
+            include("dev/camunda/bpmn/editor/util/BpmnFileNames.class")
+        }
+        from({ bpmnLint.map { zipTree(it) } }) {
+            exclude("META-INF/**")
+        }
+    }
+
+    register<JavaExec>("lintBpmn") {
+        group = "verification"
+        description = "Lints the BPMN files of -PbpmnDir (default: the project directory) with their .bpmnlintrc"
+        mainClass.set("dev.camunda.bpmn.editor.cli.BpmnLintCli")
+        classpath = files(bpmnLintJar)
+        args(providers.gradleProperty("bpmnDir").getOrElse(project.projectDir.path))
+    }
 }
 
 sourceSets {
@@ -59,4 +87,8 @@ sourceSets {
 dependencies {
     compileOnly("org.projectlombok:lombok:1.18.34")
     annotationProcessor("org.projectlombok:lombok:1.18.34")
+
+    bpmnLint("com.google.code.gson:gson:2.10.1")
+
+    testImplementation("junit:junit:4.13.2")
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package dev.camunda.bpmn.editor.action;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.diagnostic.Logger;
+import dev.camunda.bpmn.editor.server.Server;
+import dev.camunda.bpmn.editor.server.ServerService;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Action writing the metrics of the embedded HTTP server to the IDE log.
+ * The report contains the request counts, latency percentiles, response sizes
+ * and "not found" responses of every route, together with the request executor counters
+ * and the lint content cache counters (hits, loads and coalesced duplicate loads).
+ *
+ * <p>The action is only enabled after the server has been started by an opened BPMN editor,
+ * it never starts the server by itself.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public class DumpServerMetricsAction extends AnAction {
+
+    private static final Logger LOG = Logger.getInstance(DumpServerMetricsAction.class);
+    private static final String REPORT = "Camunda BPMN Editor server metrics:%n%s";
+
+    /**
+     * Writes the current server metrics to the IDE log.
+     *
+     * @param event The action event
+     */
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent event) {
+        ServerService.getInstance().findServer()
+                .map(Server::getMetricsReport)
+                .ifPresent(report -> LOG.info(REPORT.formatted(report)));
+    }
+
+    /**
+     * Enables the action only when the server is running.
+     *
+     * @param event The action event
+     */
+    @Override
+    public void update(@NotNull AnActionEvent event) {
+        event.getPresentation().setEnabled(ServerService.getInstance().findServer().isPresent());
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
@@ -0,0 +1,47 @@
+package dev.camunda.bpmn.editor.action;
+
+import static java.util.Objects.nonNull;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.progress.ProgressManager;
+import dev.camunda.bpmn.editor.lint.LintProjectTask;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Action linting every BPMN file of the project in the background.
+ * The reports are shown in the Problems view, see {@link LintProjectTask}.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class LintProjectAction extends AnAction {
+
+    /**
+     * Starts the {@link LintProjectTask} for the project of the event.
+     *
+     * @param event The action event
+     */
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent event) {
+        var project = event.getProject();
+        if (nonNull(project)) {
+            ProgressManager.getInstance().run(new LintProjectTask(project));
+        }
+    }
+
+    /**
+     * Enables the action only when there is a project.
+     *
+     * @param event The action event
+     */
+    @Override
+    public void update(@NotNull AnActionEvent event) {
+        event.getPresentation().setEnabled(nonNull(event.getProject()));
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
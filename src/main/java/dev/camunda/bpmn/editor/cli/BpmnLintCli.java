@@ -0,0 +1,299 @@
+package dev.camunda.bpmn.editor.cli;
+
+import static dev.camunda.bpmn.editor.lint.engine.LintConfig.BPMNLINTRC;
+import static dev.camunda.bpmn.editor.util.BpmnFileNames.isBpmnFileName;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnModelReader;
+import dev.camunda.bpmn.editor.lint.engine.LintConfig;
+import dev.camunda.bpmn.editor.lint.engine.LintEngine;
+import dev.camunda.bpmn.editor.lint.engine.LintSeverity;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Headless entry point linting the BPMN files of directory trees with the Java {@link LintEngine},
+ * e.g. to gate merges on the lint results in a CI build.
+ *
+ * <p>Usage: {@code BpmnLintCli [directory...]}, the current directory is linted if none is given.
+ * Every file is linted with the rules of the {@code .bpmnlintrc} closest to it, searched from the directory
+ * of the file up to the linted directory. Like in the IDE, a file without a closest {@code .bpmnlintrc} falls back
+ * to the first one of the linted directory, the one closest to its root, and to {@code bpmnlint:recommended}
+ * if there is none. Rules of lint plugins have no Java implementation and are skipped. Dependency, VCS and build
+ * output directories are not searched.</p>
+ *
+ * <p>The CLI, the lint engine and its rules only depend on the JDK (StAX) and Gson, not on the IntelliJ Platform.
+ * The {@code bpmnLintJar} Gradle task assembles them with Gson into a runnable jar for other projects,
+ * {@code java -jar bpmn-lint-<version>.jar [directory...]}, which is also what the {@code lintBpmn} task runs.</p>
+ *
+ * <p>The files are linted in parallel on the common fork-join pool, the engines are shared by all files
+ * configured by the same {@code .bpmnlintrc}. Every report is printed as {@code path:line: [category] message
+ * (rule)}, followed by a summary.</p>
+ *
+ * <p>The exit code is {@code 0} if no error was reported, {@code 1} if a rule with the {@code error} severity
+ * reported a problem or a file is not a valid BPMN model, and {@code 2} if a directory or a {@code .bpmnlintrc}
+ * cannot be read.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public final class BpmnLintCli {
+
+    private static final int SUCCESS = 0;
+    private static final int LINT_ERRORS = 1;
+    private static final int USAGE_ERROR = 2;
+    private static final String CURRENT_DIRECTORY = ".";
+    private static final String OPTION_PREFIX = "-";
+    private static final String USAGE = "Usage: BpmnLintCli [directory...]";
+    private static final String REPORT = "%s:%d: [%s] %s (%s)";
+    private static final String INVALID_BPMN = "%s:%d: [error] Invalid BPMN: %s";
+    private static final String INVALID_CONFIG = "%s: %s";
+    private static final String LINE_BREAKS = "\\R+";
+    private static final String SPACE = " ";
+    private static final String SUMMARY = "Linted %d BPMN files in %d ms: %d errors, %d warnings";
+    private static final Set<String> SKIPPED_DIRECTORIES = Set.of("node_modules", ".git", ".idea", ".gradle",
+            "build", "target", "out");
+    private static final LintEngine RECOMMENDED_ENGINE = new LintEngine(LintConfig.recommended());
+
+    private final PrintStream out;
+    private final Map<Path, Optional<Path>> configPaths = new ConcurrentHashMap<>();
+    private final Map<Path, Optional<LintEngine>> engines = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a linter printing its reports to the given stream.
+     *
+     * @param out The stream of the reports
+     */
+    private BpmnLintCli(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Lints the BPMN files of the given directories and exits with the result.
+     *
+     * @param args The directories to lint
+     */
+    public static void main(String[] args) {
+        System.exit(new BpmnLintCli(System.out).run(args));
+    }
+
+    /**
+     * Lints the BPMN files of the given directories.
+     *
+     * @param args The directories to lint
+     * @return The exit code
+     */
+    private int run(String[] args) {
+        var directories = args.length == 0 ? List.of(CURRENT_DIRECTORY) : List.of(args);
+        if (directories.stream().anyMatch(directory -> directory.startsWith(OPTION_PREFIX))) {
+            System.err.println(USAGE);
+            return USAGE_ERROR;
+        }
+
+        var start = System.currentTimeMillis();
+        var files = new ArrayList<LintedFile>();
+        try {
+            for (var directory : directories) {
+                var root = Path.of(directory).toAbsolutePath().normalize();
+                var tree = scan(root);
+                var fallbackConfig = tree.configs().stream()
+                        .min(Comparator.comparingInt(Path::getNameCount).thenComparing(Comparator.naturalOrder()));
+                tree.bpmnFiles().forEach(file -> files.add(new LintedFile(root, file, fallbackConfig)));
+            }
+        } catch (IOException e) {
+            System.err.println(e.getMessage());
+            return USAGE_ERROR;
+        }
+
+        var results = files.parallelStream()
+                .map(this::lint)
+                .sorted(Comparator.comparing(FileResult::file))
+                .toList();
+
+        var errors = 0;
+        var warnings = 0;
+        var invalidConfig = false;
+        for (var result : results) {
+            result.lines().forEach(out::println);
+            errors += result.errors();
+            warnings += result.warnings();
+            invalidConfig |= result.invalidConfig();
+        }
+
+        out.println(SUMMARY.formatted(results.size(), System.currentTimeMillis() - start, errors, warnings));
+        if (invalidConfig) {
+            return USAGE_ERROR;
+        }
+
+        return errors > 0 ? LINT_ERRORS : SUCCESS;
+    }
+
+    /**
+     * Finds the BPMN files and the {@code .bpmnlintrc} files of a directory tree, skipping dependency, VCS
+     * and build output directories.
+     *
+     * @param root The directory
+     * @return The found files
+     * @throws IOException if the directory cannot be read
+     */
+    private static ScannedTree scan(Path root) throws IOException {
+        var files = new ArrayList<Path>();
+        var configs = new ArrayList<Path>();
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                return !directory.equals(root) && SKIPPED_DIRECTORIES.contains(directory.getFileName().toString())
+                        ? FileVisitResult.SKIP_SUBTREE
+                        : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                var name = file.getFileName().toString();
+                if (attributes.isRegularFile() && isBpmnFileName(name)) {
+                    files.add(file);
+                } else if (attributes.isRegularFile() && BPMNLINTRC.equals(name)) {
+                    configs.add(file);
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        return new ScannedTree(files, configs);
+    }
+
+    /**
+     * Lints a BPMN file.
+     *
+     * @param lintedFile The BPMN file with the linted directory containing it
+     * @return The result of the file
+     */
+    private FileResult lint(LintedFile lintedFile) {
+        var file = lintedFile.file();
+        var configPath = findConfig(lintedFile.root(), file.getParent()).or(lintedFile::fallbackConfig);
+        var engine = configPath.isPresent() ? engines.computeIfAbsent(configPath.get(), this::createEngine)
+                : Optional.of(RECOMMENDED_ENGINE);
+        if (engine.isEmpty()) {
+            return new FileResult(file, List.of(), 0, 0, true);
+        }
+
+        var lines = new ArrayList<String>();
+        var errors = 0;
+        var warnings = 0;
+        try (var content = new BufferedInputStream(Files.newInputStream(file))) {
+            var model = BpmnModelReader.read(content);
+            for (var entry : engine.get().lint(model).entrySet()) {
+                for (var report : entry.getValue()) {
+                    var element = model.findElement(report.id());
+                    var line = nonNull(element) ? element.getLine() : 0;
+                    lines.add(REPORT.formatted(file, line, report.category(), report.message(), entry.getKey()));
+                    if (LintSeverity.ERROR.getCategory().equals(report.category())) {
+                        errors++;
+                    } else if (LintSeverity.WARN.getCategory().equals(report.category())) {
+                        warnings++;
+                    }
+                }
+            }
+        } catch (XMLStreamException e) {
+            var line = nonNull(e.getLocation()) ? e.getLocation().getLineNumber() : 0;
+            lines.add(INVALID_BPMN.formatted(file, line, e.getMessage().replaceAll(LINE_BREAKS, SPACE)));
+            errors++;
+        } catch (IOException e) {
+            lines.add(INVALID_BPMN.formatted(file, 0, e.getMessage()));
+            errors++;
+        }
+
+        return new FileResult(file, lines, errors, warnings, false);
+    }
+
+    /**
+     * Finds the {@code .bpmnlintrc} closest to a directory, searching up to the linted directory.
+     * The result is cached for every searched directory.
+     *
+     * @param root      The linted directory
+     * @param directory The directory
+     * @return An Optional containing the path of the {@code .bpmnlintrc}, or empty if there is none
+     */
+    private Optional<Path> findConfig(Path root, Path directory) {
+        var cached = configPaths.get(directory);
+        if (nonNull(cached)) {
+            return cached;
+        }
+
+        var configPath = directory.resolve(BPMNLINTRC);
+        Optional<Path> result;
+        if (Files.isRegularFile(configPath)) {
+            result = Optional.of(configPath);
+        } else if (directory.equals(root) || !directory.startsWith(root) || isNull(directory.getParent())) {
+            result = Optional.empty();
+        } else {
+            result = findConfig(root, directory.getParent());
+        }
+
+        configPaths.put(directory, result);
+        return result;
+    }
+
+    /**
+     * Creates the engine of a {@code .bpmnlintrc}, reporting it if it is invalid.
+     *
+     * @param configPath The path of the {@code .bpmnlintrc}
+     * @return An Optional containing the engine, or empty if the {@code .bpmnlintrc} is invalid
+     */
+    private Optional<LintEngine> createEngine(Path configPath) {
+        try {
+            return Optional.of(new LintEngine(LintConfig.parse(Files.readString(configPath, UTF_8))));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println(INVALID_CONFIG.formatted(configPath, e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The files found in a linted directory.
+     *
+     * @param bpmnFiles The BPMN files
+     * @param configs   The {@code .bpmnlintrc} files
+     */
+    private record ScannedTree(List<Path> bpmnFiles, List<Path> configs) {
+    }
+
+    /**
+     * A BPMN file to lint.
+     *
+     * @param root           The linted directory containing the file
+     * @param file           The BPMN file
+     * @param fallbackConfig The {@code .bpmnlintrc} used if the file has no closest one
+     */
+    private record LintedFile(Path root, Path file, Optional<Path> fallbackConfig) {
+    }
+
+    /**
+     * The result of a linted file.
+     *
+     * @param file          The BPMN file
+     * @param lines         The printed reports
+     * @param errors        The number of errors
+     * @param warnings      The number of warnings
+     * @param invalidConfig Whether the file was skipped because of an invalid {@code .bpmnlintrc}
+     */
+    private record FileResult(Path file, List<String> lines, int errors, int warnings, boolean invalidConfig) {
+    }
+}
@@ -3,7 +3,7 @@ package dev.camunda.bpmn.editor.fileEditor;
 import static dev.camunda.bpmn.editor.jcef.jsquery.JSQueryFactory.createCloseScriptFileJSQuery;
 import static dev.camunda.bpmn.editor.jcef.jsquery.JSQueryFactory.createInitBpmnJSQuery;
 import static dev.camunda.bpmn.editor.jcef.jsquery.JSQueryFactory.createOpenScriptFileJSQuery;
-import static dev.camunda.bpmn.editor.jcef.jsquery.JSQueryFactory.createSaveBpmnJSQuery;
+import static dev.camunda.bpmn.editor.jcef.jsquery.JSQueryFactory.createReportLintResultsJSQuery;
 import static dev.camunda.bpmn.editor.jcef.jsquery.JSQueryFactory.createSetBaseUrlJSQuery;
 import static dev.camunda.bpmn.editor.jcef.jsquery.JSQueryFactory.createSetBpmnLintrcJSQuery;
 import static dev.camunda.bpmn.editor.jcef.jsquery.JSQueryFactory.createSetClipboardJSQuery;
@@ -18,12 +18,15 @@ import com.intellij.openapi.vfs.VirtualFile;
 import dev.camunda.bpmn.editor.jcef.Browser;
 import dev.camunda.bpmn.editor.jcef.BrowserService;
 import dev.camunda.bpmn.editor.jcef.jsquery.JSQuery;
+import dev.camunda.bpmn.editor.lint.LintResultReporter;
 import dev.camunda.bpmn.editor.project.ClipboardManager;
 import dev.camunda.bpmn.editor.project.ProjectService;
-import dev.camunda.bpmn.editor.server.Server;
+import dev.camunda.bpmn.editor.server.ServerRoutes;
+import dev.camunda.bpmn.editor.server.ServerService;
+import dev.camunda.bpmn.editor.server.handler.BpmnServerHandler;
 import dev.camunda.bpmn.editor.server.handler.ClipboardServerHandler;
+import dev.camunda.bpmn.editor.server.handler.EventsServerHandler;
 import dev.camunda.bpmn.editor.server.handler.LintServerHandler;
-import dev.camunda.bpmn.editor.server.handler.UIServerHandler;
 import dev.camunda.bpmn.editor.settings.BpmnEditorSettings;
 import dev.camunda.bpmn.editor.ui.component.EngineComponent;
 import dev.camunda.bpmn.editor.vfs.BpmnFile;
@@ -44,7 +47,7 @@ import org.jetbrains.annotations.Nullable;
  *
  * <p>The editor initializes various services and components necessary for BPMN editing:
  * <ul>
- *   <li>HTTP server for handling BPMN editor UI requests</li>
+ *   <li>Editor routes on the shared HTTP server for lint, clipboard, events and diagram upload requests</li>
  *   <li>JCEFBrowser for rendering the BPMN editor interface</li>
  *   <li>Clipboard service for copy-paste operations</li>
  *   <li>Script file manager for handling external script files</li>
@@ -69,7 +72,8 @@ public class BpmnFileEditor implements FileEditor {
     @Getter
     private final JComponent component;
 
-    private final Server server;
+    private final ServerRoutes serverRoutes;
+    private final EventsServerHandler eventsHandler;
     private final BpmnFile bpmnFile;
     private final BrowserService browserService;
     private final ScriptFileManager scriptFileManager;
@@ -80,7 +84,7 @@ public class BpmnFileEditor implements FileEditor {
      * <p>This constructor initializes all necessary parts and services for the BPMN editor:
      * <ul>
      *   <li>Project service for project-related operations</li>
-     *   <li>HTTP server for handling BPMN editor UI requests</li>
+     *   <li>Editor routes on the shared HTTP server</li>
      *   <li>JCEFBrowser wrapper for rendering the BPMN editor interface</li>
      *   <li>Clipboard service for copy-paste operations</li>
      *   <li>Virtual file service for file operations</li>
@@ -99,29 +103,33 @@ public class BpmnFileEditor implements FileEditor {
         var state = BpmnEditorSettings.getInstance().getState();
         var clipboardService = new ClipboardManager();
         var projectService = new ProjectService(project);
-        var bpmnEditorUIHandler = new UIServerHandler();
-        var lintPluginHandler = new LintServerHandler(projectService);
+        var serverService = ServerService.getInstance();
+        this.bpmnFile = new BpmnFile(file);
+        var lintPluginHandler = new LintServerHandler(projectService, bpmnFile, serverService.getLintModuleStore());
         var clipboardHandler = new ClipboardServerHandler(clipboardService);
-        this.server = new Server(bpmnEditorUIHandler, lintPluginHandler, clipboardHandler);
+        this.eventsHandler = new EventsServerHandler();
+        var bpmnHandler = new BpmnServerHandler(project, bpmnFile);
+        this.serverRoutes = serverService.getServer()
+                .register(lintPluginHandler, clipboardHandler, eventsHandler, bpmnHandler);
 
         var browser = new Browser();
-        this.bpmnFile = new BpmnFile(file);
-        this.scriptFileManager = new ScriptFileManager(projectService, browser);
+        this.scriptFileManager = new ScriptFileManager(projectService, browser, eventsHandler);
 
-        var initQueries = new ArrayList<JSQuery>(8);
+        var initQueries = new ArrayList<JSQuery>(9);
         if (state.getUseBpmnLinter()) {
-            initQueries.add(createSetBpmnLintrcJSQuery(browser, projectService));
+            initQueries.add(createSetBpmnLintrcJSQuery(browser, projectService, bpmnFile));
+            initQueries.add(createReportLintResultsJSQuery(browser, new LintResultReporter(project, file)));
         }
 
         initQueries.add(createShowErrorNotifictionJSQuery(browser, projectService));
-        initQueries.add(createSetBaseUrlJSQuery(browser, server));
+        initQueries.add(createSetBaseUrlJSQuery(browser, serverRoutes));
         initQueries.add(createInitBpmnJSQuery(browser, bpmnFile));
         initQueries.add(createCloseScriptFileJSQuery(browser, scriptFileManager));
         initQueries.add(createOpenScriptFileJSQuery(browser, scriptFileManager));
-        initQueries.add(createSaveBpmnJSQuery(browser, bpmnFile));
         initQueries.add(createSetClipboardJSQuery(browser, clipboardService));
         initQueries.add(createSetFocusScriptFileJSQuery(browser, scriptFileManager));
-        this.browserService = new BrowserService(initQueries, browser, server, bpmnFile);
+        this.browserService = new BrowserService(initQueries, browser, serverRoutes, bpmnFile,
+                serverService.getAssetCache());
         this.component = state.isEngineSet(bpmnFile.getPath()) ? browserService.loadBpmn() :
                 new EngineComponent(result -> state.addFileSettings(bpmnFile.getPath(), result),
                         browserService::loadBpmn);
@@ -219,7 +227,8 @@ public class BpmnFileEditor implements FileEditor {
     public void dispose() {
         scriptFileManager.dispose();
         browserService.dispose();
-        server.stop();
+        serverRoutes.dispose();
+        eventsHandler.dispose();
     }
 
     /**
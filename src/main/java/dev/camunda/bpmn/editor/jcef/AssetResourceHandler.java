@@ -0,0 +1,96 @@
+package dev.camunda.bpmn.editor.jcef;
+
+import static java.lang.Math.min;
+import static java.util.Objects.isNull;
+
+import dev.camunda.bpmn.editor.server.asset.Asset;
+import lombok.RequiredArgsConstructor;
+import org.cef.callback.CefCallback;
+import org.cef.handler.CefResourceHandlerAdapter;
+import org.cef.misc.IntRef;
+import org.cef.misc.StringRef;
+import org.cef.network.CefRequest;
+import org.cef.network.CefResponse;
+
+/**
+ * JCEF resource handler serving a single BPMN Editor UI resource from memory.
+ * The content is copied straight from the {@link Asset} into the buffers of the browser,
+ * so loading the editor does not open a socket or go through HTTP framing.
+ *
+ * @author Oleksandr Havrysh
+ */
+@RequiredArgsConstructor
+class AssetResourceHandler extends CefResourceHandlerAdapter {
+
+    private static final int SUCCESS_CODE = 200;
+    private static final int NOT_FOUND_CODE = 404;
+    private static final String SUCCESS_STATUS = "OK";
+    private static final String NOT_FOUND_STATUS = "Not Found";
+    private static final String MIME_TYPE_SEPARATOR = ";";
+
+    /**
+     * The asset to serve, or null to answer with "404 Not Found".
+     */
+    private final Asset asset;
+
+    private int offset;
+
+    /**
+     * Accepts the request, the content is already available in memory.
+     *
+     * @param request  The resource request
+     * @param callback The callback to continue the request with
+     * @return Always true, the request is handled
+     */
+    @Override
+    public boolean processRequest(CefRequest request, CefCallback callback) {
+        callback.Continue();
+        return true;
+    }
+
+    /**
+     * Sets the status, MIME type and length of the response.
+     *
+     * @param response       The response to fill
+     * @param responseLength The length of the response body
+     * @param redirectUrl    The redirect URL, not used
+     */
+    @Override
+    public void getResponseHeaders(CefResponse response, IntRef responseLength, StringRef redirectUrl) {
+        if (isNull(asset)) {
+            response.setStatus(NOT_FOUND_CODE);
+            response.setStatusText(NOT_FOUND_STATUS);
+            responseLength.set(0);
+            return;
+        }
+
+        response.setStatus(SUCCESS_CODE);
+        response.setStatusText(SUCCESS_STATUS);
+        response.setMimeType(asset.contentType().split(MIME_TYPE_SEPARATOR)[0].trim());
+        responseLength.set(asset.content().length);
+    }
+
+    /**
+     * Copies the next part of the content into the browser buffer.
+     *
+     * @param dataOut     The buffer to copy the content to
+     * @param bytesToRead The size of the buffer
+     * @param bytesRead   The number of copied bytes
+     * @param callback    The callback for asynchronous reads, not used
+     * @return true if some content was copied, false when the whole content has been read
+     */
+    @Override
+    public boolean readResponse(byte[] dataOut, int bytesToRead, IntRef bytesRead, CefCallback callback) {
+        var remaining = isNull(asset) ? 0 : asset.content().length - offset;
+        if (remaining <= 0) {
+            bytesRead.set(0);
+            return false;
+        }
+
+        var count = min(bytesToRead, remaining);
+        System.arraycopy(asset.content(), offset, dataOut, 0, count);
+        offset += count;
+        bytesRead.set(count);
+        return true;
+    }
+}
@@ -3,10 +3,18 @@ package dev.camunda.bpmn.editor.jcef;
 import com.intellij.ui.jcef.JBCefBrowser;
 import com.intellij.ui.jcef.JBCefBrowserBase;
 import com.intellij.ui.jcef.JBCefJSQuery;
+import dev.camunda.bpmn.editor.server.asset.AssetCache;
+import java.net.URI;
 import java.util.function.Function;
 import org.cef.browser.CefBrowser;
 import org.cef.browser.CefFrame;
 import org.cef.handler.CefLoadHandlerAdapter;
+import org.cef.handler.CefRequestHandlerAdapter;
+import org.cef.handler.CefResourceHandler;
+import org.cef.handler.CefResourceRequestHandler;
+import org.cef.handler.CefResourceRequestHandlerAdapter;
+import org.cef.misc.BoolRef;
+import org.cef.network.CefRequest;
 
 /**
  * A wrapper class for JBCefBrowser that provides additional functionality for handling
@@ -16,6 +24,8 @@ import org.cef.handler.CefLoadHandlerAdapter;
  */
 public class Browser extends JBCefBrowser {
 
+    private static final String UI_PATH = "/bpmn-editor-ui/";
+
     /**
      * Constructs a new JBCefBrowserWrapper instance with specific configurations.
      */
@@ -38,6 +48,39 @@ public class Browser extends JBCefBrowser {
         }, myCefBrowser);
     }
 
+    /**
+     * Serves the requests for the BPMN Editor UI resources of the given origin from the asset cache,
+     * without the HTTP server. Only the {@code /bpmn-editor-ui/} path is served, so no other classpath resource
+     * of the plugin is exposed. Requests to any other path or origin are handled by the browser as usual.
+     *
+     * @param origin     The origin of the in-process resources, e.g. {@code http://bpmn-editor.local}
+     * @param assetCache The cache of the BPMN Editor UI resources
+     */
+    public void serveAssets(String origin, AssetCache assetCache) {
+        var prefix = origin + UI_PATH;
+        var resourceRequestHandler = new CefResourceRequestHandlerAdapter() {
+
+            @Override
+            public CefResourceHandler getResourceHandler(CefBrowser browser, CefFrame frame, CefRequest request) {
+                return new AssetResourceHandler(assetCache.get(URI.create(request.getURL()).getPath()));
+            }
+        };
+
+        myCefClient.addRequestHandler(new CefRequestHandlerAdapter() {
+
+            @Override
+            public CefResourceRequestHandler getResourceRequestHandler(CefBrowser browser,
+                                                                       CefFrame frame,
+                                                                       CefRequest request,
+                                                                       boolean isNavigation,
+                                                                       boolean isDownload,
+                                                                       String requestInitiator,
+                                                                       BoolRef disableDefaultHandling) {
+                return request.getURL().startsWith(prefix) ? resourceRequestHandler : null;
+            }
+        }, myCefBrowser);
+    }
+
     /**
      * Creates a JBCefJSQuery instance with the specified handler.
      *
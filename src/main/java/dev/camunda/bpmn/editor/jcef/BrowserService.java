@@ -1,8 +1,11 @@
 package dev.camunda.bpmn.editor.jcef;
 
+import static dev.camunda.bpmn.editor.server.Server.IN_PROCESS_ORIGIN;
+
 import com.intellij.openapi.Disposable;
 import dev.camunda.bpmn.editor.jcef.jsquery.JSQuery;
-import dev.camunda.bpmn.editor.server.Server;
+import dev.camunda.bpmn.editor.server.ServerRoutes;
+import dev.camunda.bpmn.editor.server.asset.AssetCache;
 import dev.camunda.bpmn.editor.settings.BpmnEditorSettings;
 import dev.camunda.bpmn.editor.vfs.BpmnFile;
 import java.util.Collection;
@@ -13,6 +16,9 @@ import javax.swing.JComponent;
  * This class manages the JCEF (Java Chromium Embedded Framework) browser, JavaScript queries,
  * and handles the loading of BPMN files.
  * <p>
+ * The editor UI is loaded either from the shared HTTP server or, when in-process resources are enabled,
+ * from the asset cache through the resource handler of the browser (see {@link Browser#serveAssets}).
+ * <p>
  * It initializes the browser with the necessary settings and provides functionality to:
  * <ul>
  *   <li>Load BPMN editor URL with appropriate settings</li>
@@ -27,7 +33,12 @@ public class BrowserService implements Disposable {
     /**
      * The URL template for the BPMN editor, including placeholders for settings.
      */
-    private static final String BPMN_EDITOR_URL = "http://localhost:%s/bpmn-editor-ui/index.html?colorTheme=%s&engine=%s&scriptFormat=%s&schemaTheme=%s";
+    private static final String BPMN_EDITOR_URL = "%s/bpmn-editor-ui/index.html?colorTheme=%s&engine=%s&scriptFormat=%s&schemaTheme=%s&lintMode=%s";
+
+    /**
+     * The origin of the shared HTTP server.
+     */
+    private static final String SERVER_ORIGIN = "http://localhost:%s";
 
     /**
      * The path of the BPMN file being edited.
@@ -45,34 +56,42 @@ public class BrowserService implements Disposable {
     private final Browser browser;
 
     /**
-     * The port number of the HTTP server.
+     * The origin the BPMN editor UI is loaded from.
      */
-    private final int port;
+    private final String origin;
 
     /**
      * Constructs a new JBCefBrowserService.
      *
      * @param initQueries        A list of JSQuery objects to be executed upon browser load completion
      * @param browser            The JBCefBrowserWrapper instance for browser interactions
-     * @param server  The HttpServerWrapper instance for managing the HTTP server
+     * @param serverRoutes The editor routes registered on the shared HTTP server
      * @param bpmnFile The VirtualFileService representing the BPMN virtualFileService being edited
+     * @param assetCache The cache of the BPMN Editor UI resources, used when in-process resources are enabled
      */
     public BrowserService(Collection<JSQuery> initQueries,
                           Browser browser,
-                          Server server,
-                          BpmnFile bpmnFile) {
+                          ServerRoutes serverRoutes,
+                          BpmnFile bpmnFile,
+                          AssetCache assetCache) {
         this.browser = browser;
         this.initQueries = initQueries;
-        this.port = server.getPort();
         this.path = bpmnFile.getPath();
 
+        if (BpmnEditorSettings.getInstance().getState().getUseInProcessResources()) {
+            this.origin = IN_PROCESS_ORIGIN;
+            browser.serveAssets(IN_PROCESS_ORIGIN, assetCache);
+        } else {
+            this.origin = SERVER_ORIGIN.formatted(serverRoutes.getPort());
+        }
+
         browser.onLoadEnd(() -> initQueries.forEach(JSQuery::executeQuery));
     }
 
     /**
      * Loads the BPMN editor URL with the appropriate settings.
      * This method retrieves the settings for the current file (color theme, engine, and script type)
-     * and loads the URL in the browser.
+     * together with the lint mode and loads the URL in the browser.
      *
      * @return The JComponent of the browser, which can be used for UI integration
      */
@@ -82,8 +101,9 @@ public class BrowserService implements Disposable {
         var colorTheme = state.getColorTheme(path);
         var scriptType = state.getScriptType(path);
         var schemaTheme = state.getSchemaTheme(path);
+        var lintMode = state.getLintMode().name();
 
-        browser.loadURL(BPMN_EDITOR_URL.formatted(port, colorTheme, engine, scriptType, schemaTheme));
+        browser.loadURL(BPMN_EDITOR_URL.formatted(origin, colorTheme, engine, scriptType, schemaTheme, lintMode));
         return browser.getComponent();
     }
 
@@ -3,11 +3,12 @@ package dev.camunda.bpmn.editor.jcef.jsquery;
 import static dev.camunda.bpmn.editor.util.Base64Utils.encode;
 import static lombok.AccessLevel.PRIVATE;
 
-import com.intellij.openapi.application.WriteAction;
 import dev.camunda.bpmn.editor.jcef.Browser;
+import dev.camunda.bpmn.editor.lint.LintConfigResolver;
+import dev.camunda.bpmn.editor.lint.LintResultReporter;
 import dev.camunda.bpmn.editor.project.ClipboardManager;
 import dev.camunda.bpmn.editor.project.ProjectService;
-import dev.camunda.bpmn.editor.server.Server;
+import dev.camunda.bpmn.editor.server.ServerRoutes;
 import dev.camunda.bpmn.editor.vfs.BpmnFile;
 import dev.camunda.bpmn.editor.vfs.ScriptFileManager;
 import lombok.NoArgsConstructor;
@@ -47,19 +48,6 @@ public final class JSQueryFactory {
         return new JSQuery("openScriptExternalFile", browser, scriptFileManager::create);
     }
 
-    /**
-     * Creates a JSQuery for saving BPMN XML content.
-     *
-     * @param browser  The JBCefBrowserWrapper instance for browser interaction
-     * @param bpmnFile The VirtualFileService to save the BPMN content
-     * @return A JSQuery for saving BPMN XML content
-     */
-    public static JSQuery createSaveBpmnJSQuery(Browser browser, BpmnFile bpmnFile) {
-        return new JSQuery("updateBpmnXml", browser,
-                encodedXml -> WriteAction.run(() -> bpmnFile.saveEncodedContent(encodedXml)),
-                500);
-    }
-
     /**
      * Creates a JSQuery for setting clipboard content.
      *
@@ -119,27 +107,34 @@ public final class JSQueryFactory {
     }
 
     /**
-     * Creates a JSQuery for setting the base URL for the HTTP server in the BPMN editor.
+     * Creates a JSQuery for setting the base URL of the editor routes in the BPMN editor.
      *
-     * @param browser The JBCefBrowserWrapper instance for browser interaction
-     * @param server  The HttpServerWrapper instance containing the server port
+     * @param browser      The JBCefBrowserWrapper instance for browser interaction
+     * @param serverRoutes The editor routes registered on the shared HTTP server
      * @return A JSQuery object that, when executed, will set the base URL for the HTTP server in the editor
      */
-    public static JSQuery createSetBaseUrlJSQuery(Browser browser, Server server) {
-        return new JSQuery("window.serverBaseUrl = `http://localhost:%s`;".formatted(server.getPort()), browser);
+    public static JSQuery createSetBaseUrlJSQuery(Browser browser, ServerRoutes serverRoutes) {
+        return new JSQuery("window.serverBaseUrl = `%s`;".formatted(serverRoutes.getBaseUrl()), browser);
     }
 
     /**
      * Creates a JSQuery for setting the BPMN lint configuration in the editor.
-     * This method retrieves the content of the .bpmnlintrc file from the project
-     * and creates a JSQuery to set this configuration in the JavaScript environment.
+     * This method retrieves the content of the .bpmnlintrc file closest to the BPMN file
+     * with the {@link LintConfigResolver} of the project and creates a JSQuery to set this configuration
+     * in the JavaScript environment.
      *
      * @param browser        The JBCefBrowserWrapper instance for browser interaction
-     * @param projectService The ProjectService instance used to find the .bpmnlintrc file
+     * @param projectService The ProjectService instance of the project containing the BPMN file
+     * @param bpmnFile       The BPMN file opened in the editor
      * @return A JSQuery object that, when executed, will set the BPMN lint configuration in the editor
      */
-    public static JSQuery createSetBpmnLintrcJSQuery(Browser browser, ProjectService projectService) {
-        var bpmnlintrc = projectService.findContentByFileName(".bpmnlintrc").orElse("");
+    public static JSQuery createSetBpmnLintrcJSQuery(Browser browser,
+                                                     ProjectService projectService,
+                                                     BpmnFile bpmnFile) {
+        var bpmnlintrc = LintConfigResolver.getInstance(projectService.project())
+                .resolve(bpmnFile.getFile())
+                .map(LintConfigResolver.Entry::content)
+                .orElse("");
         return new JSQuery("window.bpmnlintrc = `%s`;".formatted(bpmnlintrc), browser);
     }
 
@@ -158,4 +153,18 @@ public final class JSQueryFactory {
     public static JSQuery createShowErrorNotifictionJSQuery(Browser browser, ProjectService projectService) {
         return new JSQuery("showErrorNotification", browser, projectService::showErrorNotification, 10);
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a JSQuery for reporting the lint results of the BPMN Editor UI to the IDE.
+     * <p>
+     * The UI calls it with the JSON batch of the issues of every completed linting, the handler is debounced,
+     * so only the latest batch of a burst is published to the Problems view.
+     *
+     * @param browser            The Browser instance where the JavaScript will run.
+     * @param lintResultReporter The LintResultReporter of the edited BPMN file.
+     * @return A JSQuery instance configured to report the lint results.
+     */
+    public static JSQuery createReportLintResultsJSQuery(Browser browser, LintResultReporter lintResultReporter) {
+        return new JSQuery("reportLintResults", browser, lintResultReporter::report, 300);
+    }
+}
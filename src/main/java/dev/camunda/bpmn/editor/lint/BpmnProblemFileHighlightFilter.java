@@ -0,0 +1,28 @@
+package dev.camunda.bpmn.editor.lint;
+
+import static dev.camunda.bpmn.editor.util.BpmnFileUtils.isBpmnFile;
+
+import com.intellij.openapi.util.Condition;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.problems.WolfTheProblemSolver;
+
+/**
+ * Filter allowing {@link WolfTheProblemSolver} to track problems of BPMN files.
+ * Without it the problems reported by the {@link LintProjectTask} would be dropped,
+ * because the problem solver only keeps problems of the files accepted by one of the filters.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class BpmnProblemFileHighlightFilter implements Condition<VirtualFile> {
+
+    /**
+     * Accepts BPMN files.
+     *
+     * @param file The file to check
+     * @return true if the file is a BPMN file, false otherwise
+     */
+    @Override
+    public boolean value(VirtualFile file) {
+        return isBpmnFile(file);
+    }
+}
@@ -0,0 +1,174 @@
+package dev.camunda.bpmn.editor.lint;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileUtil;
+import com.intellij.util.concurrency.annotations.RequiresReadLock;
+import dev.camunda.bpmn.editor.lint.engine.LintConfig;
+import dev.camunda.bpmn.editor.project.ProjectService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Project level resolver of the {@code .bpmnlintrc} configuring the linting of a BPMN file.
+ *
+ * <p>The configuration of a file is the {@code .bpmnlintrc} closest to it: the directories from the parent
+ * of the file up to the project base directory are searched, so every module of a multi-module project
+ * can have its own configuration. If none of them contains a {@code .bpmnlintrc}, the first one found
+ * in the project tree is used, as before the nearest configuration was supported.</p>
+ *
+ * <p>The closest configuration is cached for every searched directory, together with its parsed
+ * {@link LintConfig}, so resolving the configuration of another file in the same or a nested directory
+ * does not search the directories again. The first configuration of the project tree is cached separately,
+ * so a file without a closest configuration does not walk the project on every open. The
+ * {@link LintConfigResolverListener} drops the cached directories under a changed {@code .bpmnlintrc}
+ * or a deleted, moved or renamed directory, and drops the first configuration when a {@code .bpmnlintrc}
+ * changes.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public final class LintConfigResolver {
+
+    public static final String BPMNLINTRC = LintConfig.BPMNLINTRC;
+
+    private static final int MAX_INVALIDATED_DIRECTORIES = 256;
+
+    private final Project project;
+    private final Map<VirtualFile, Optional<Entry>> entries = new ConcurrentHashMap<>();
+
+    private volatile Optional<Entry> fallback;
+
+    /**
+     * Creates the resolver of the given project.
+     *
+     * @param project The project
+     */
+    public LintConfigResolver(Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Returns the lint configuration resolver of the project.
+     *
+     * @param project The project
+     * @return The lint configuration resolver of the project
+     */
+    public static @NotNull LintConfigResolver getInstance(@NotNull Project project) {
+        return project.getService(LintConfigResolver.class);
+    }
+
+    /**
+     * Resolves the {@code .bpmnlintrc} configuring the given BPMN file.
+     * This method requires a read lock on the project model.
+     *
+     * @param file The BPMN file
+     * @return An Optional containing the configuration, or empty if the project has no {@code .bpmnlintrc}
+     */
+    @RequiresReadLock
+    public Optional<Entry> resolve(VirtualFile file) {
+        var baseDirectory = isNull(project.getBasePath())
+                ? null
+                : LocalFileSystem.getInstance().findFileByPath(project.getBasePath());
+        var searched = new ArrayList<VirtualFile>();
+        Optional<Entry> closest = Optional.empty();
+        for (var directory = file.getParent(); nonNull(directory); directory = directory.getParent()) {
+            var cached = entries.get(directory);
+            if (nonNull(cached)) {
+                closest = cached;
+                break;
+            }
+
+            searched.add(directory);
+            var bpmnlintrc = directory.findChild(BPMNLINTRC);
+            if (nonNull(bpmnlintrc) && !bpmnlintrc.isDirectory()) {
+                closest = Optional.of(Entry.of(bpmnlintrc));
+                break;
+            }
+
+            if (directory.equals(baseDirectory)) {
+                break;
+            }
+        }
+
+        for (var directory : searched) {
+            entries.put(directory, closest);
+        }
+
+        return closest.isPresent() ? closest : getFallback();
+    }
+
+    /**
+     * Returns the first {@code .bpmnlintrc} found in the project tree, walking the project only if it is not cached
+     * or the cached file has been deleted.
+     * This method requires a read lock on the project model.
+     *
+     * @return An Optional containing the configuration, or empty if the project has no {@code .bpmnlintrc}
+     */
+    private Optional<Entry> getFallback() {
+        var cached = fallback;
+        if (nonNull(cached) && cached.map(entry -> entry.file().isValid()).orElse(true)) {
+            return cached;
+        }
+
+        var result = new ProjectService(project).findFileByFileName(BPMNLINTRC).map(Entry::of);
+        fallback = result;
+        return result;
+    }
+
+    /**
+     * Removes the cached configurations of the given directories, of the directories under them
+     * and of the directories which are no longer valid. Too many directories clear the whole cache instead.
+     *
+     * @param directories The paths of the changed directories
+     */
+    void invalidate(Collection<String> directories) {
+        if (directories.size() > MAX_INVALIDATED_DIRECTORIES) {
+            entries.clear();
+            return;
+        }
+
+        entries.keySet().removeIf(directory -> !directory.isValid() || directories.stream()
+                .anyMatch(path -> FileUtil.isAncestor(path, directory.getPath(), false)));
+    }
+
+    /**
+     * Removes the cached first configuration of the project tree.
+     */
+    void invalidateFallback() {
+        fallback = null;
+    }
+
+    /**
+     * A resolved {@code .bpmnlintrc}.
+     *
+     * @param file    The {@code .bpmnlintrc} file
+     * @param content The content of the file
+     * @param config  The parsed configuration, or empty if the content is not a valid configuration
+     */
+    public record Entry(VirtualFile file, String content, Optional<LintConfig> config) {
+
+        /**
+         * Reads and parses a {@code .bpmnlintrc}.
+         *
+         * @param file The {@code .bpmnlintrc} file
+         * @return The resolved configuration
+         */
+        static Entry of(VirtualFile file) {
+            var content = VirtualFileUtil.readText(file);
+            try {
+                return new Entry(file, content, Optional.of(LintConfig.parse(content)));
+            } catch (IllegalArgumentException e) {
+                return new Entry(file, content, Optional.empty());
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package dev.camunda.bpmn.editor.lint;
+
+import static dev.camunda.bpmn.editor.lint.LintConfigResolver.BPMNLINTRC;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCopyEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import java.util.HashSet;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Invalidates the {@link LintConfigResolver} cache when the resolved configurations may have changed.
+ * Only events under the project base directory are considered:
+ * <ul>
+ *   <li>a {@code .bpmnlintrc} created, changed, deleted, moved, copied or renamed, or a file renamed
+ *       to {@code .bpmnlintrc}, drops the directories under its directory and the first configuration
+ *       of the project</li>
+ *   <li>a deleted, moved or renamed directory drops itself and the directories under it</li>
+ * </ul>
+ * Content changes of other files and created or copied directories never invalidate the cache.
+ *
+ * @author Oleksandr Havrysh
+ */
+@RequiredArgsConstructor
+public class LintConfigResolverListener implements BulkFileListener {
+
+    private static final String BPMNLINTRC_PATH = "/" + BPMNLINTRC;
+
+    private final Project project;
+
+    /**
+     * Applies the VFS changes to the lint configuration cache.
+     *
+     * @param events The VFS events
+     */
+    @Override
+    public void after(@NotNull List<? extends @NotNull VFileEvent> events) {
+        var basePath = project.getBasePath();
+        if (project.isDisposed() || isNull(basePath)) {
+            return;
+        }
+
+        var directories = new HashSet<String>();
+        var configChanged = false;
+        for (var event : events) {
+            var paths = getPaths(event);
+            if (paths.stream().noneMatch(path -> FileUtil.isAncestor(basePath, path, false))) {
+                continue;
+            }
+
+            if (paths.stream().anyMatch(path -> path.endsWith(BPMNLINTRC_PATH))) {
+                configChanged = true;
+                paths.forEach(path -> directories.add(path.substring(0, path.lastIndexOf('/'))));
+            } else if (isDirectoryChange(event)) {
+                directories.addAll(paths);
+            }
+        }
+
+        var resolver = LintConfigResolver.getInstance(project);
+        if (!directories.isEmpty()) {
+            resolver.invalidate(directories);
+        }
+
+        if (configChanged) {
+            resolver.invalidateFallback();
+        }
+    }
+
+    /**
+     * Returns the paths of the file before and after the event.
+     *
+     * @param event The VFS event
+     * @return The old and the new path for a move or a rename, the path of the file otherwise
+     */
+    private static List<String> getPaths(VFileEvent event) {
+        if (event instanceof VFileMoveEvent moveEvent) {
+            return List.of(moveEvent.getOldPath(), moveEvent.getNewPath());
+        }
+
+        if (event instanceof VFilePropertyChangeEvent propertyChangeEvent && propertyChangeEvent.isRename()) {
+            return List.of(propertyChangeEvent.getOldPath(), propertyChangeEvent.getNewPath());
+        }
+
+        if (event instanceof VFileCopyEvent copyEvent) {
+            return List.of(copyEvent.getNewParent().getPath() + "/" + copyEvent.getNewChildName());
+        }
+
+        return List.of(event.getPath());
+    }
+
+    /**
+     * Checks if the event deletes, moves or renames a directory.
+     *
+     * @param event The VFS event
+     * @return true if the event changes the location of a directory, false otherwise
+     */
+    private static boolean isDirectoryChange(VFileEvent event) {
+        if (event instanceof VFileContentChangeEvent || event instanceof VFileCreateEvent
+                || event instanceof VFileCopyEvent) {
+            return false;
+        }
+
+        if (event instanceof VFilePropertyChangeEvent propertyChangeEvent && !propertyChangeEvent.isRename()) {
+            return false;
+        }
+
+        var file = event.getFile();
+        return nonNull(file) && file.isDirectory();
+    }
+}
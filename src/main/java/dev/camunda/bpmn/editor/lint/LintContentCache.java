@@ -0,0 +1,144 @@
+package dev.camunda.bpmn.editor.lint;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import dev.camunda.bpmn.editor.util.SingleFlight;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Project level cache of the processed lint module content served to the BPMN Editor UI.
+ * Every entry remembers the modification stamps of all files its content was produced from,
+ * an entry is only returned while none of these files has changed.
+ * <p>
+ * Entries are also evicted by {@link LintContentCacheListener}: when a dependency changes, the entries
+ * depending on it are removed, and when files are created, deleted, moved or renamed the whole cache is cleared,
+ * because a module which was missing before may now resolve to a different file.
+ * <p>
+ * Concurrent requests for the same missing or outdated entry, e.g. from the editors of a project restoring
+ * several BPMN tabs at once, share a single load through {@link SingleFlight}. The cache counts its hits,
+ * the executed loads and the loads saved by sharing, see {@link #getStats()}.
+ *
+ * @author Oleksandr Havrysh
+ */
+public final class LintContentCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final SingleFlight<String, String> loads = new SingleFlight<>();
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Returns the lint content cache of the project.
+     *
+     * @param project The project
+     * @return The lint content cache of the project
+     */
+    public static @NotNull LintContentCache getInstance(@NotNull Project project) {
+        return project.getService(LintContentCache.class);
+    }
+
+    /**
+     * Returns the cached content for the given path, producing it with the loader if there is no valid entry.
+     * Content which cannot be produced is not cached.
+     * Concurrent calls for the same path share a single call of the loader.
+     *
+     * @param path   The path of the requested lint module
+     * @param loader The loader producing the content together with its dependencies, may return null
+     * @return The content, or null if the loader could not produce it
+     */
+    public String get(String path, Supplier<Entry> loader) {
+        var entry = entries.get(path);
+        if (nonNull(entry) && entry.isUpToDate()) {
+            hits.increment();
+            return entry.content();
+        }
+
+        return loads.execute(path, () -> load(path, loader));
+    }
+
+    /**
+     * Produces the content for the given path with the loader and caches it.
+     * The entry is checked again first, because a load which has just completed may have stored it.
+     *
+     * @param path   The path of the requested lint module
+     * @param loader The loader producing the content together with its dependencies, may return null
+     * @return The content, or null if the loader could not produce it
+     */
+    private String load(String path, Supplier<Entry> loader) {
+        var entry = entries.get(path);
+        if (nonNull(entry) && entry.isUpToDate()) {
+            return entry.content();
+        }
+
+        entry = loader.get();
+        if (isNull(entry)) {
+            entries.remove(path);
+            return null;
+        }
+
+        entries.put(path, entry);
+        return entry.content();
+    }
+
+    /**
+     * Returns the counters of the cache.
+     *
+     * @return The current counters
+     */
+    public Stats getStats() {
+        var loadStats = loads.getStats();
+        return new Stats(hits.sum(), loadStats.executed(), loadStats.shared());
+    }
+
+    /**
+     * Removes all entries produced from the given file.
+     *
+     * @param file The changed file
+     */
+    void evict(VirtualFile file) {
+        entries.values().removeIf(entry -> entry.dependencies().containsKey(file));
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * A processed lint module.
+     *
+     * @param content      The processed content
+     * @param dependencies The files the content was produced from, with their modification stamps
+     */
+    public record Entry(String content, Map<VirtualFile, Long> dependencies) {
+
+        /**
+         * Checks whether none of the dependencies has changed since the content was produced.
+         *
+         * @return true if all dependencies are valid and have the recorded modification stamps
+         */
+        boolean isUpToDate() {
+            return dependencies.entrySet().stream()
+                    .allMatch(dependency -> dependency.getKey().isValid()
+                            && dependency.getKey().getModificationStamp() == dependency.getValue());
+        }
+    }
+
+    /**
+     * The counters of the cache.
+     *
+     * @param hits      The number of requests answered with a valid entry
+     * @param loads     The number of loads producing the content
+     * @param coalesced The number of requests which shared a load in flight, i.e. the saved duplicate loads
+     */
+    public record Stats(long hits, long loads, long coalesced) {
+    }
+}
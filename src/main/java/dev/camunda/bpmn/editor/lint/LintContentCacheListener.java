@@ -0,0 +1,103 @@
+package dev.camunda.bpmn.editor.lint;
+
+import static java.util.Objects.isNull;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCopyEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Evicts the {@link LintContentCache} entries affected by the VFS changes.
+ * A content change evicts the entries produced from the changed file. A structural change (creation, deletion,
+ * move, rename or copy) inside the project clears the cache only if it can change the resolution of lint modules,
+ * i.e. if it affects a {@code node_modules} or {@code bpmnlint-plugin-*} directory or a {@code package.json}.
+ * Other changes, e.g. of build output or of {@code .idea}, keep the cache, whose entries are validated
+ * by the modification stamps of their files anyway.
+ *
+ * @author Oleksandr Havrysh
+ */
+@RequiredArgsConstructor
+public class LintContentCacheListener implements BulkFileListener {
+
+    private static final String SLASH = "/";
+    private static final String PACKAGE_JSON = "package.json";
+    private static final String NODE_MODULES = "node_modules";
+    private static final String PLUGIN_PREFIX = "bpmnlint-plugin-";
+
+    private final Project project;
+
+    /**
+     * Applies the VFS changes to the lint content cache.
+     *
+     * @param events The VFS events
+     */
+    @Override
+    public void after(@NotNull List<? extends @NotNull VFileEvent> events) {
+        var basePath = project.getBasePath();
+        if (project.isDisposed() || isNull(basePath)) {
+            return;
+        }
+
+        var cache = LintContentCache.getInstance(project);
+        for (var event : events) {
+            if (event instanceof VFileContentChangeEvent contentChangeEvent) {
+                cache.evict(contentChangeEvent.getFile());
+            } else if (getPaths(event).stream().anyMatch(path -> affectsModules(basePath, path))) {
+                cache.clear();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the paths of the file before and after the event.
+     *
+     * @param event The VFS event
+     * @return The old and the new path for a move or a rename, the path of the file otherwise
+     */
+    private static List<String> getPaths(VFileEvent event) {
+        if (event instanceof VFileMoveEvent moveEvent) {
+            return List.of(moveEvent.getOldPath(), moveEvent.getNewPath());
+        }
+
+        if (event instanceof VFilePropertyChangeEvent propertyChangeEvent && propertyChangeEvent.isRename()) {
+            return List.of(propertyChangeEvent.getOldPath(), propertyChangeEvent.getNewPath());
+        }
+
+        if (event instanceof VFileCopyEvent copyEvent) {
+            return List.of(copyEvent.getNewParent().getPath() + SLASH + copyEvent.getNewChildName());
+        }
+
+        return List.of(event.getPath());
+    }
+
+    /**
+     * Checks if a changed path inside the project can change the resolution of lint modules.
+     *
+     * @param basePath The base path of the project
+     * @param path     The changed path
+     * @return true if the path is a {@code package.json} or lies in a {@code node_modules}
+     *         or {@code bpmnlint-plugin-*} directory of the project, false otherwise
+     */
+    private static boolean affectsModules(String basePath, String path) {
+        if (!FileUtil.isAncestor(basePath, path, true)) {
+            return false;
+        }
+
+        if (path.endsWith(SLASH + PACKAGE_JSON)) {
+            return true;
+        }
+
+        return Arrays.stream(path.substring(basePath.length() + 1).split(SLASH))
+                .anyMatch(segment -> NODE_MODULES.equals(segment) || segment.startsWith(PLUGIN_PREFIX));
+    }
+}
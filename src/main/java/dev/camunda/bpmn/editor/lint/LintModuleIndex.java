@@ -0,0 +1,344 @@
+package dev.camunda.bpmn.editor.lint;
+
+import static com.intellij.openapi.application.ApplicationManager.getApplication;
+import static com.intellij.openapi.vfs.VfsUtilCore.isAncestor;
+import static com.intellij.openapi.vfs.VirtualFileUtil.findFileOrDirectory;
+import static java.util.Arrays.copyOfRange;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileVisitor;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Project level index of the directories lint plugin modules are served from.
+ * The index maps the first segment of a lint module path to the matching directories:
+ * <ul>
+ *   <li>{@code bpmnlint-plugin-*} directories with the plugin source code in the project</li>
+ *   <li>{@code node_modules} directories of the project (nested {@code node_modules} are not indexed)</li>
+ *   <li>package roots inside {@code node_modules}, including {@code @scope} directories</li>
+ * </ul>
+ * <p>
+ * The project tree is walked only once, on the first lookup. Afterwards the index is kept up to date
+ * incrementally from the VFS events by {@link LintModuleIndexListener}, so resolving a lint module
+ * is a map lookup followed by a relative path lookup.
+ * <p>
+ * The listener only records the changed directories, the index applies them on the next lookup.
+ * The walks run on the thread of the lookup in a non-blocking read action, which is restarted
+ * instead of delaying a write action, unless the caller already holds a read lock. After a burst of changes,
+ * e.g. an {@code npm install}, the index is rebuilt once instead of applying every change.
+ *
+ * @author Oleksandr Havrysh
+ */
+public final class LintModuleIndex {
+
+    private static final String SLASH = "/";
+    private static final String DOT = ".";
+    private static final String SCOPE_PREFIX = "@";
+    private static final String NODE_MODULES = "node_modules";
+    private static final String PLUGIN_PREFIX = "bpmnlint-plugin-";
+    private static final int REBUILD_THRESHOLD = 256;
+
+    private final Project project;
+    private final Queue<VirtualFile> changedDirectories = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger changedCount = new AtomicInteger();
+    private final AtomicBoolean deleted = new AtomicBoolean();
+    private final AtomicBoolean rebuild = new AtomicBoolean();
+    private final Object buildLock = new Object();
+
+    private volatile Map<String, Set<VirtualFile>> roots = new ConcurrentHashMap<>();
+    private volatile boolean indexing;
+    private volatile boolean built;
+
+    /**
+     * Creates the index of the given project, the index is built on the first lookup.
+     *
+     * @param project The project to index
+     */
+    public LintModuleIndex(Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Returns the lint module index of the project.
+     *
+     * @param project The project
+     * @return The lint module index of the project
+     */
+    public static @NotNull LintModuleIndex getInstance(@NotNull Project project) {
+        return project.getService(LintModuleIndex.class);
+    }
+
+    /**
+     * Finds a file or directory by its lint module path.
+     * The first segment of the path is looked up in the index, the rest is resolved relatively to the found root.
+     *
+     * @param path The segments of the path, e.g. {@code ["bpmnlint-plugin-custom", "rules", "rule.js"]}
+     * @return An Optional containing the file if found, or empty if not found
+     */
+    public Optional<VirtualFile> findFile(String[] path) {
+        if (isNull(path) || path.length == 0) {
+            return Optional.empty();
+        }
+
+        ensureUpToDate();
+        var relativePath = String.join(SLASH, copyOfRange(path, 1, path.length));
+        return roots.getOrDefault(path[0], Set.of()).stream()
+                .filter(VirtualFile::isValid)
+                .map(root -> relativePath.isEmpty() ? root : findFileOrDirectory(root, relativePath))
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    /**
+     * Records that files have been deleted, the roots which are no longer valid are removed on the next lookup.
+     */
+    void markDeleted() {
+        if (indexing) {
+            deleted.set(true);
+        }
+    }
+
+    /**
+     * Records a directory which has been created, moved, renamed or copied, it is re-indexed on the next lookup.
+     * Beyond {@link #REBUILD_THRESHOLD} recorded directories the index is rebuilt on the next lookup instead.
+     *
+     * @param directory The changed directory
+     */
+    void markChanged(VirtualFile directory) {
+        if (!indexing || rebuild.get()) {
+            return;
+        }
+
+        if (changedCount.incrementAndGet() > REBUILD_THRESHOLD) {
+            rebuild.set(true);
+            changedDirectories.clear();
+        } else {
+            changedDirectories.add(directory);
+        }
+    }
+
+    /**
+     * Builds the index on the first call and applies the recorded changes.
+     */
+    private void ensureUpToDate() {
+        if (built && changedDirectories.isEmpty() && !deleted.get() && !rebuild.get()) {
+            return;
+        }
+
+        synchronized (buildLock) {
+            if (!built) {
+                indexing = true;
+                roots = inReadAction(this::build);
+                built = true;
+            }
+
+            var directories = new LinkedHashSet<VirtualFile>();
+            for (var directory = changedDirectories.poll(); nonNull(directory); directory = changedDirectories.poll()) {
+                directories.add(directory);
+            }
+
+            changedCount.set(0);
+            var removeInvalid = deleted.getAndSet(false);
+            if (rebuild.getAndSet(false)) {
+                changedDirectories.clear();
+                roots = inReadAction(this::build);
+            } else if (!directories.isEmpty() || removeInvalid) {
+                inReadAction(() -> reindex(directories));
+            }
+        }
+    }
+
+    /**
+     * Runs the computation in a non-blocking read action, or directly if the caller already holds a read lock.
+     *
+     * @param computation The computation
+     * @param <T>         The type of the result
+     * @return The result of the computation
+     */
+    private static <T> T inReadAction(Supplier<T> computation) {
+        return getApplication().isReadAccessAllowed()
+                ? computation.get()
+                : ReadAction.nonBlocking(computation::get).executeSynchronously();
+    }
+
+    /**
+     * Walks the project and creates a new index.
+     * This method requires a read lock.
+     *
+     * @return The roots of the new index
+     */
+    private Map<String, Set<VirtualFile>> build() {
+        var newRoots = new ConcurrentHashMap<String, Set<VirtualFile>>();
+        var baseDirectory = findBaseDirectory();
+        if (nonNull(baseDirectory)) {
+            walk(baseDirectory, newRoots);
+        }
+
+        return newRoots;
+    }
+
+    /**
+     * Removes the roots which are no longer valid and re-indexes the changed directories.
+     * The previous roots inside a changed directory are removed first, because their names or locations may have
+     * changed. A directory inside another changed directory is covered by its ancestor.
+     * This method requires a read lock.
+     *
+     * @param directories The changed directories
+     * @return Always null
+     */
+    private Void reindex(Set<VirtualFile> directories) {
+        var topmost = directories.stream()
+                .filter(VirtualFile::isValid)
+                .filter(directory -> directories.stream()
+                        .noneMatch(other -> isAncestor(other, directory, true)))
+                .toList();
+        roots.values().forEach(files -> files.removeIf(file -> !file.isValid()
+                || topmost.stream().anyMatch(directory -> isAncestor(directory, file, false))));
+
+        var baseDirectory = findBaseDirectory();
+        if (nonNull(baseDirectory)) {
+            topmost.stream()
+                    .filter(directory -> isAncestor(baseDirectory, directory, false))
+                    .forEach(directory -> index(directory, roots));
+        }
+
+        return null;
+    }
+
+    /**
+     * Indexes a directory depending on its location relative to the {@code node_modules} directories.
+     *
+     * @param directory The directory to index
+     * @param roots     The roots of the index
+     */
+    private void index(VirtualFile directory, Map<String, Set<VirtualFile>> roots) {
+        var parent = directory.getParent();
+        var nodeModules = findNodeModulesAncestor(directory);
+        if (isNull(nodeModules)) {
+            walk(directory, roots);
+        } else if (nodeModules.equals(parent)) {
+            indexPackage(directory, roots);
+        } else if (nonNull(parent) && nodeModules.equals(parent.getParent())
+                && parent.getName().startsWith(SCOPE_PREFIX)) {
+            add(parent, roots);
+        }
+    }
+
+    /**
+     * Walks the project directory and indexes the plugin directories and the {@code node_modules} directories.
+     * Hidden directories are skipped and {@code node_modules} directories are not descended into.
+     * The walk checks for cancellation, so the read action running it can be restarted.
+     *
+     * @param directory The directory to walk
+     * @param roots     The roots of the index
+     */
+    private static void walk(VirtualFile directory, Map<String, Set<VirtualFile>> roots) {
+        VfsUtilCore.visitChildrenRecursively(directory, new VirtualFileVisitor<Void>() {
+
+            @Override
+            public @NotNull Result visitFileEx(@NotNull VirtualFile file) {
+                ProgressManager.checkCanceled();
+                if (!file.isDirectory()) {
+                    return SKIP_CHILDREN;
+                }
+
+                var name = file.getName();
+                if (NODE_MODULES.equals(name)) {
+                    indexNodeModules(file, roots);
+                    return SKIP_CHILDREN;
+                }
+
+                if (name.startsWith(PLUGIN_PREFIX)) {
+                    add(file, roots);
+                    return SKIP_CHILDREN;
+                }
+
+                return name.startsWith(DOT) && !file.equals(directory) ? SKIP_CHILDREN : CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Indexes a {@code node_modules} directory and all package roots inside it.
+     *
+     * @param nodeModules The {@code node_modules} directory
+     * @param roots       The roots of the index
+     */
+    private static void indexNodeModules(VirtualFile nodeModules, Map<String, Set<VirtualFile>> roots) {
+        add(nodeModules, roots);
+        for (var child : nodeModules.getChildren()) {
+            indexPackage(child, roots);
+        }
+    }
+
+    /**
+     * Indexes a package root or a scope directory inside {@code node_modules}.
+     *
+     * @param directory The package root or the scope directory
+     * @param roots     The roots of the index
+     */
+    private static void indexPackage(VirtualFile directory, Map<String, Set<VirtualFile>> roots) {
+        if (directory.isDirectory() && !directory.getName().startsWith(DOT)) {
+            add(directory, roots);
+        }
+    }
+
+    /**
+     * Adds the directory to the index under its name.
+     *
+     * @param directory The directory to add
+     * @param roots     The roots of the index
+     */
+    private static void add(VirtualFile directory, Map<String, Set<VirtualFile>> roots) {
+        roots.computeIfAbsent(directory.getName(), name -> ConcurrentHashMap.newKeySet()).add(directory);
+    }
+
+    /**
+     * Finds the closest {@code node_modules} directory containing the given file.
+     *
+     * @param file The file
+     * @return The {@code node_modules} directory, or null if the file is not inside one
+     */
+    private static VirtualFile findNodeModulesAncestor(VirtualFile file) {
+        for (var parent = file.getParent(); nonNull(parent); parent = parent.getParent()) {
+            if (NODE_MODULES.equals(parent.getName())) {
+                return parent;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Finds the base directory of the project.
+     *
+     * @return The base directory, or null if the project has no base directory
+     */
+    private VirtualFile findBaseDirectory() {
+        var basePath = project.getBasePath();
+        if (isNull(basePath) || basePath.isEmpty()) {
+            return null;
+        }
+
+        var baseDirectory = LocalFileSystem.getInstance().findFileByPath(basePath);
+        return nonNull(baseDirectory) && baseDirectory.isDirectory() ? baseDirectory : null;
+    }
+}
@@ -0,0 +1,52 @@
+package dev.camunda.bpmn.editor.lint;
+
+import static java.util.Objects.nonNull;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Keeps the {@link LintModuleIndex} of the project up to date with the VFS changes.
+ * Deleted directories are removed from the index, created, moved, renamed and copied directories
+ * are re-indexed. Changes of regular files do not affect the index and are ignored.
+ *
+ * <p>The events are delivered in the write action, so the listener only records them
+ * and the index applies them on its next lookup.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+@RequiredArgsConstructor
+public class LintModuleIndexListener implements BulkFileListener {
+
+    private final Project project;
+
+    /**
+     * Records the VFS changes in the lint module index.
+     *
+     * @param events The VFS events
+     */
+    @Override
+    public void after(@NotNull List<? extends @NotNull VFileEvent> events) {
+        if (project.isDisposed()) {
+            return;
+        }
+
+        var index = LintModuleIndex.getInstance(project);
+        for (var event : events) {
+            if (event instanceof VFileDeleteEvent) {
+                index.markDeleted();
+                continue;
+            }
+
+            var file = event.getFile();
+            if (nonNull(file) && file.isValid() && file.isDirectory()) {
+                index.markChanged(file);
+            }
+        }
+    }
+}
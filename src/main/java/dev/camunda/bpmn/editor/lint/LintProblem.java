@@ -0,0 +1,46 @@
+package dev.camunda.bpmn.editor.lint;
+
+import static java.lang.Math.max;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.problems.Problem;
+import com.intellij.problems.WolfTheProblemSolver;
+import com.intellij.util.concurrency.annotations.RequiresReadLock;
+
+/**
+ * A lint problem of a BPMN file, reported to {@link WolfTheProblemSolver}.
+ *
+ * @param line    The line of the problem, starting with 1, or 0 if unknown
+ * @param message The message of the problem
+ * @author Oleksandr Havrysh
+ */
+record LintProblem(int line, String message) {
+
+    private static final String REPORT_MESSAGE = "[%s] %s (%s)";
+
+    /**
+     * Creates the problem of a lint report.
+     *
+     * @param line     The line of the reported element, starting with 1, or 0 if unknown
+     * @param category The category of the report, e.g. {@code error}
+     * @param message  The message of the report
+     * @param rule     The name of the reporting rule
+     * @return The problem
+     */
+    static LintProblem of(int line, String category, String message, String rule) {
+        return new LintProblem(line, REPORT_MESSAGE.formatted(category, message, rule));
+    }
+
+    /**
+     * Converts the problem to a problem of the Problems view.
+     * This method requires a read lock, because the problem is located in the document of the file.
+     *
+     * @param problemSolver The problem solver of the project
+     * @param file          The BPMN file
+     * @return The problem of the Problems view
+     */
+    @RequiresReadLock
+    Problem toProblem(WolfTheProblemSolver problemSolver, VirtualFile file) {
+        return problemSolver.convertToProblem(file, max(0, line - 1), 0, new String[]{message});
+    }
+}
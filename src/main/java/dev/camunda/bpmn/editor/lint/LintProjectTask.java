@@ -0,0 +1,235 @@
+package dev.camunda.bpmn.editor.lint;
+
+import static dev.camunda.bpmn.editor.util.BpmnFileUtils.isBpmnFile;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.problems.Problem;
+import com.intellij.problems.WolfTheProblemSolver;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModelReader;
+import dev.camunda.bpmn.editor.lint.engine.LintConfig;
+import dev.camunda.bpmn.editor.lint.engine.LintEngine;
+import dev.camunda.bpmn.editor.project.ProjectService;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.xml.stream.XMLStreamException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Background task linting every BPMN file of the project with the Java {@link LintEngine}.
+ *
+ * <p>Every file is linted with the rules of its closest {@code .bpmnlintrc}, resolved by the
+ * {@link LintConfigResolver} just like for the BPMN Editor UI, or with {@code bpmnlint:recommended}
+ * if the project has none. Files configured by an invalid {@code .bpmnlintrc} are skipped and reported
+ * with an error notification. The files are linted in parallel by the {@link JobLauncher} under the progress
+ * indicator of the task, and the read actions collecting the files, resolving the configuration and converting
+ * the problems are non-blocking, so a cancellation of the task or a pending write action interrupts them.
+ * The name of the linted file is shown at most every 100 ms.</p>
+ *
+ * <p>When the task completes, the reports are published to {@link WolfTheProblemSolver}, so they are shown
+ * in the "Project Errors" tab of the Problems view at the line of the reported element. Problems of files
+ * without reports are cleared.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public class LintProjectTask extends Task.Backgroundable {
+
+    private static final Logger LOG = Logger.getInstance(LintProjectTask.class);
+    private static final String TITLE = "Linting BPMN files";
+    private static final String COLLECTING = "Collecting BPMN files";
+    private static final String INVALID_MESSAGE = "Invalid BPMN: %s";
+    private static final String SUMMARY = "Linted %d BPMN files: %d problems in %d files";
+    private static final String INVALID_CONFIGS = "BPMN files configured by an invalid .bpmnlintrc are skipped: %s";
+    private static final String DELIMITER = ", ";
+    private static final long TEXT_UPDATE_INTERVAL_MILLIS = 100;
+    private static final LintEngine RECOMMENDED_ENGINE = new LintEngine(LintConfig.recommended());
+
+    private final ProjectService projectService;
+    private final Map<VirtualFile, List<Problem>> problems = new ConcurrentHashMap<>();
+    private final Map<VirtualFile, LintEngine> engines = new ConcurrentHashMap<>();
+    private final Set<String> invalidConfigs = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger lintedCount = new AtomicInteger();
+    private final AtomicLong textUpdatedAt = new AtomicLong(System.nanoTime());
+    private volatile boolean completed;
+
+    /**
+     * Creates a cancellable task linting the BPMN files of the project.
+     *
+     * @param project The project
+     */
+    public LintProjectTask(@NotNull Project project) {
+        super(project, TITLE, true);
+        this.projectService = new ProjectService(project);
+    }
+
+    /**
+     * Collects the BPMN files of the project and lints them concurrently under the progress indicator.
+     *
+     * @param indicator The progress indicator of the task
+     */
+    @Override
+    public void run(@NotNull ProgressIndicator indicator) {
+        indicator.setIndeterminate(true);
+        indicator.setText(COLLECTING);
+        var files = ReadAction.nonBlocking(this::findBpmnFiles)
+                .expireWith(myProject)
+                .wrapProgress(indicator)
+                .executeSynchronously();
+
+        indicator.setIndeterminate(false);
+        indicator.setText(TITLE);
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(files, indicator, file -> {
+            updateText(indicator, file);
+            lint(file);
+            indicator.setFraction((double) lintedCount.incrementAndGet() / files.size());
+            return true;
+        });
+        indicator.checkCanceled();
+        completed = true;
+    }
+
+    /**
+     * Publishes the reports of the linted files to the Problems view and shows the summary,
+     * together with the invalid configurations.
+     */
+    @Override
+    public void onSuccess() {
+        if (isNull(myProject) || myProject.isDisposed() || !completed) {
+            return;
+        }
+
+        var problemSolver = WolfTheProblemSolver.getInstance(myProject);
+        var problemCount = 0;
+        var problemFileCount = 0;
+        for (var entry : problems.entrySet()) {
+            if (!entry.getKey().isValid()) {
+                continue;
+            }
+
+            if (entry.getValue().isEmpty()) {
+                problemSolver.clearProblems(entry.getKey());
+            } else {
+                problemSolver.reportProblems(entry.getKey(), entry.getValue());
+                problemCount += entry.getValue().size();
+                problemFileCount++;
+            }
+        }
+
+        projectService.showInfoNotification(SUMMARY.formatted(lintedCount.get(), problemCount, problemFileCount));
+        if (!invalidConfigs.isEmpty()) {
+            projectService.showErrorNotification(INVALID_CONFIGS.formatted(String.join(DELIMITER, invalidConfigs)));
+        }
+    }
+
+    /**
+     * Shows the name of the linted file, unless another worker has shown one within the update interval.
+     *
+     * @param indicator The progress indicator of the task
+     * @param file      The linted file
+     */
+    private void updateText(ProgressIndicator indicator, VirtualFile file) {
+        var now = System.nanoTime();
+        var updatedAt = textUpdatedAt.get();
+        if (now - updatedAt >= TimeUnit.MILLISECONDS.toNanos(TEXT_UPDATE_INTERVAL_MILLIS)
+                && textUpdatedAt.compareAndSet(updatedAt, now)) {
+            indicator.setText2(file.getPresentableUrl());
+        }
+    }
+
+    /**
+     * Finds the BPMN files in the content of the project, excluded folders are skipped.
+     * This method requires a read lock on the project model and is restarted from scratch
+     * when a write action interrupts it.
+     *
+     * @return The BPMN files
+     */
+    private List<VirtualFile> findBpmnFiles() {
+        var files = new ArrayList<VirtualFile>();
+        ProjectFileIndex.getInstance(myProject).iterateContent(file -> {
+            ProgressManager.checkCanceled();
+            if (isBpmnFile(file)) {
+                files.add(file);
+            }
+
+            return true;
+        });
+
+        return files;
+    }
+
+    /**
+     * Finds the lint engine for the closest {@code .bpmnlintrc} of the file.
+     * The engines are shared by all files configured by the same {@code .bpmnlintrc}.
+     *
+     * @param file The BPMN file
+     * @return An Optional containing the engine, or empty if the {@code .bpmnlintrc} is invalid
+     */
+    private Optional<LintEngine> findEngine(VirtualFile file) {
+        var bpmnlintrc = ReadAction.nonBlocking(() -> LintConfigResolver.getInstance(myProject).resolve(file))
+                .executeSynchronously();
+        if (bpmnlintrc.isEmpty()) {
+            return Optional.of(RECOMMENDED_ENGINE);
+        }
+
+        var config = bpmnlintrc.get().config();
+        if (config.isEmpty()) {
+            invalidConfigs.add(bpmnlintrc.get().file().getPath());
+            return Optional.empty();
+        }
+
+        return Optional.of(engines.computeIfAbsent(bpmnlintrc.get().file(), key -> new LintEngine(config.get())));
+    }
+
+    /**
+     * Lints a BPMN file and stores its problems, files with an invalid configuration are skipped.
+     * The problems are converted under a read lock, because they are located in the document of the file.
+     *
+     * @param file The BPMN file
+     */
+    private void lint(VirtualFile file) {
+        var engine = findEngine(file);
+        if (engine.isEmpty()) {
+            return;
+        }
+
+        var fileProblems = new ArrayList<LintProblem>();
+        try {
+            var model = BpmnModelReader.read(new ByteArrayInputStream(file.contentsToByteArray()));
+            engine.get().lint(model).forEach((rule, reports) -> reports.forEach(report -> {
+                var element = model.findElement(report.id());
+                var line = nonNull(element) ? element.getLine() : 0;
+                fileProblems.add(LintProblem.of(line, report.category(), report.message(), rule));
+            }));
+        } catch (XMLStreamException e) {
+            var line = nonNull(e.getLocation()) ? e.getLocation().getLineNumber() : 0;
+            fileProblems.add(new LintProblem(line, INVALID_MESSAGE.formatted(e.getMessage())));
+        } catch (IOException e) {
+            LOG.warn("Failed to read " + file.getPath(), e);
+            return;
+        }
+
+        var problemSolver = WolfTheProblemSolver.getInstance(myProject);
+        problems.put(file, ReadAction.nonBlocking(() -> fileProblems.stream()
+                        .map(problem -> problem.toProblem(problemSolver, file))
+                        .toList())
+                .executeSynchronously());
+    }
+}
@@ -0,0 +1,251 @@
+package dev.camunda.bpmn.editor.lint;
+
+import static com.intellij.openapi.application.ApplicationManager.getApplication;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.intellij.ide.plugins.IdeaPluginDescriptor;
+import com.intellij.ide.plugins.PluginManagerCore;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.extensions.PluginId;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Application level, on-disk cache of the lint results of the BPMN Editor UI.
+ *
+ * <p>The results are keyed by the SHA-256 hash of the diagram XML together with the hash of its lint
+ * configuration, i.e. of the effective {@code .bpmnlintrc} and the sources of the lint plugins, see
+ * {@link #key(String, String)}. Reopening an unchanged diagram with an unchanged configuration shows
+ * the cached results immediately, while the UI verifies them by linting in the background.</p>
+ *
+ * <p>Every entry is a JSON file in the {@code camunda-bpmn-editor/lint-results} directory of the IDE system path.
+ * The cache is bounded by the number of entries and their total size, the least recently used entries
+ * are evicted first. The last modification time of a file is its last use, so the order survives IDE restarts.
+ * The index of the entries is read from the directory on first use.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public final class LintResultCache {
+
+    private static final Logger LOG = Logger.getInstance(LintResultCache.class);
+    private static final int MAX_ENTRIES = 1000;
+    private static final long MAX_BYTES = 32L * 1024 * 1024;
+    private static final String DIRECTORY = "camunda-bpmn-editor/lint-results";
+    private static final String JSON_EXTENSION = ".json";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final String SHA_256 = "SHA-256";
+    private static final String PLUGIN_ID = "dev.camunda.bpmn-editor";
+    private static final String VERSION = Optional.ofNullable(PluginManagerCore.getPlugin(PluginId.getId(PLUGIN_ID)))
+            .map(IdeaPluginDescriptor::getVersion)
+            .orElse("");
+
+    private final Path directory = Path.of(PathManager.getSystemPath(), DIRECTORY);
+    private final Map<String, Long> sizes = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+    private boolean loaded;
+
+    /**
+     * Returns the lint result cache of the application.
+     *
+     * @return The lint result cache
+     */
+    public static @NotNull LintResultCache getInstance() {
+        return getApplication().getService(LintResultCache.class);
+    }
+
+    /**
+     * Creates the key of the lint results of a diagram.
+     *
+     * @param diagram The XML of the diagram
+     * @param config  The lint configuration, the {@code .bpmnlintrc} together with the sources of the lint plugins
+     * @return The key, the hash of the diagram followed by the hash of the configuration
+     *         and of the plugin version, which bundles the built-in rules
+     */
+    public static String key(String diagram, String config) {
+        return hash(diagram) + "-" + hash(VERSION + config);
+    }
+
+    /**
+     * Returns the cached lint results and marks them as recently used.
+     *
+     * @param key The key of the lint results
+     * @return An Optional containing the results as JSON, or empty if they are not cached
+     */
+    public synchronized Optional<String> get(String key) {
+        load();
+        if (!sizes.containsKey(key)) {
+            return Optional.empty();
+        }
+
+        var file = toFile(key);
+        try {
+            var results = Files.readString(file, UTF_8);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.of(results);
+        } catch (IOException e) {
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the lint results, evicting the least recently used entries beyond the bounds of the cache.
+     * The file is written next to its final location and moved in place, so a reader never sees a partial entry.
+     *
+     * @param key     The key of the lint results
+     * @param results The results as JSON
+     */
+    public synchronized void put(String key, String results) {
+        load();
+        var file = toFile(key);
+        var temp = directory.resolve(key + TEMP_EXTENSION);
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(temp, results, UTF_8);
+            Files.move(temp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Failed to store lint results " + file, e);
+            return;
+        }
+
+        var size = (long) results.getBytes(UTF_8).length;
+        var previous = sizes.put(key, size);
+        totalSize += size - (isNull(previous) ? 0 : previous);
+        evict();
+    }
+
+    /**
+     * Reads the index of the entries from the directory, oldest first, once.
+     */
+    private void load() {
+        if (loaded) {
+            return;
+        }
+
+        loaded = true;
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(JSON_EXTENSION))
+                    .map(IndexedFile::of)
+                    .flatMap(Optional::stream)
+                    .sorted(Comparator.comparing(IndexedFile::lastModified))
+                    .forEach(file -> {
+                        sizes.put(file.key(), file.size());
+                        totalSize += file.size();
+                    });
+        } catch (IOException e) {
+            LOG.warn("Failed to read the lint result cache " + directory, e);
+        }
+
+        evict();
+    }
+
+    /**
+     * Removes the least recently used entries while the cache exceeds its bounds.
+     */
+    private void evict() {
+        var iterator = sizes.keySet().iterator();
+        while ((sizes.size() > MAX_ENTRIES || totalSize > MAX_BYTES) && iterator.hasNext()) {
+            var key = iterator.next();
+            totalSize -= sizes.get(key);
+            iterator.remove();
+            delete(key);
+        }
+    }
+
+    /**
+     * Removes an entry.
+     *
+     * @param key The key of the entry
+     */
+    private void remove(String key) {
+        var size = sizes.remove(key);
+        if (nonNull(size)) {
+            totalSize -= size;
+        }
+
+        delete(key);
+    }
+
+    /**
+     * Deletes the file of an entry.
+     *
+     * @param key The key of the entry
+     */
+    private void delete(String key) {
+        try {
+            Files.deleteIfExists(toFile(key));
+        } catch (IOException e) {
+            LOG.warn("Failed to delete lint results " + key, e);
+        }
+    }
+
+    /**
+     * Returns the file of an entry.
+     *
+     * @param key The key of the entry
+     * @return The file
+     */
+    private Path toFile(String key) {
+        return directory.resolve(key + JSON_EXTENSION);
+    }
+
+    /**
+     * Calculates the SHA-256 hash of the content.
+     *
+     * @param content The content
+     * @return The hexadecimal hash
+     */
+    private static String hash(String content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(SHA_256).digest(content.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * An entry file found in the cache directory.
+     *
+     * @param key          The key of the entry
+     * @param size         The size of the file
+     * @param lastModified The last use of the entry
+     */
+    private record IndexedFile(String key, long size, FileTime lastModified) {
+
+        /**
+         * Reads the attributes of an entry file.
+         *
+         * @param file The entry file
+         * @return An Optional containing the entry, or empty if the file cannot be read
+         */
+        static Optional<IndexedFile> of(Path file) {
+            var name = file.getFileName().toString();
+            try {
+                return Optional.of(new IndexedFile(name.substring(0, name.length() - JSON_EXTENSION.length()),
+                        Files.size(file), Files.getLastModifiedTime(file)));
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package dev.camunda.bpmn.editor.lint;
+
+import static java.util.Objects.nonNull;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.problems.Problem;
+import com.intellij.problems.WolfTheProblemSolver;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModelReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.xml.stream.XMLStreamException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes the lint results of the BPMN Editor UI to {@link WolfTheProblemSolver}.
+ *
+ * <p>The UI pushes the results of every completed linting as a single JSON batch
+ * {@code [{"id": ..., "message": ..., "category": ..., "rule": ...}]}, debounced on both sides of the bridge,
+ * so a burst of edits produces one update. The reports are shown in the "Project Errors" tab of the Problems view
+ * at the line of the reported element, and the editor tab of the file is highlighted by
+ * {@link BpmnProblemFileHighlightFilter}. An empty batch clears the problems of the file.</p>
+ *
+ * <p>The lines are resolved from the document of the file, including unsaved changes, off the UI thread
+ * in a non-blocking read action, the problems are published on the UI thread. The read actions of the batches
+ * are coalesced, so only the latest batch is published, even if an older one would finish later.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+@RequiredArgsConstructor
+public class LintResultReporter {
+
+    private static final Logger LOG = Logger.getInstance(LintResultReporter.class);
+    private static final String ID = "id";
+    private static final String MESSAGE = "message";
+    private static final String CATEGORY = "category";
+    private static final String RULE = "rule";
+
+    private final Project project;
+    private final VirtualFile file;
+
+    /**
+     * Publishes a batch of lint results of the file.
+     *
+     * @param results The lint results as a JSON array
+     */
+    public void report(String results) {
+        List<JsonObject> issues;
+        try {
+            issues = parse(results);
+        } catch (JsonParseException | IllegalStateException e) {
+            LOG.warn("Invalid lint results of " + file.getPath(), e);
+            return;
+        }
+
+        ReadAction.nonBlocking(() -> toProblems(issues))
+                .coalesceBy(this)
+                .expireWith(project)
+                .finishOnUiThread(ModalityState.nonModal(), this::publish)
+                .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    /**
+     * Parses the lint results.
+     *
+     * @param results The lint results as a JSON array
+     * @return The lint issues
+     */
+    private static List<JsonObject> parse(String results) {
+        var issues = new ArrayList<JsonObject>();
+        JsonParser.parseString(results).getAsJsonArray().forEach(issue -> issues.add(issue.getAsJsonObject()));
+        return issues;
+    }
+
+    /**
+     * Converts the lint issues to problems located at the lines of the reported elements.
+     * This method requires a read lock on the document of the file.
+     *
+     * @param issues The lint issues
+     * @return The problems
+     */
+    private List<Problem> toProblems(List<JsonObject> issues) {
+        if (issues.isEmpty() || !file.isValid()) {
+            return List.of();
+        }
+
+        var model = readModel();
+        var problemSolver = WolfTheProblemSolver.getInstance(project);
+        return issues.stream()
+                .map(issue -> {
+                    var element = model.map(bpmnModel -> bpmnModel.findElement(getString(issue, ID)));
+                    var line = element.map(BpmnElement::getLine).orElse(0);
+                    var problem = LintProblem.of(line, getString(issue, CATEGORY), getString(issue, MESSAGE),
+                            getString(issue, RULE));
+                    return problem.toProblem(problemSolver, file);
+                })
+                .toList();
+    }
+
+    /**
+     * Reads the model of the file, from its document if it is loaded.
+     *
+     * @return An Optional containing the model, or empty if the file is not a valid BPMN file
+     */
+    private Optional<BpmnModel> readModel() {
+        var document = FileDocumentManager.getInstance().getCachedDocument(file);
+        try (InputStream content = nonNull(document)
+                ? new ByteArrayInputStream(document.getText().getBytes(file.getCharset()))
+                : file.getInputStream()) {
+            return Optional.of(BpmnModelReader.read(content));
+        } catch (XMLStreamException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Publishes the problems of the file, an empty list clears them.
+     *
+     * @param problems The problems
+     */
+    private void publish(List<Problem> problems) {
+        if (!file.isValid()) {
+            return;
+        }
+
+        var problemSolver = WolfTheProblemSolver.getInstance(project);
+        if (problems.isEmpty()) {
+            problemSolver.clearProblems(file);
+        } else {
+            problemSolver.reportProblems(file, problems);
+        }
+    }
+
+    /**
+     * Returns a string field of a lint issue.
+     *
+     * @param issue The lint issue
+     * @param name  The name of the field
+     * @return The value of the field, or an empty string if it is missing
+     */
+    private static String getString(JsonObject issue, String name) {
+        var value = issue.get(name);
+        return nonNull(value) && value.isJsonPrimitive() ? value.getAsString() : "";
+    }
+}
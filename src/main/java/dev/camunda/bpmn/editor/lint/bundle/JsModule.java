@@ -0,0 +1,13 @@
+package dev.camunda.bpmn.editor.lint.bundle;
+
+import java.util.Set;
+
+/**
+ * A JavaScript module prepared for bundling: the CommonJS source and the module specifiers it requires.
+ *
+ * @param source     The CommonJS source of the module
+ * @param specifiers The specifiers passed to {@code require}, in the order of appearance
+ * @author Oleksandr Havrysh
+ */
+record JsModule(String source, Set<String> specifiers) {
+}
@@ -0,0 +1,265 @@
+package dev.camunda.bpmn.editor.lint.bundle;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileUtil;
+import dev.camunda.bpmn.editor.lint.LintModuleIndex;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the module specifiers passed to {@code require} to files, following the Node.js resolution algorithm.
+ * <ul>
+ *   <li>relative specifiers are resolved against the directory of the requiring module, trying the exact file,
+ *   the {@code .js}, {@code .json} and {@code .cjs} extensions and finally the directory as a package</li>
+ *   <li>bare specifiers are looked up in the {@code node_modules} directories of the requiring module
+ *   and its ancestors, falling back to the {@code node_modules} roots of the {@link LintModuleIndex}</li>
+ *   <li>packages are entered through the {@code exports} field of their {@code package.json},
+ *   with the {@code require}, {@code node} and {@code default} conditions, then through {@code main}
+ *   and finally through {@code index.js}</li>
+ * </ul>
+ * Every {@code package.json} read during the resolution is recorded as a dependency of the bundle.
+ *
+ * @author Oleksandr Havrysh
+ */
+final class JsModuleResolver {
+
+    private static final String SLASH = "/";
+    private static final String DOT = ".";
+    private static final String SUBPATH_PREFIX = "./";
+    private static final String SCOPE_PREFIX = "@";
+    private static final String NODE_MODULES = "node_modules";
+    private static final String PACKAGE_JSON = "package.json";
+    private static final String EXPORTS = "exports";
+    private static final String MAIN = "main";
+    private static final String INDEX = "index";
+    private static final List<String> EXTENSIONS = List.of("", ".js", ".json", ".cjs");
+    private static final Set<String> CONDITIONS = Set.of("require", "node", "default");
+
+    private final LintModuleIndex moduleIndex;
+    private final Map<VirtualFile, Long> dependencies;
+
+    /**
+     * Creates a resolver recording the read {@code package.json} files into the given dependencies.
+     *
+     * @param moduleIndex  The lint module index of the project
+     * @param dependencies The files the bundle is produced from, with their modification stamps
+     */
+    JsModuleResolver(LintModuleIndex moduleIndex, Map<VirtualFile, Long> dependencies) {
+        this.moduleIndex = moduleIndex;
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * Resolves the specifier required by the module.
+     *
+     * @param module    The requiring module
+     * @param specifier The module specifier
+     * @return The resolved file, or null if the module cannot be found, e.g. a Node.js built-in module
+     */
+    VirtualFile resolve(VirtualFile module, String specifier) {
+        var directory = module.getParent();
+        if (isNull(directory) || specifier.isEmpty()) {
+            return null;
+        }
+
+        if (specifier.startsWith(DOT) || specifier.startsWith(SLASH)) {
+            return resolvePath(specifier.startsWith(SLASH) ? module.getFileSystem().findFileByPath(SLASH) : directory,
+                    specifier);
+        }
+
+        var segments = specifier.split(SLASH, specifier.startsWith(SCOPE_PREFIX) ? 3 : 2);
+        var scoped = specifier.startsWith(SCOPE_PREFIX) && segments.length > 1;
+        var packageName = scoped ? segments[0] + SLASH + segments[1] : segments[0];
+        var subpath = specifier.substring(packageName.length());
+        var packageDirectory = findPackage(directory, packageName);
+        return isNull(packageDirectory) ? null : resolvePackage(packageDirectory, DOT + subpath);
+    }
+
+    /**
+     * Finds the package directory in the closest {@code node_modules} directory.
+     *
+     * @param directory   The directory of the requiring module
+     * @param packageName The name of the package, including its scope
+     * @return The package directory, or null if not found
+     */
+    private VirtualFile findPackage(VirtualFile directory, String packageName) {
+        for (var current = directory; nonNull(current); current = current.getParent()) {
+            if (NODE_MODULES.equals(current.getName())) {
+                continue;
+            }
+
+            var packageDirectory = current.findFileByRelativePath(NODE_MODULES + SLASH + packageName);
+            if (nonNull(packageDirectory) && packageDirectory.isDirectory()) {
+                return packageDirectory;
+            }
+        }
+
+        return moduleIndex.findFile((NODE_MODULES + SLASH + packageName).split(SLASH))
+                .filter(VirtualFile::isDirectory)
+                .orElse(null);
+    }
+
+    /**
+     * Resolves a subpath of a package, preferring its {@code exports} field.
+     *
+     * @param packageDirectory The package directory
+     * @param subpath          The subpath, {@code "."} for the package itself or {@code "./path"}
+     * @return The resolved file, or null if not found
+     */
+    private VirtualFile resolvePackage(VirtualFile packageDirectory, String subpath) {
+        var packageJson = readPackageJson(packageDirectory);
+        if (nonNull(packageJson) && packageJson.has(EXPORTS)) {
+            var target = resolveExports(packageJson.get(EXPORTS), subpath);
+            return isNull(target) ? null : resolveFile(packageDirectory, target);
+        }
+
+        return DOT.equals(subpath)
+                ? resolveDirectory(packageDirectory, packageJson)
+                : resolvePath(packageDirectory, subpath);
+    }
+
+    /**
+     * Resolves a relative path as a file or as a directory.
+     *
+     * @param directory The directory the path is relative to
+     * @param path      The relative path
+     * @return The resolved file, or null if not found
+     */
+    private VirtualFile resolvePath(VirtualFile directory, String path) {
+        if (isNull(directory)) {
+            return null;
+        }
+
+        var file = resolveFile(directory, path);
+        if (nonNull(file)) {
+            return file;
+        }
+
+        var target = directory.findFileByRelativePath(path);
+        return nonNull(target) && target.isDirectory() ? resolveDirectory(target, readPackageJson(target)) : null;
+    }
+
+    /**
+     * Resolves a directory through the {@code main} field of its {@code package.json} or its index file.
+     *
+     * @param directory   The directory
+     * @param packageJson The parsed {@code package.json} of the directory, may be null
+     * @return The resolved file, or null if not found
+     */
+    private VirtualFile resolveDirectory(VirtualFile directory, JsonObject packageJson) {
+        if (nonNull(packageJson) && packageJson.has(MAIN) && packageJson.get(MAIN).isJsonPrimitive()) {
+            var main = packageJson.get(MAIN).getAsString();
+            var file = resolveFile(directory, main);
+            if (isNull(file)) {
+                file = resolveFile(directory, main + SLASH + INDEX);
+            }
+
+            if (nonNull(file)) {
+                return file;
+            }
+        }
+
+        return resolveFile(directory, INDEX);
+    }
+
+    /**
+     * Resolves a relative path as a file, trying the known extensions.
+     *
+     * @param directory The directory the path is relative to
+     * @param path      The relative path
+     * @return The resolved file, or null if not found
+     */
+    private static VirtualFile resolveFile(VirtualFile directory, String path) {
+        var relativePath = path.startsWith(SUBPATH_PREFIX) ? path.substring(SUBPATH_PREFIX.length()) : path;
+        for (var extension : EXTENSIONS) {
+            var file = directory.findFileByRelativePath(relativePath + extension);
+            if (nonNull(file) && !file.isDirectory()) {
+                return file;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Resolves the subpath through the {@code exports} field of a package.
+     *
+     * @param exports The {@code exports} field
+     * @param subpath The subpath, {@code "."} for the package itself or {@code "./path"}
+     * @return The exported relative path, or null if the subpath is not exported
+     */
+    private static String resolveExports(JsonElement exports, String subpath) {
+        if (exports.isJsonObject()) {
+            var object = exports.getAsJsonObject();
+            var isSubpathMap = object.keySet().stream().anyMatch(key -> key.startsWith(DOT));
+            if (isSubpathMap) {
+                return object.has(subpath) ? resolveTarget(object.get(subpath)) : null;
+            }
+        }
+
+        return DOT.equals(subpath) ? resolveTarget(exports) : null;
+    }
+
+    /**
+     * Resolves an export target, which is a path, an array of fallbacks or an object of conditions.
+     * Like in Node.js, the conditions are matched in the order of their keys, and a matched condition
+     * whose target does not resolve falls through to the next one.
+     *
+     * @param target The export target
+     * @return The exported relative path, or null if no supported condition resolves
+     */
+    private static String resolveTarget(JsonElement target) {
+        if (target.isJsonPrimitive()) {
+            return target.getAsString();
+        }
+
+        if (target.isJsonArray()) {
+            for (var fallback : target.getAsJsonArray()) {
+                var path = resolveTarget(fallback);
+                if (nonNull(path)) {
+                    return path;
+                }
+            }
+        }
+
+        if (target.isJsonObject()) {
+            for (var condition : target.getAsJsonObject().entrySet()) {
+                var path = CONDITIONS.contains(condition.getKey()) ? resolveTarget(condition.getValue()) : null;
+                if (nonNull(path)) {
+                    return path;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Reads and parses the {@code package.json} of the directory and records it as a dependency.
+     *
+     * @param directory The directory
+     * @return The parsed {@code package.json}, or null if it does not exist or cannot be parsed
+     */
+    private JsonObject readPackageJson(VirtualFile directory) {
+        var file = directory.findChild(PACKAGE_JSON);
+        if (isNull(file)) {
+            return null;
+        }
+
+        dependencies.put(file, file.getModificationStamp());
+        try {
+            var json = JsonParser.parseString(VirtualFileUtil.readText(file));
+            return json.isJsonObject() ? json.getAsJsonObject() : null;
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+}
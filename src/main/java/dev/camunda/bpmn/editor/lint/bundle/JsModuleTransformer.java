@@ -0,0 +1,444 @@
+package dev.camunda.bpmn.editor.lint.bundle;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.NoArgsConstructor;
+
+/**
+ * Prepares JavaScript sources for bundling.
+ * The source is tokenized once with {@link JsTokenizer}, the specifiers of all {@code require} calls are collected
+ * and top-level ES module {@code import}/{@code export} statements are rewritten to their CommonJS equivalent.
+ * All rewrites are collected as edits of the original source and applied in a single pass.
+ *
+ * <p>Named exports are assigned at the end of the module, default imports of CommonJS modules
+ * resolve to the whole {@code module.exports}, like in Node.js.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class JsModuleTransformer {
+
+    private static final String REQUIRE = "require";
+    private static final String IMPORT = "import";
+    private static final String EXPORT = "export";
+    private static final String DEFAULT = "default";
+    private static final String FROM = "from";
+    private static final String AS = "as";
+    private static final String ASYNC = "async";
+    private static final String FUNCTION = "function";
+    private static final String CLASS = "class";
+    private static final Set<String> DECLARATIONS = Set.of("const", "let", "var");
+    private static final Set<String> STATEMENT_KEYWORDS = Set.of("const", "let", "var", "function", "class", "export",
+            "import", "if", "for", "while", "do", "return", "switch", "try", "throw");
+    private static final String ES_MODULE_MARKER = "Object.defineProperty(exports, \"__esModule\", {value: true});";
+    private static final String IMPORT_VARIABLE = "__import%d";
+
+    /**
+     * Tokenizes the source, collects the required specifiers and rewrites ES module statements to CommonJS.
+     *
+     * @param source The JavaScript source code
+     * @return The CommonJS module
+     */
+    static JsModule transform(String source) {
+        return new Transformation(source).run();
+    }
+
+    /**
+     * Quotes the module specifier as a JavaScript string literal.
+     *
+     * @param specifier The module specifier
+     * @return The quoted specifier
+     */
+    static String quote(String specifier) {
+        return "\"" + specifier.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    /**
+     * The state of a single module transformation.
+     */
+    private static final class Transformation {
+
+        private final String source;
+        private final List<JsToken> tokens;
+        private final List<Edit> edits = new ArrayList<>();
+        private final Set<String> specifiers = new LinkedHashSet<>();
+        private final Map<String, String> exports = new LinkedHashMap<>();
+
+        private boolean esModule;
+        private int importCount;
+
+        private Transformation(String source) {
+            this.source = source;
+            this.tokens = JsTokenizer.tokenize(source);
+        }
+
+        /**
+         * Walks the tokens once and applies the collected edits.
+         *
+         * @return The CommonJS module
+         */
+        private JsModule run() {
+            var depth = 0;
+            for (var index = 0; index < tokens.size(); index++) {
+                var token = tokens.get(index);
+                if (token.isPunctuator("{")) {
+                    depth++;
+                } else if (token.isPunctuator("}")) {
+                    depth--;
+                } else if (token.isIdentifier(REQUIRE) && isRequireCall(index)) {
+                    specifiers.add(tokens.get(index + 2).value());
+                } else if (depth == 0 && token.isIdentifier(IMPORT) && isStatement(index)) {
+                    index = transformImport(index);
+                } else if (depth == 0 && token.isIdentifier(EXPORT) && isStatement(index)) {
+                    index = transformExport(index);
+                }
+            }
+
+            return new JsModule(applyEdits(), specifiers);
+        }
+
+        /**
+         * Checks whether the {@code require} identifier is a call with a single string literal.
+         *
+         * @param index The index of the {@code require} token
+         * @return true for {@code require('specifier')}
+         */
+        private boolean isRequireCall(int index) {
+            return !isPrecededByDot(index)
+                    && tokenAt(index + 1).isPunctuator("(")
+                    && tokenAt(index + 2).type() == JsToken.Type.STRING
+                    && tokenAt(index + 3).isPunctuator(")");
+        }
+
+        /**
+         * Checks whether the {@code import}/{@code export} keyword starts a statement,
+         * as opposed to a property access, a dynamic import or {@code import.meta}.
+         *
+         * @param index The index of the keyword token
+         * @return true if the keyword starts a statement
+         */
+        private boolean isStatement(int index) {
+            var next = tokenAt(index + 1);
+            return !isPrecededByDot(index) && !next.isPunctuator("(") && !next.isPunctuator(".");
+        }
+
+        /**
+         * Rewrites an {@code import} statement.
+         *
+         * @param index The index of the {@code import} token
+         * @return The index of the last token of the statement
+         */
+        private int transformImport(int index) {
+            var next = tokenAt(index + 1);
+            if (next.type() == JsToken.Type.STRING) {
+                specifiers.add(next.value());
+                return replace(index, index + 1, "require(%s);".formatted(quote(next.value())));
+            }
+
+            var position = index + 1;
+            String defaultName = null;
+            String namespaceName = null;
+            var named = new ArrayList<String[]>();
+            if (tokenAt(position).type() == JsToken.Type.IDENTIFIER && !tokenAt(position).isIdentifier(FROM)) {
+                defaultName = tokenAt(position).value();
+                position++;
+                if (tokenAt(position).isPunctuator(",")) {
+                    position++;
+                }
+            }
+
+            if (tokenAt(position).isPunctuator("*") && tokenAt(position + 1).isIdentifier(AS)) {
+                namespaceName = tokenAt(position + 2).value();
+                position += 3;
+            } else if (tokenAt(position).isPunctuator("{")) {
+                position = parseSpecifierList(position, named);
+            }
+
+            if (!tokenAt(position).isIdentifier(FROM) || tokenAt(position + 1).type() != JsToken.Type.STRING) {
+                return index;
+            }
+
+            var specifier = tokenAt(position + 1).value();
+            specifiers.add(specifier);
+
+            var variable = IMPORT_VARIABLE.formatted(importCount++);
+            var replacement = new StringBuilder("const %s = require(%s);".formatted(variable, quote(specifier)));
+            if (defaultName != null) {
+                replacement.append(" const %s = __interopDefault(%s);".formatted(defaultName, variable));
+            }
+
+            if (namespaceName != null) {
+                replacement.append(" const %s = %s;".formatted(namespaceName, variable));
+            }
+
+            var destructured = new ArrayList<String>();
+            for (var binding : named) {
+                if (DEFAULT.equals(binding[0])) {
+                    replacement.append(" const %s = __interopDefault(%s);".formatted(binding[1], variable));
+                } else {
+                    destructured.add(binding[0].equals(binding[1]) ? binding[0] : binding[0] + ": " + binding[1]);
+                }
+            }
+
+            if (!destructured.isEmpty()) {
+                replacement.append(" const {%s} = %s;".formatted(String.join(", ", destructured), variable));
+            }
+
+            return replace(index, position + 1, replacement.toString());
+        }
+
+        /**
+         * Rewrites an {@code export} statement.
+         *
+         * @param index The index of the {@code export} token
+         * @return The index of the last rewritten token
+         */
+        private int transformExport(int index) {
+            var next = tokenAt(index + 1);
+            esModule = true;
+            if (next.isIdentifier(DEFAULT)) {
+                edits.add(new Edit(tokenAt(index).start(), next.end(), "exports.default ="));
+                return index + 1;
+            }
+
+            if (next.isIdentifier(FUNCTION) || next.isIdentifier(CLASS) || next.isIdentifier(ASYNC)) {
+                var position = index + 1;
+                while (!tokenAt(position).isIdentifier(CLASS) && !tokenAt(position).isIdentifier(FUNCTION)
+                        && position < tokens.size()) {
+                    position++;
+                }
+
+                position += tokenAt(position + 1).isPunctuator("*") ? 2 : 1;
+                exportName(tokenAt(position));
+                return removeExportKeyword(index);
+            }
+
+            if (next.type() == JsToken.Type.IDENTIFIER && DECLARATIONS.contains(next.value())) {
+                exportDeclarators(index + 2);
+                return removeExportKeyword(index);
+            }
+
+            if (next.isPunctuator("*")) {
+                return transformExportAll(index);
+            }
+
+            if (next.isPunctuator("{")) {
+                var named = new ArrayList<String[]>();
+                var position = parseSpecifierList(index + 1, named);
+                if (tokenAt(position).isIdentifier(FROM) && tokenAt(position + 1).type() == JsToken.Type.STRING) {
+                    return transformReExport(index, position, named);
+                }
+
+                named.forEach(binding -> exports.put(binding[1], binding[0]));
+                var end = tokenAt(position).isPunctuator(";") ? position : position - 1;
+                edits.add(new Edit(tokenAt(index).start(), tokenAt(end).end(), ""));
+                return end;
+            }
+
+            return index;
+        }
+
+        /**
+         * Rewrites {@code export * from 'module'} and {@code export * as name from 'module'}.
+         *
+         * @param index The index of the {@code export} token
+         * @return The index of the last token of the statement
+         */
+        private int transformExportAll(int index) {
+            var position = index + 2;
+            String namespaceName = null;
+            if (tokenAt(position).isIdentifier(AS)) {
+                namespaceName = tokenAt(position + 1).value();
+                position += 2;
+            }
+
+            if (!tokenAt(position).isIdentifier(FROM) || tokenAt(position + 1).type() != JsToken.Type.STRING) {
+                return index;
+            }
+
+            var specifier = tokenAt(position + 1).value();
+            specifiers.add(specifier);
+            var replacement = namespaceName == null
+                    ? "__exportStar(exports, require(%s));".formatted(quote(specifier))
+                    : "exports.%s = require(%s);".formatted(namespaceName, quote(specifier));
+            return replace(index, position + 1, replacement);
+        }
+
+        /**
+         * Rewrites {@code export {name, other as alias} from 'module'}.
+         *
+         * @param index    The index of the {@code export} token
+         * @param position The index of the {@code from} token
+         * @param named    The re-exported bindings
+         * @return The index of the last token of the statement
+         */
+        private int transformReExport(int index, int position, List<String[]> named) {
+            var specifier = tokenAt(position + 1).value();
+            specifiers.add(specifier);
+
+            var variable = IMPORT_VARIABLE.formatted(importCount++);
+            var replacement = new StringBuilder("const %s = require(%s);".formatted(variable, quote(specifier)));
+            for (var binding : named) {
+                var value = DEFAULT.equals(binding[0])
+                        ? "__interopDefault(%s)".formatted(variable)
+                        : "%s.%s".formatted(variable, binding[0]);
+                replacement.append(" exports.%s = %s;".formatted(binding[1], value));
+            }
+
+            return replace(index, position + 1, replacement.toString());
+        }
+
+        /**
+         * Parses a braced list of import or export specifiers.
+         *
+         * @param index The index of the opening brace
+         * @param named The list the {@code [imported, local]} pairs are added to
+         * @return The index of the token after the closing brace
+         */
+        private int parseSpecifierList(int index, List<String[]> named) {
+            var position = index + 1;
+            while (position < tokens.size() && !tokenAt(position).isPunctuator("}")) {
+                var name = tokenAt(position).value();
+                if (tokenAt(position + 1).isIdentifier(AS)) {
+                    named.add(new String[]{name, tokenAt(position + 2).value()});
+                    position += 3;
+                } else {
+                    named.add(new String[]{name, name});
+                    position++;
+                }
+
+                if (tokenAt(position).isPunctuator(",")) {
+                    position++;
+                }
+            }
+
+            return position + 1;
+        }
+
+        /**
+         * Collects the names of the variable declarators following an exported declaration keyword.
+         * Only plain identifiers are exported, destructuring patterns are skipped.
+         *
+         * @param index The index of the first declarator
+         */
+        private void exportDeclarators(int index) {
+            exportName(tokenAt(index));
+            var nesting = 0;
+            for (var position = index + 1; position < tokens.size(); position++) {
+                var token = tokenAt(position);
+                if (token.isPunctuator("(") || token.isPunctuator("[") || token.isPunctuator("{")) {
+                    nesting++;
+                } else if (token.isPunctuator(")") || token.isPunctuator("]") || token.isPunctuator("}")) {
+                    if (--nesting < 0) {
+                        return;
+                    }
+                } else if (nesting == 0 && (token.isPunctuator(";")
+                        || token.type() == JsToken.Type.IDENTIFIER && STATEMENT_KEYWORDS.contains(token.value()))) {
+                    return;
+                } else if (nesting == 0 && token.isPunctuator(",")) {
+                    exportName(tokenAt(position + 1));
+                }
+            }
+        }
+
+        /**
+         * Exports the identifier under its own name.
+         *
+         * @param token The token of the exported identifier
+         */
+        private void exportName(JsToken token) {
+            if (token.type() == JsToken.Type.IDENTIFIER) {
+                exports.put(token.value(), token.value());
+            }
+        }
+
+        /**
+         * Removes the {@code export} keyword and keeps the declaration.
+         *
+         * @param index The index of the {@code export} token
+         * @return The index of the {@code export} token
+         */
+        private int removeExportKeyword(int index) {
+            edits.add(new Edit(tokenAt(index).start(), tokenAt(index + 1).start(), ""));
+            return index;
+        }
+
+        /**
+         * Replaces the tokens from the start index to the end index, including a trailing semicolon.
+         *
+         * @param startIndex  The index of the first replaced token
+         * @param endIndex    The index of the last replaced token
+         * @param replacement The replacement text
+         * @return The index of the last replaced token
+         */
+        private int replace(int startIndex, int endIndex, String replacement) {
+            var end = tokenAt(endIndex + 1).isPunctuator(";") ? endIndex + 1 : endIndex;
+            edits.add(new Edit(tokenAt(startIndex).start(), tokenAt(end).end(), replacement));
+            return end;
+        }
+
+        /**
+         * Applies all edits to the source in a single pass.
+         *
+         * @return The CommonJS source of the module
+         */
+        private String applyEdits() {
+            if (edits.isEmpty() && !esModule) {
+                return source;
+            }
+
+            var result = new StringBuilder(source.length() + 64 * (edits.size() + exports.size()));
+            if (esModule) {
+                result.append(ES_MODULE_MARKER);
+            }
+
+            var position = 0;
+            for (var edit : edits) {
+                result.append(source, position, edit.start()).append(edit.replacement());
+                position = edit.end();
+            }
+
+            result.append(source, position, source.length()).append('\n');
+            exports.forEach((exported, local) -> result.append("exports.%s = %s;\n".formatted(exported, local)));
+            return result.toString();
+        }
+
+        /**
+         * Returns the token at the index, or an empty punctuator past the end of the source.
+         *
+         * @param index The index of the token
+         * @return The token
+         */
+        private JsToken tokenAt(int index) {
+            return index < tokens.size()
+                    ? tokens.get(index)
+                    : new JsToken(JsToken.Type.PUNCTUATOR, source.length(), source.length(), "");
+        }
+
+        /**
+         * Checks whether the token is a property name, e.g. {@code module.require}.
+         *
+         * @param index The index of the token
+         * @return true if the token is preceded by a dot
+         */
+        private boolean isPrecededByDot(int index) {
+            return index > 0 && tokens.get(index - 1).isPunctuator(".");
+        }
+    }
+
+    /**
+     * A replacement of a range of the source.
+     *
+     * @param start       The index of the first replaced character
+     * @param end         The index after the last replaced character
+     * @param replacement The replacement text
+     */
+    private record Edit(int start, int end, String replacement) {
+    }
+}
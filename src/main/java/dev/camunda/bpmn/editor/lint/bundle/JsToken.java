@@ -0,0 +1,45 @@
+package dev.camunda.bpmn.editor.lint.bundle;
+
+/**
+ * A token of JavaScript source code produced by {@link JsTokenizer}.
+ *
+ * @param type  The type of the token
+ * @param start The index of the first character of the token in the source
+ * @param end   The index after the last character of the token in the source
+ * @param value The text of the token, for strings without the quotes, null for numbers and regular expressions
+ * @author Oleksandr Havrysh
+ */
+record JsToken(Type type, int start, int end, String value) {
+
+    /**
+     * Checks whether the token is the given identifier or keyword.
+     *
+     * @param identifier The identifier
+     * @return true if the token is an identifier with the given name
+     */
+    boolean isIdentifier(String identifier) {
+        return type == Type.IDENTIFIER && value.equals(identifier);
+    }
+
+    /**
+     * Checks whether the token is the given punctuator.
+     *
+     * @param punctuator The punctuator
+     * @return true if the token is the given punctuator
+     */
+    boolean isPunctuator(String punctuator) {
+        return type == Type.PUNCTUATOR && value.equals(punctuator);
+    }
+
+    /**
+     * The types of JavaScript tokens. Whitespace and comments are not emitted as tokens.
+     */
+    enum Type {
+        IDENTIFIER,
+        NUMBER,
+        STRING,
+        TEMPLATE,
+        REGEX,
+        PUNCTUATOR
+    }
+}
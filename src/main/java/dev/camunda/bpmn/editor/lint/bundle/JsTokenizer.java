@@ -0,0 +1,282 @@
+package dev.camunda.bpmn.editor.lint.bundle;
+
+import static java.lang.Character.isDigit;
+import static java.lang.Character.isJavaIdentifierPart;
+import static java.lang.Character.isJavaIdentifierStart;
+import static java.lang.Character.isWhitespace;
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single pass tokenizer of JavaScript source code.
+ * The tokenizer recognizes everything which may hide a {@code require}, {@code import} or {@code export}
+ * from a naive search: comments, string literals, template literals and regular expression literals,
+ * which are told apart from divisions by the preceding token. The expressions nested in template literals
+ * are tokenized like any other code, the literal parts around them are emitted as template tokens.
+ *
+ * <p>Every character of the source is visited once, so the tokenizer is linear in the size of the source.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class JsTokenizer {
+
+    private static final Set<String> EXPRESSION_END_PUNCTUATORS = Set.of(")", "]", "}", "++", "--");
+    private static final Set<String> REGEX_PRECEDING_KEYWORDS = Set.of("return", "typeof", "instanceof", "in", "of",
+            "new", "delete", "void", "throw", "case", "do", "else", "yield", "await");
+
+    /**
+     * Splits the source into tokens.
+     *
+     * @param source The JavaScript source code
+     * @return The tokens of the source, without whitespace and comments
+     */
+    static List<JsToken> tokenize(String source) {
+        var tokens = new ArrayList<JsToken>(source.length() / 4);
+        var length = source.length();
+        var index = 0;
+        var braceDepth = 0;
+        var templateDepths = new ArrayDeque<Integer>();
+        JsToken previous = null;
+        while (index < length) {
+            var current = source.charAt(index);
+            var next = index + 1 < length ? source.charAt(index + 1) : 0;
+            if (isWhitespace(current)) {
+                index++;
+                continue;
+            }
+
+            if (current == '/' && next == '/') {
+                index = skipLineComment(source, index);
+                continue;
+            }
+
+            if (current == '/' && next == '*') {
+                index = skipBlockComment(source, index);
+                continue;
+            }
+
+            JsToken token;
+            if (current == '\'' || current == '"') {
+                var valueEnd = skipString(source, index);
+                var end = valueEnd < length && source.charAt(valueEnd) == current ? valueEnd + 1 : valueEnd;
+                token = new JsToken(JsToken.Type.STRING, index, end, source.substring(index + 1, valueEnd));
+            } else if (current == '`' || (current == '}' && !templateDepths.isEmpty()
+                    && templateDepths.peek() == braceDepth)) {
+                if (current == '}') {
+                    templateDepths.pop();
+                }
+
+                var end = skipTemplate(source, index);
+                token = new JsToken(JsToken.Type.TEMPLATE, index, end, source.substring(index, end));
+                if (isTemplateHead(token)) {
+                    templateDepths.push(braceDepth);
+                }
+            } else if (isJavaIdentifierStart(current)) {
+                var end = skipIdentifier(source, index);
+                token = new JsToken(JsToken.Type.IDENTIFIER, index, end, source.substring(index, end));
+            } else if (isDigit(current) || (current == '.' && isDigit(next))) {
+                token = new JsToken(JsToken.Type.NUMBER, index, skipNumber(source, index), null);
+            } else if (current == '/' && isRegexAllowed(previous)) {
+                var end = skipRegex(source, index);
+                token = end > index
+                        ? new JsToken(JsToken.Type.REGEX, index, end, null)
+                        : new JsToken(JsToken.Type.PUNCTUATOR, index, index + 1, "/");
+            } else if ((current == '+' || current == '-') && next == current) {
+                token = new JsToken(JsToken.Type.PUNCTUATOR, index, index + 2, source.substring(index, index + 2));
+            } else {
+                braceDepth += current == '{' ? 1 : (current == '}' ? -1 : 0);
+                token = new JsToken(JsToken.Type.PUNCTUATOR, index, index + 1, String.valueOf(current));
+            }
+
+            tokens.add(token);
+            previous = token;
+            index = token.end();
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Decides whether a slash after the given token starts a regular expression or is a division.
+     *
+     * @param previous The preceding token, or null at the start of the source
+     * @return true if a regular expression literal may start here
+     */
+    private static boolean isRegexAllowed(JsToken previous) {
+        if (previous == null) {
+            return true;
+        }
+
+        return switch (previous.type()) {
+            case PUNCTUATOR -> !EXPRESSION_END_PUNCTUATORS.contains(previous.value());
+            case IDENTIFIER -> REGEX_PRECEDING_KEYWORDS.contains(previous.value());
+            case TEMPLATE -> isTemplateHead(previous);
+            default -> false;
+        };
+    }
+
+    /**
+     * Skips a line comment.
+     *
+     * @param source The source code
+     * @param index  The index of the comment start
+     * @return The index after the end of the line
+     */
+    private static int skipLineComment(String source, int index) {
+        var end = source.indexOf('\n', index);
+        return end < 0 ? source.length() : end + 1;
+    }
+
+    /**
+     * Skips a block comment.
+     *
+     * @param source The source code
+     * @param index  The index of the comment start
+     * @return The index after the comment end
+     */
+    private static int skipBlockComment(String source, int index) {
+        var end = source.indexOf("*/", index + 2);
+        return end < 0 ? source.length() : end + 2;
+    }
+
+    /**
+     * Skips an identifier, a keyword or the flags of a regular expression.
+     *
+     * @param source The source code
+     * @param index  The index of the first character
+     * @return The index after the last identifier character
+     */
+    private static int skipIdentifier(String source, int index) {
+        var end = index + 1;
+        while (end < source.length() && isJavaIdentifierPart(source.charAt(end))) {
+            end++;
+        }
+
+        return end;
+    }
+
+    /**
+     * Skips a numeric literal, including prefixes, separators and exponents.
+     *
+     * @param source The source code
+     * @param index  The index of the first character
+     * @return The index after the literal
+     */
+    private static int skipNumber(String source, int index) {
+        var end = index + 1;
+        while (end < source.length()) {
+            var current = source.charAt(end);
+            var previous = source.charAt(end - 1);
+            var isExponentSign = (current == '+' || current == '-') && (previous == 'e' || previous == 'E');
+            if (!isJavaIdentifierPart(current) && current != '.' && !isExponentSign) {
+                break;
+            }
+
+            end++;
+        }
+
+        return end;
+    }
+
+    /**
+     * Skips a single or double quoted string literal.
+     *
+     * @param source The source code
+     * @param index  The index of the opening quote
+     * @return The index of the closing quote, or of the line break or the end of the source
+     * for an unterminated literal
+     */
+    private static int skipString(String source, int index) {
+        var quote = source.charAt(index);
+        var end = index + 1;
+        while (end < source.length()) {
+            var current = source.charAt(end);
+            if (current == '\\') {
+                end += 2;
+            } else if (current == quote || current == '\n') {
+                return end;
+            } else {
+                end++;
+            }
+        }
+
+        return source.length();
+    }
+
+    /**
+     * Checks whether the template token is followed by a nested expression.
+     *
+     * @param token The template token
+     * @return true if the token ends with the opening {@code ${} of an expression
+     */
+    private static boolean isTemplateHead(JsToken token) {
+        return token.value().endsWith("${");
+    }
+
+    /**
+     * Skips the literal part of a template, from its opening backtick or the closing brace of a nested expression
+     * up to its closing backtick or the opening {@code ${} of the next nested expression.
+     *
+     * @param source The source code
+     * @param index  The index of the opening backtick or closing brace
+     * @return The index after the closing backtick or the opening {@code ${}
+     */
+    private static int skipTemplate(String source, int index) {
+        var end = index + 1;
+        while (end < source.length()) {
+            var current = source.charAt(end);
+            if (current == '\\') {
+                end += 2;
+            } else if (current == '`') {
+                return end + 1;
+            } else if (current == '$' && end + 1 < source.length() && source.charAt(end + 1) == '{') {
+                return end + 2;
+            } else {
+                end++;
+            }
+        }
+
+        return source.length();
+    }
+
+    /**
+     * Skips a regular expression literal including its flags.
+     *
+     * @param source The source code
+     * @param index  The index of the opening slash
+     * @return The index after the flags, or the given index if the literal is not terminated on the same line
+     */
+    private static int skipRegex(String source, int index) {
+        var inClass = false;
+        var end = index + 1;
+        while (end < source.length()) {
+            var current = source.charAt(end);
+            if (current == '\\') {
+                end += 2;
+                continue;
+            }
+
+            if (current == '\n') {
+                return index;
+            }
+
+            if (current == '[') {
+                inClass = true;
+            } else if (current == ']') {
+                inClass = false;
+            } else if (current == '/' && !inClass) {
+                return skipIdentifier(source, end);
+            }
+
+            end++;
+        }
+
+        return index;
+    }
+}
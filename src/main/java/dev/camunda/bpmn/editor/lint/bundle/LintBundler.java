@@ -0,0 +1,195 @@
+package dev.camunda.bpmn.editor.lint.bundle;
+
+import static dev.camunda.bpmn.editor.lint.bundle.JsModuleTransformer.quote;
+import static java.util.Objects.nonNull;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileUtil;
+import dev.camunda.bpmn.editor.lint.LintContentCache;
+import dev.camunda.bpmn.editor.lint.LintModuleIndex;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bundles a lint module together with all modules it requires into a single self-contained script.
+ *
+ * <p>Every module is read, tokenized and transformed once, so the bundling is linear in the total size
+ * of the bundled sources. The dependency graph is walked breadth-first from the entry module, each module
+ * gets an id in the order it is discovered and is wrapped into a function with its own {@code module},
+ * {@code exports} and {@code require}. Modules are evaluated lazily on the first {@code require},
+ * shared between all modules requiring them and circular dependencies see partially initialised exports,
+ * like in Node.js.</p>
+ *
+ * <p>The bundle of a single entry module assigns its exports to {@code module.exports}, which is the contract
+ * of the lint resolvers of the BPMN Editor UI. Entry modules written as ES modules with a default export,
+ * e.g. {@code export default { configs, rules }}, expose their default export, like a CommonJS module would.
+ * Several named entry modules can be bundled together, e.g. all rules and configs of the lint plugins,
+ * sharing the modules they require.
+ * Modules which cannot be resolved, e.g. Node.js built-in modules, fail when they are required
+ * at runtime instead of failing the whole bundle.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+@RequiredArgsConstructor
+public final class LintBundler {
+
+    private static final String JSON_EXTENSION = "json";
+    private static final String BUNDLE_START = "module.exports = (function () {\nconst __modules = [\n";
+    private static final String BUNDLE_RUNTIME = """
+            ];
+            const __cache = {};
+            function __interopDefault(m) {
+                return m && m.__esModule ? m.default : m;
+            }
+            function __interopEntry(m) {
+                return m && m.__esModule && 'default' in m ? m.default : m;
+            }
+            function __exportStar(target, m) {
+                for (const key in m) {
+                    if (key !== 'default' && !(key in target)) {
+                        target[key] = m[key];
+                    }
+                }
+            }
+            function __require(id) {
+                if (id in __cache) {
+                    return __cache[id].exports;
+                }
+                const module = __cache[id] = {exports: {}};
+                const [fn, dependencies] = __modules[id];
+                fn.call(module.exports, module, module.exports, specifier => {
+                    if (!(specifier in dependencies)) {
+                        throw new Error('Cannot find module ' + specifier);
+                    }
+                    return __require(dependencies[specifier]);
+                });
+                return module.exports;
+            }
+            """;
+    private static final String BUNDLE_RETURN = "return %s;\n})();\n";
+    private static final String ENTRY_MODULE = "__interopEntry(__require(0))";
+    private static final String NAMED_ENTRIES = """
+            {
+                entries: %s,
+                has(name) {
+                    return name in this.entries;
+                },
+                require(name) {
+                    if (!this.has(name)) {
+                        throw new Error('Cannot find entry ' + name);
+                    }
+                    return __interopEntry(__require(this.entries[name]));
+                }
+            }""";
+    private static final String MODULE_START = "[function (module, exports, require) {\n";
+    private static final String MODULE_END = "\n}, %s],\n";
+
+    private final LintModuleIndex moduleIndex;
+
+    /**
+     * Bundles the entry module with all modules it requires.
+     *
+     * @param entry The entry module, e.g. the index or a rule of a lint plugin
+     * @return The cache entry with the bundle and all files it was produced from
+     */
+    public LintContentCache.Entry bundle(VirtualFile entry) {
+        var dependencies = new HashMap<VirtualFile, Long>();
+        var bundle = bundleModules(List.of(entry), new HashMap<>(), dependencies);
+        return new LintContentCache.Entry(bundle.append(BUNDLE_RETURN.formatted(ENTRY_MODULE)).toString(),
+                dependencies);
+    }
+
+    /**
+     * Bundles several named entry modules, sharing the modules they require, into a single script.
+     * The bundle assigns an object to {@code module.exports} whose {@code has(name)} and {@code require(name)}
+     * check and evaluate the entry modules by their names.
+     *
+     * @param entries      The entry modules by their names
+     * @param dependencies The files the bundle is produced from, the bundled modules are added to them
+     * @return The bundle
+     */
+    public String bundle(Map<String, VirtualFile> entries, Map<VirtualFile, Long> dependencies) {
+        var ids = new HashMap<VirtualFile, Integer>();
+        var bundle = bundleModules(entries.values(), ids, dependencies);
+        var entryIds = new LinkedHashMap<String, Integer>();
+        entries.forEach((name, file) -> entryIds.put(name, ids.get(file)));
+        return bundle.append(BUNDLE_RETURN.formatted(NAMED_ENTRIES.formatted(toObject(entryIds)))).toString();
+    }
+
+    /**
+     * Walks the dependency graph of the entry modules and renders the module table of the bundle.
+     * The entry modules get the first ids, in the given order.
+     *
+     * @param entries      The entry modules
+     * @param ids          The ids of the bundled modules, filled by this method
+     * @param dependencies The files read so far, with their modification stamps
+     * @return The bundle up to the expression returned from it
+     */
+    private StringBuilder bundleModules(Collection<VirtualFile> entries,
+                                        Map<VirtualFile, Integer> ids,
+                                        Map<VirtualFile, Long> dependencies) {
+        var resolver = new JsModuleResolver(moduleIndex, dependencies);
+        var queue = new ArrayDeque<VirtualFile>();
+        var bundle = new StringBuilder(BUNDLE_START);
+
+        entries.forEach(entry -> ids.computeIfAbsent(entry, key -> {
+            queue.add(key);
+            return ids.size();
+        }));
+        while (!queue.isEmpty()) {
+            var file = queue.poll();
+            var module = read(file, dependencies);
+            var requires = new LinkedHashMap<String, Integer>();
+            for (var specifier : module.specifiers()) {
+                var dependency = resolver.resolve(file, specifier);
+                if (nonNull(dependency)) {
+                    requires.put(specifier, ids.computeIfAbsent(dependency, key -> {
+                        queue.add(key);
+                        return ids.size();
+                    }));
+                }
+            }
+
+            bundle.append(MODULE_START).append(module.source()).append(MODULE_END.formatted(toObject(requires)));
+        }
+
+        return bundle.append(BUNDLE_RUNTIME);
+    }
+
+    /**
+     * Reads the module and records its modification stamp.
+     * JSON files are turned into modules exporting the parsed value.
+     *
+     * @param file         The module file
+     * @param dependencies The files read so far, with their modification stamps
+     * @return The module prepared for bundling
+     */
+    private static JsModule read(VirtualFile file, Map<VirtualFile, Long> dependencies) {
+        dependencies.put(file, file.getModificationStamp());
+        var content = VirtualFileUtil.readText(file);
+        if (JSON_EXTENSION.equalsIgnoreCase(file.getExtension())) {
+            return new JsModule("module.exports = " + content + ";", Set.of());
+        }
+
+        return JsModuleTransformer.transform(content);
+    }
+
+    /**
+     * Renders module ids by their specifiers or entry names as a JavaScript object literal.
+     *
+     * @param ids The module ids by specifier or entry name
+     * @return The object literal
+     */
+    private static String toObject(Map<String, Integer> ids) {
+        var entries = new ArrayList<String>(ids.size());
+        ids.forEach((name, id) -> entries.add("%s: %d".formatted(quote(name), id)));
+        return "{" + String.join(", ", entries) + "}";
+    }
+}
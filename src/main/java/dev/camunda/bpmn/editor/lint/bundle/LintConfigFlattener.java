@@ -0,0 +1,431 @@
+package dev.camunda.bpmn.editor.lint.bundle;
+
+import static java.util.Objects.isNull;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Flattens the {@code extends} chain of a {@code .bpmnlintrc} configuration into a single rule map,
+ * so the BPMN Editor UI does not resolve and compile every extended config one by one.
+ *
+ * <p>The configs of lint plugins, e.g. {@code plugin:custom/recommended}, are read from the {@code configs}
+ * object literal of the plugin index, their own {@code extends} are followed recursively. The rule severities
+ * are merged like bpmnlint does: every extended config overrides the ones before it, the {@code rules}
+ * of a config override its extended configs. Rules of a plugin config without a plugin prefix belong
+ * to the plugin and are prefixed with its name.</p>
+ *
+ * <p>The {@code bpmnlint:*} configs are bundled with the BPMN Editor UI and resolved there without any request,
+ * so they are kept in the {@code extends} of the flat configuration, in their original order. The configuration
+ * cannot be flattened when a plugin config is missing, is not a static object literal, extends itself,
+ * or overrides bpmnlint rules before a {@code bpmnlint:*} config, which would change the order of the overrides.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public final class LintConfigFlattener {
+
+    private static final String EXTENDS = "extends";
+    private static final String RULES = "rules";
+    private static final String CONFIGS = "configs";
+    private static final String SLASH = "/";
+    private static final String SCOPE_PREFIX = "@";
+    private static final String BPMNLINT = "bpmnlint";
+    private static final String BPMNLINT_CONFIG_PREFIX = "bpmnlint:";
+    private static final String BPMNLINT_RULE_PREFIX = "bpmnlint/";
+    private static final String PLUGIN_PREFIX = "plugin:";
+    private static final String PACKAGE_PREFIX = "bpmnlint-plugin-";
+    private static final String TEMPLATE_QUOTE = "`";
+    private static final String TEMPLATE_EXPRESSION = "${";
+
+    private final Function<String, Optional<String>> pluginIndexes;
+
+    /**
+     * Creates a flattener reading the plugin configs with the given function.
+     *
+     * @param pluginIndexes Returns the source of the index of a plugin by its package name,
+     *                      or empty if the plugin is not found
+     */
+    public LintConfigFlattener(Function<String, Optional<String>> pluginIndexes) {
+        this.pluginIndexes = pluginIndexes;
+    }
+
+    /**
+     * Flattens the configuration.
+     *
+     * @param bpmnlintrc The content of the {@code .bpmnlintrc} file
+     * @return An Optional containing the flat configuration as JSON, with the {@code bpmnlint:*} configs
+     *         as its only {@code extends}, or empty if the configuration cannot be flattened
+     */
+    public Optional<String> flatten(String bpmnlintrc) {
+        try {
+            var config = JsonParser.parseString(bpmnlintrc);
+            if (!config.isJsonObject()) {
+                return Optional.empty();
+            }
+
+            var presets = new JsonArray();
+            var rules = new LinkedHashMap<String, JsonElement>();
+            collect(config.getAsJsonObject(), BPMNLINT, new ArrayDeque<>(), presets, rules);
+
+            var result = new JsonObject();
+            if (!presets.isEmpty()) {
+                result.add(EXTENDS, presets);
+            }
+
+            var resultRules = new JsonObject();
+            rules.forEach(resultRules::add);
+            result.add(RULES, resultRules);
+            return Optional.of(result.toString());
+        } catch (JsonParseException | IllegalStateException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Collects the extended configs and the rules of a config.
+     *
+     * @param config   The config
+     * @param pkg      The package the config belongs to
+     * @param visiting The plugin configs being collected, to detect cycles
+     * @param presets  The {@code bpmnlint:*} configs collected so far
+     * @param rules    The rule severities collected so far
+     * @throws IllegalArgumentException if the config cannot be flattened
+     */
+    private void collect(JsonObject config, String pkg, Deque<String> visiting, JsonArray presets,
+                         Map<String, JsonElement> rules) {
+        if (config.has(EXTENDS)) {
+            for (var name : toList(config.get(EXTENDS))) {
+                extend(name, visiting, presets, rules);
+            }
+        }
+
+        if (config.has(RULES)) {
+            for (var rule : config.getAsJsonObject(RULES).entrySet()) {
+                var name = toRuleName(rule.getKey(), pkg);
+                rules.remove(name);
+                rules.put(name, rule.getValue());
+            }
+        }
+    }
+
+    /**
+     * Collects an extended config.
+     *
+     * @param name     The name of the extended config
+     * @param visiting The plugin configs being collected, to detect cycles
+     * @param presets  The {@code bpmnlint:*} configs collected so far
+     * @param rules    The rule severities collected so far
+     * @throws IllegalArgumentException if the config cannot be flattened
+     */
+    private void extend(String name, Deque<String> visiting, JsonArray presets, Map<String, JsonElement> rules) {
+        var reference = name.startsWith(PLUGIN_PREFIX) ? name.substring(PLUGIN_PREFIX.length()) : name;
+        var slashIndex = reference.lastIndexOf(SLASH);
+        if (name.startsWith(BPMNLINT_CONFIG_PREFIX) || slashIndex == -1) {
+            if (rules.keySet().stream().anyMatch(LintConfigFlattener::isBpmnlintRule)) {
+                throw new IllegalArgumentException("bpmnlint rules are overridden before " + name);
+            }
+
+            presets.add(name.startsWith(BPMNLINT_CONFIG_PREFIX) ? name : BPMNLINT_CONFIG_PREFIX + name);
+            return;
+        }
+
+        var pkg = toPackageName(reference.substring(0, slashIndex));
+        var configName = reference.substring(slashIndex + 1);
+        var key = pkg + SLASH + configName;
+        if (visiting.contains(key)) {
+            throw new IllegalArgumentException("Cyclic config " + key);
+        }
+
+        var configs = pluginIndexes.apply(pkg)
+                .flatMap(LintConfigFlattener::findConfigs)
+                .orElseThrow(() -> new IllegalArgumentException("No static configs in " + pkg));
+        var config = configs.get(configName);
+        if (isNull(config) || !config.isJsonObject()) {
+            throw new IllegalArgumentException("Config " + configName + " not found in " + pkg);
+        }
+
+        visiting.push(key);
+        collect(config.getAsJsonObject(), pkg, visiting, presets, rules);
+        visiting.pop();
+    }
+
+    /**
+     * Finds the {@code configs} object literal of a plugin index, assigned either as an object property
+     * or to {@code exports.configs}.
+     *
+     * @param source The source of the plugin index
+     * @return An Optional containing the configs by name, or empty if there is no static {@code configs} literal
+     */
+    private static Optional<JsonObject> findConfigs(String source) {
+        var tokens = JsTokenizer.tokenize(source);
+        for (var index = 0; index + 2 < tokens.size(); index++) {
+            var token = tokens.get(index);
+            var isConfigs = token.isIdentifier(CONFIGS)
+                    || (token.type() == JsToken.Type.STRING && CONFIGS.equals(token.value()));
+            var assignment = tokens.get(index + 1);
+            if (isConfigs && (assignment.isPunctuator(":") || assignment.isPunctuator("="))
+                    && tokens.get(index + 2).isPunctuator("{")) {
+                return Optional.of(new LiteralParser(source, tokens, index + 2).parseValue().getAsJsonObject());
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Converts a rule name of a config to the name used in the flat configuration.
+     * Rules without a plugin prefix belong to the package of the config, plugin prefixes are shortened
+     * to the plugin name the way bpmnlint reports them, e.g. {@code custom/rule-name}.
+     *
+     * @param rule The rule name
+     * @param pkg  The package of the config
+     * @return The rule name
+     */
+    private static String toRuleName(String rule, String pkg) {
+        if (rule.startsWith(BPMNLINT_RULE_PREFIX)) {
+            return rule.substring(BPMNLINT_RULE_PREFIX.length());
+        }
+
+        var slashIndex = rule.lastIndexOf(SLASH);
+        if (slashIndex == -1) {
+            return BPMNLINT.equals(pkg) ? rule : toShortName(pkg) + SLASH + rule;
+        }
+
+        return toShortName(toPackageName(rule.substring(0, slashIndex))) + rule.substring(slashIndex);
+    }
+
+    /**
+     * Checks if the rule belongs to bpmnlint itself.
+     *
+     * @param rule The rule name in the flat configuration
+     * @return true if the rule has no plugin prefix
+     */
+    private static boolean isBpmnlintRule(String rule) {
+        return !rule.contains(SLASH);
+    }
+
+    /**
+     * Converts a plugin reference to its package name, following the bpmnlint naming conventions:
+     * {@code custom} is the {@code bpmnlint-plugin-custom} package, {@code @scope/custom}
+     * the {@code @scope/bpmnlint-plugin-custom} package.
+     *
+     * @param plugin The plugin reference
+     * @return The package name
+     */
+    private static String toPackageName(String plugin) {
+        if (!plugin.startsWith(SCOPE_PREFIX)) {
+            return plugin.startsWith(PACKAGE_PREFIX) ? plugin : PACKAGE_PREFIX + plugin;
+        }
+
+        var segments = plugin.split(SLASH, 2);
+        if (segments.length < 2) {
+            return plugin + SLASH + PACKAGE_PREFIX.substring(0, PACKAGE_PREFIX.length() - 1);
+        }
+
+        return segments[0] + SLASH + toPackageName(segments[1]);
+    }
+
+    /**
+     * Converts a package name to the plugin name used as rule prefix. Scoped packages keep their full name.
+     *
+     * @param pkg The package name
+     * @return The plugin name
+     */
+    private static String toShortName(String pkg) {
+        return pkg.startsWith(PACKAGE_PREFIX) ? pkg.substring(PACKAGE_PREFIX.length()) : pkg;
+    }
+
+    /**
+     * Converts a single value or an array of values to a list of strings.
+     *
+     * @param value The value
+     * @return The string values
+     */
+    private static List<String> toList(JsonElement value) {
+        if (!value.isJsonArray()) {
+            return List.of(value.getAsString());
+        }
+
+        var values = new ArrayList<String>();
+        value.getAsJsonArray().forEach(element -> values.add(element.getAsString()));
+        return values;
+    }
+
+    /**
+     * Parser of the JSON-like subset of JavaScript literals a plugin config is written in:
+     * objects with identifier, string or number keys, arrays, strings, template literals without expressions,
+     * numbers, booleans and {@code null}. Any other expression, e.g. a variable, a {@code require} call or
+     * a spread element, cannot be evaluated statically and fails the parsing.
+     */
+    private static final class LiteralParser {
+
+        private final String source;
+        private final List<JsToken> tokens;
+        private int index;
+
+        /**
+         * Creates a parser of the literal starting at the given token.
+         *
+         * @param source The JavaScript source code
+         * @param tokens The tokens of the source
+         * @param index  The index of the first token of the literal
+         */
+        LiteralParser(String source, List<JsToken> tokens, int index) {
+            this.source = source;
+            this.tokens = tokens;
+            this.index = index;
+        }
+
+        /**
+         * Parses the literal at the current token.
+         *
+         * @return The value of the literal
+         * @throws IllegalArgumentException if the expression is not a supported literal
+         */
+        JsonElement parseValue() {
+            var token = next();
+            return switch (token.type()) {
+                case STRING -> new JsonPrimitive(token.value());
+                case NUMBER -> new JsonPrimitive(new BigDecimal(source.substring(token.start(), token.end())));
+                case TEMPLATE -> parseTemplate(token);
+                case IDENTIFIER -> parseKeyword(token);
+                case PUNCTUATOR -> parseStructure(token);
+                case REGEX -> throw unsupported(token);
+            };
+        }
+
+        /**
+         * Parses an object or an array literal.
+         *
+         * @param token The opening punctuator
+         * @return The object or the array
+         */
+        private JsonElement parseStructure(JsToken token) {
+            if (token.isPunctuator("{")) {
+                var object = new JsonObject();
+                while (!peek().isPunctuator("}")) {
+                    var key = next();
+                    if (key.type() != JsToken.Type.IDENTIFIER && key.type() != JsToken.Type.STRING
+                            && key.type() != JsToken.Type.NUMBER || !next().isPunctuator(":")) {
+                        throw unsupported(key);
+                    }
+
+                    var name = key.type() == JsToken.Type.NUMBER
+                            ? source.substring(key.start(), key.end())
+                            : key.value();
+                    object.add(name, parseValue());
+                    skipSeparator("}");
+                }
+
+                next();
+                return object;
+            }
+
+            if (token.isPunctuator("[")) {
+                var array = new JsonArray();
+                while (!peek().isPunctuator("]")) {
+                    array.add(parseValue());
+                    skipSeparator("]");
+                }
+
+                next();
+                return array;
+            }
+
+            throw unsupported(token);
+        }
+
+        /**
+         * Parses a template literal without expressions as a string.
+         *
+         * @param token The template token
+         * @return The string
+         */
+        private JsonElement parseTemplate(JsToken token) {
+            var value = token.value();
+            if (value.length() < 2 || !value.startsWith(TEMPLATE_QUOTE) || !value.endsWith(TEMPLATE_QUOTE)
+                    || value.contains(TEMPLATE_EXPRESSION)) {
+                throw unsupported(token);
+            }
+
+            return new JsonPrimitive(value.substring(1, value.length() - 1));
+        }
+
+        /**
+         * Parses the {@code true}, {@code false} and {@code null} keywords.
+         *
+         * @param token The identifier token
+         * @return The boolean or null value
+         */
+        private JsonElement parseKeyword(JsToken token) {
+            return switch (token.value()) {
+                case "true" -> new JsonPrimitive(true);
+                case "false" -> new JsonPrimitive(false);
+                case "null" -> JsonNull.INSTANCE;
+                default -> throw unsupported(token);
+            };
+        }
+
+        /**
+         * Skips the comma after an element, unless the element is the last one before the closing punctuator.
+         *
+         * @param closing The closing punctuator of the object or the array
+         */
+        private void skipSeparator(String closing) {
+            var token = peek();
+            if (token.isPunctuator(",")) {
+                next();
+            } else if (!token.isPunctuator(closing)) {
+                throw unsupported(token);
+            }
+        }
+
+        /**
+         * Returns the current token without consuming it.
+         *
+         * @return The current token
+         */
+        private JsToken peek() {
+            if (index >= tokens.size()) {
+                throw new IllegalArgumentException("Unexpected end of the source");
+            }
+
+            return tokens.get(index);
+        }
+
+        /**
+         * Consumes the current token.
+         *
+         * @return The consumed token
+         */
+        private JsToken next() {
+            var token = peek();
+            index++;
+            return token;
+        }
+
+        /**
+         * Creates the exception for an expression which is not a supported literal.
+         *
+         * @param token The first token of the expression
+         * @return The exception
+         */
+        private IllegalArgumentException unsupported(JsToken token) {
+            return new IllegalArgumentException("Not a static literal at " + token.start());
+        }
+    }
+}
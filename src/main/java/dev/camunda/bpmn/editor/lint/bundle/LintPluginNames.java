@@ -0,0 +1,108 @@
+package dev.camunda.bpmn.editor.lint.bundle;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.NoArgsConstructor;
+
+/**
+ * Extracts the names of the lint plugin packages referenced by a {@code .bpmnlintrc} configuration,
+ * following the bpmnlint naming conventions:
+ * <ul>
+ *   <li>{@code "extends": "plugin:custom/recommended"} references the {@code bpmnlint-plugin-custom} package</li>
+ *   <li>{@code "rules": {"custom/rule-name": "error"}} references the {@code bpmnlint-plugin-custom} package</li>
+ *   <li>{@code @scope/custom} references the {@code @scope/bpmnlint-plugin-custom} package</li>
+ * </ul>
+ * Configs and rules of bpmnlint itself, e.g. {@code bpmnlint:recommended}, are bundled with the BPMN Editor UI
+ * and are not reported.
+ *
+ * @author Oleksandr Havrysh
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class LintPluginNames {
+
+    private static final String SLASH = "/";
+    private static final String SCOPE_PREFIX = "@";
+    private static final String PLUGIN_PREFIX = "plugin:";
+    private static final String PACKAGE_PREFIX = "bpmnlint-plugin-";
+    private static final String EXTENDS = "extends";
+    private static final String RULES = "rules";
+
+    /**
+     * Returns the names of the lint plugin packages referenced by the configuration.
+     *
+     * @param bpmnlintrc The content of the {@code .bpmnlintrc} file
+     * @return The package names in the order of their first reference, empty if the configuration is not valid JSON
+     */
+    public static Set<String> fromConfig(String bpmnlintrc) {
+        var names = new LinkedHashSet<String>();
+        try {
+            var config = JsonParser.parseString(bpmnlintrc);
+            if (!config.isJsonObject()) {
+                return names;
+            }
+
+            var object = config.getAsJsonObject();
+            if (object.has(EXTENDS)) {
+                addExtends(object.get(EXTENDS), names);
+            }
+
+            if (object.has(RULES) && object.get(RULES).isJsonObject()) {
+                object.getAsJsonObject(RULES).keySet().forEach(rule -> addPackage(rule, names));
+            }
+        } catch (JsonParseException | IllegalStateException e) {
+            return Set.of();
+        }
+
+        return names;
+    }
+
+    /**
+     * Adds the packages of the extended configs, given as a single name or an array of names.
+     *
+     * @param extendsElement The {@code extends} field
+     * @param names          The package names collected so far
+     */
+    private static void addExtends(JsonElement extendsElement, Set<String> names) {
+        Iterable<JsonElement> configs = extendsElement.isJsonArray()
+                ? extendsElement.getAsJsonArray()
+                : List.of(extendsElement);
+        for (var config : configs) {
+            var name = config.getAsString();
+            if (name.startsWith(PLUGIN_PREFIX)) {
+                addPackage(name.substring(PLUGIN_PREFIX.length()), names);
+            }
+        }
+    }
+
+    /**
+     * Adds the package of a plugin reference, i.e. a {@code plugin/name} or {@code @scope/plugin/name} rule
+     * or config name. References without a plugin belong to bpmnlint and are skipped.
+     *
+     * @param reference The rule or config reference
+     * @param names     The package names collected so far
+     */
+    private static void addPackage(String reference, Set<String> names) {
+        var segments = reference.split(SLASH);
+        if (reference.startsWith(SCOPE_PREFIX) && segments.length > 2) {
+            names.add(segments[0] + SLASH + toPackageName(segments[1]));
+        } else if (!reference.startsWith(SCOPE_PREFIX) && segments.length > 1) {
+            names.add(toPackageName(segments[0]));
+        }
+    }
+
+    /**
+     * Prefixes the short plugin name with {@code bpmnlint-plugin-} unless it is already a package name.
+     *
+     * @param plugin The plugin name
+     * @return The package name
+     */
+    private static String toPackageName(String plugin) {
+        return plugin.startsWith(PACKAGE_PREFIX) ? plugin : PACKAGE_PREFIX + plugin;
+    }
+}
@@ -0,0 +1,24 @@
+package dev.camunda.bpmn.editor.lint.engine;
+
+/**
+ * The bounds of a shape of the BPMN diagram.
+ *
+ * @param x      The x coordinate of the top left corner
+ * @param y      The y coordinate of the top left corner
+ * @param width  The width of the shape
+ * @param height The height of the shape
+ * @author Oleksandr Havrysh
+ */
+public record Bounds(double x, double y, double width, double height) {
+
+    /**
+     * Checks whether the bounds overlap, touching edges do not count as overlapping.
+     *
+     * @param other The other bounds
+     * @return true if the bounds overlap
+     */
+    public boolean overlaps(Bounds other) {
+        return x < other.x + other.width && other.x < x + width
+                && y < other.y + other.height && other.y < y + height;
+    }
+}
@@ -0,0 +1,213 @@
+package dev.camunda.bpmn.editor.lint.engine;
+
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * An element of the BPMN 2.0 model read by {@link BpmnModelReader}.
+ * The type of the element is the capitalized local name of its XML element, e.g. {@code StartEvent},
+ * and {@link #is(String)} takes the BPMN type hierarchy into account.
+ *
+ * <p>Sequence flows are resolved when the model is read: flow nodes know their incoming and outgoing
+ * sequence flows, sequence flows know their source and target. Every element also remembers the line
+ * of its XML element, so reports can be located in the file.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+@Getter
+public final class BpmnElement {
+
+    private static final String EVENT_DEFINITION_SUFFIX = "EventDefinition";
+    private static final String CONDITION_EXPRESSION = "ConditionExpression";
+    private static final String TRUE = "true";
+
+    private final String type;
+    @Getter(AccessLevel.NONE)
+    private final Set<String> typeHierarchy;
+    private final Map<String, String> attributes;
+    private final BpmnElement parent;
+    private final int line;
+    private final List<BpmnElement> children = new ArrayList<>();
+    private final List<BpmnElement> incoming = new ArrayList<>();
+    private final List<BpmnElement> outgoing = new ArrayList<>();
+
+    @Setter(AccessLevel.PACKAGE)
+    private BpmnElement source;
+    @Setter(AccessLevel.PACKAGE)
+    private BpmnElement target;
+    @Setter(AccessLevel.PACKAGE)
+    private Bounds bounds;
+    @Setter(AccessLevel.PACKAGE)
+    private boolean visualized;
+    @Setter(AccessLevel.PACKAGE)
+    private String text;
+
+    /**
+     * Creates an element and adds it to the children of its parent.
+     *
+     * @param type       The type of the element
+     * @param attributes The attributes of the element by their local names
+     * @param parent     The parent element, or null for the definitions
+     * @param line       The line of the XML element in the file, or -1 if unknown
+     */
+    BpmnElement(String type, Map<String, String> attributes, BpmnElement parent, int line) {
+        this.type = type;
+        this.typeHierarchy = BpmnTypes.getTypeHierarchy(type);
+        this.attributes = attributes;
+        this.parent = parent;
+        this.line = line;
+        if (nonNull(parent)) {
+            parent.children.add(this);
+        }
+    }
+
+    /**
+     * Returns the id of the element.
+     *
+     * @return The id, or null if the element has no id
+     */
+    public String getId() {
+        return attributes.get("id");
+    }
+
+    /**
+     * Returns the name of the element.
+     *
+     * @return The name, or null if the element has no name
+     */
+    public String getName() {
+        return attributes.get("name");
+    }
+
+    /**
+     * Returns the value of an attribute.
+     *
+     * @param name The local name of the attribute
+     * @return The value, or null if the attribute is not set
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * Checks whether the element is an instance of the given type, e.g. a {@code UserTask} is an {@code Activity}.
+     *
+     * @param expected The type, e.g. {@code Activity}
+     * @return true if the element is an instance of the type
+     */
+    public boolean is(String expected) {
+        return typeHierarchy.contains(expected);
+    }
+
+    /**
+     * Checks whether the element is an instance of any of the given types.
+     *
+     * @param expected The types
+     * @return true if the element is an instance of any of the types
+     */
+    public boolean isAny(String... expected) {
+        for (var current : expected) {
+            if (is(current)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the flow elements of a process or sub process.
+     *
+     * @return The children which are flow elements
+     */
+    public List<BpmnElement> getFlowElements() {
+        return children.stream().filter(child -> child.is("FlowElement")).toList();
+    }
+
+    /**
+     * Returns the event definitions of an event.
+     *
+     * @return The children which are event definitions
+     */
+    public List<BpmnElement> getEventDefinitions() {
+        return children.stream().filter(child -> child.type.endsWith(EVENT_DEFINITION_SUFFIX)).toList();
+    }
+
+    /**
+     * Checks whether the event has an event definition of the given type.
+     *
+     * @param eventDefinition The type of the event definition, e.g. {@code TerminateEventDefinition}
+     * @return true if the event has such an event definition
+     */
+    public boolean hasEventDefinition(String eventDefinition) {
+        return children.stream().anyMatch(child -> child.type.equals(eventDefinition));
+    }
+
+    /**
+     * Returns the condition expression of a sequence flow.
+     *
+     * @return The condition expression, or null if the sequence flow is unconditional
+     */
+    public BpmnElement getConditionExpression() {
+        return children.stream().filter(child -> child.type.equals(CONDITION_EXPRESSION)).findFirst().orElse(null);
+    }
+
+    /**
+     * Checks whether the sequence flow is the default flow of the flow node.
+     *
+     * @param flow The outgoing sequence flow of this flow node
+     * @return true if the sequence flow is the default flow
+     */
+    public boolean isDefaultFlow(BpmnElement flow) {
+        var defaultFlow = attributes.get("default");
+        return nonNull(defaultFlow) && defaultFlow.equals(flow.getId());
+    }
+
+    /**
+     * Checks whether the sub process is an event sub process.
+     *
+     * @return true if the element is triggered by an event
+     */
+    public boolean isTriggeredByEvent() {
+        return TRUE.equals(attributes.get("triggeredByEvent"));
+    }
+
+    /**
+     * Checks whether the activity is a compensation activity.
+     *
+     * @return true if the activity is for compensation
+     */
+    public boolean isForCompensation() {
+        return TRUE.equals(attributes.get("isForCompensation"));
+    }
+
+    /**
+     * Checks whether the element is a boundary event catching compensation.
+     *
+     * @return true for compensation boundary events
+     */
+    public boolean isCompensationBoundary() {
+        return is("BoundaryEvent") && hasEventDefinition("CompensateEventDefinition");
+    }
+
+    /**
+     * Checks whether the element is placed directly inside an ad-hoc sub process.
+     *
+     * @return true if the parent is an ad-hoc sub process
+     */
+    public boolean isInAdHocSubProcess() {
+        return nonNull(parent) && parent.is("AdHocSubProcess");
+    }
+
+    @Override
+    public String toString() {
+        return type + "#" + getId();
+    }
+}
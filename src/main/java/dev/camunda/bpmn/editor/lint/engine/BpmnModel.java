@@ -0,0 +1,27 @@
+package dev.camunda.bpmn.editor.lint.engine;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A BPMN 2.0 model read by {@link BpmnModelReader}.
+ *
+ * @param definitions The root definitions element
+ * @param elements    All model elements in document order, the definitions first
+ * @param elementsById The model elements by their ids
+ * @author Oleksandr Havrysh
+ */
+public record BpmnModel(BpmnElement definitions,
+                        List<BpmnElement> elements,
+                        Map<String, BpmnElement> elementsById) {
+
+    /**
+     * Finds a model element by its id.
+     *
+     * @param id The id of the element
+     * @return The element, or null if there is no element with the id
+     */
+    public BpmnElement findElement(String id) {
+        return id == null ? null : elementsById.get(id);
+    }
+}
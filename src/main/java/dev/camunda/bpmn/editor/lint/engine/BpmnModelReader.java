@@ -0,0 +1,244 @@
+package dev.camunda.bpmn.editor.lint.engine;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static lombok.AccessLevel.PRIVATE;
+
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reads a BPMN 2.0 model with a single streaming (StAX) pass over the XML.
+ *
+ * <p>Only the elements of the BPMN model namespace are kept, extension elements of other namespaces
+ * are skipped together with their content. The BPMN DI shapes and edges are not kept as elements,
+ * instead the model elements they visualize are marked and get the bounds of their shapes.
+ * The {@code incoming}, {@code outgoing} and {@code flowNodeRef} references are not read,
+ * the sequence flows are resolved from their {@code sourceRef} and {@code targetRef} attributes.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class BpmnModelReader {
+
+    private static final String MODEL_NAMESPACE = "http://www.omg.org/spec/BPMN/20100524/MODEL";
+    private static final String DI_NAMESPACE = "http://www.omg.org/spec/BPMN/20100524/DI";
+    private static final String DC_NAMESPACE = "http://www.omg.org/spec/DD/20100524/DC";
+    private static final Set<String> KNOWN_NAMESPACES = Set.of(MODEL_NAMESPACE, DI_NAMESPACE, DC_NAMESPACE,
+            "http://www.omg.org/spec/DD/20100524/DI");
+    private static final String BPMN_SHAPE = "BPMNShape";
+    private static final String BPMN_EDGE = "BPMNEdge";
+    private static final String BPMN_ELEMENT = "bpmnElement";
+    private static final String BOUNDS = "Bounds";
+    private static final String SEQUENCE_FLOW = "SequenceFlow";
+    private static final String SOURCE_REF = "sourceRef";
+    private static final String TARGET_REF = "targetRef";
+    private static final Set<String> REFERENCES = Set.of("incoming", "outgoing", "flowNodeRef");
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    /**
+     * Reads the BPMN model from the XML stream.
+     *
+     * @param inputStream The BPMN 2.0 XML
+     * @return The model
+     * @throws XMLStreamException if the XML is malformed or has no {@code definitions} root element
+     */
+    public static BpmnModel read(InputStream inputStream) throws XMLStreamException {
+        var reader = INPUT_FACTORY.createXMLStreamReader(inputStream);
+        try {
+            return read(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Walks the XML events and builds the model.
+     *
+     * @param reader The XML stream reader
+     * @return The model
+     * @throws XMLStreamException if the XML is malformed or has no {@code definitions} root element
+     */
+    private static BpmnModel read(XMLStreamReader reader) throws XMLStreamException {
+        var elements = new ArrayList<BpmnElement>();
+        var elementsById = new HashMap<String, BpmnElement>();
+        var bounds = new HashMap<String, Bounds>();
+        var visualized = new HashSet<String>();
+        var stack = new ArrayDeque<BpmnElement>();
+        var text = new StringBuilder();
+        String shape = null;
+        var skippedDepth = 0;
+
+        while (reader.hasNext()) {
+            var event = reader.next();
+            if (event == START_ELEMENT) {
+                var namespace = reader.getNamespaceURI();
+                var localName = reader.getLocalName();
+                if (skippedDepth > 0 || isNull(namespace) || !KNOWN_NAMESPACES.contains(namespace)
+                        || REFERENCES.contains(localName)) {
+                    skippedDepth++;
+                } else if (MODEL_NAMESPACE.equals(namespace)) {
+                    var element = new BpmnElement(toType(localName), readAttributes(reader), stack.peek(),
+                            reader.getLocation().getLineNumber());
+                    elements.add(element);
+                    if (nonNull(element.getId())) {
+                        elementsById.put(element.getId(), element);
+                    }
+
+                    stack.push(element);
+                    text.setLength(0);
+                } else if (DI_NAMESPACE.equals(namespace) && (BPMN_SHAPE.equals(localName)
+                        || BPMN_EDGE.equals(localName))) {
+                    var bpmnElement = reader.getAttributeValue(null, BPMN_ELEMENT);
+                    if (nonNull(bpmnElement)) {
+                        visualized.add(bpmnElement);
+                    }
+
+                    shape = BPMN_SHAPE.equals(localName) ? bpmnElement : null;
+                } else if (DC_NAMESPACE.equals(namespace) && BOUNDS.equals(localName) && nonNull(shape)) {
+                    bounds.put(shape, readBounds(reader));
+                    shape = null;
+                }
+            } else if (event == END_ELEMENT) {
+                if (skippedDepth > 0) {
+                    skippedDepth--;
+                } else if (MODEL_NAMESPACE.equals(reader.getNamespaceURI()) && !stack.isEmpty()) {
+                    var element = stack.pop();
+                    if (element.getChildren().isEmpty() && !text.isEmpty()) {
+                        element.setText(text.toString().trim());
+                    }
+
+                    text.setLength(0);
+                }
+            } else if ((event == CHARACTERS || event == CDATA) && skippedDepth == 0 && !stack.isEmpty()) {
+                text.append(reader.getText());
+            }
+        }
+
+        if (elements.isEmpty()) {
+            throw new XMLStreamException("The document has no BPMN definitions");
+        }
+
+        link(elements, elementsById, bounds, visualized);
+        return new BpmnModel(elements.get(0), elements, elementsById);
+    }
+
+    /**
+     * Resolves the sequence flows and attaches the diagram information to the model elements.
+     *
+     * @param elements     All model elements
+     * @param elementsById The model elements by their ids
+     * @param bounds       The bounds of the shapes by the ids of the visualized elements
+     * @param visualized   The ids of all elements with a shape or an edge
+     */
+    private static void link(Iterable<BpmnElement> elements,
+                             Map<String, BpmnElement> elementsById,
+                             Map<String, Bounds> bounds,
+                             Set<String> visualized) {
+        for (var element : elements) {
+            var id = element.getId();
+            if (nonNull(id)) {
+                element.setBounds(bounds.get(id));
+                element.setVisualized(visualized.contains(id));
+            }
+
+            if (SEQUENCE_FLOW.equals(element.getType())) {
+                var source = elementsById.get(element.getAttribute(SOURCE_REF));
+                var target = elementsById.get(element.getAttribute(TARGET_REF));
+                element.setSource(source);
+                element.setTarget(target);
+                if (nonNull(source)) {
+                    source.getOutgoing().add(element);
+                }
+
+                if (nonNull(target)) {
+                    target.getIncoming().add(element);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the attributes of the current element by their local names.
+     *
+     * @param reader The XML stream reader positioned on a start element
+     * @return The attributes
+     */
+    private static Map<String, String> readAttributes(XMLStreamReader reader) {
+        var count = reader.getAttributeCount();
+        if (count == 0) {
+            return Map.of();
+        }
+
+        var attributes = new HashMap<String, String>(count * 2);
+        for (var index = 0; index < count; index++) {
+            attributes.putIfAbsent(reader.getAttributeLocalName(index), reader.getAttributeValue(index));
+        }
+
+        return attributes;
+    }
+
+    /**
+     * Reads the bounds of a shape.
+     *
+     * @param reader The XML stream reader positioned on a {@code dc:Bounds} element
+     * @return The bounds
+     */
+    private static Bounds readBounds(XMLStreamReader reader) {
+        return new Bounds(readNumber(reader, "x"), readNumber(reader, "y"),
+                readNumber(reader, "width"), readNumber(reader, "height"));
+    }
+
+    /**
+     * Reads a numeric attribute.
+     *
+     * @param reader The XML stream reader positioned on a start element
+     * @param name   The name of the attribute
+     * @return The value, or 0 if the attribute is missing or not a number
+     */
+    private static double readNumber(XMLStreamReader reader, String name) {
+        try {
+            var value = reader.getAttributeValue(null, name);
+            return isNull(value) ? 0 : Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Converts the local name of an XML element to the type of the model element, e.g. {@code startEvent}
+     * to {@code StartEvent}.
+     *
+     * @param localName The local name
+     * @return The type
+     */
+    private static String toType(String localName) {
+        return Character.toUpperCase(localName.charAt(0)) + localName.substring(1);
+    }
+
+    /**
+     * Creates the XML input factory with DTDs and external entities disabled.
+     *
+     * @return The XML input factory
+     */
+    private static XMLInputFactory createInputFactory() {
+        var factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
@@ -0,0 +1,96 @@
+package dev.camunda.bpmn.editor.lint.engine;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NoArgsConstructor;
+
+/**
+ * The type hierarchy of the BPMN 2.0 model elements the lint rules distinguish,
+ * e.g. a {@code UserTask} is a {@code Task}, an {@code Activity}, a {@code FlowNode} and a {@code FlowElement}.
+ * Types which are not part of the hierarchy are only instances of themselves.
+ *
+ * @author Oleksandr Havrysh
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class BpmnTypes {
+
+    private static final Map<String, String> SUPER_TYPES = new HashMap<>();
+    private static final Map<String, Set<String>> TYPE_HIERARCHIES = new ConcurrentHashMap<>();
+
+    static {
+        superType("FlowElement", "BaseElement");
+        superType("FlowNode", "FlowElement");
+        superType("SequenceFlow", "FlowElement");
+        superType("DataObjectReference", "FlowElement");
+        superType("DataStoreReference", "FlowElement");
+
+        superType("Activity", "FlowNode");
+        superType("Task", "Activity");
+        superType("CallActivity", "Activity");
+        superType("SubProcess", "Activity");
+        superType("AdHocSubProcess", "SubProcess");
+        superType("Transaction", "SubProcess");
+        for (var task : new String[]{"UserTask", "ServiceTask", "ScriptTask", "BusinessRuleTask", "SendTask",
+                "ReceiveTask", "ManualTask"}) {
+            superType(task, "Task");
+        }
+
+        superType("Event", "FlowNode");
+        superType("CatchEvent", "Event");
+        superType("ThrowEvent", "Event");
+        superType("StartEvent", "CatchEvent");
+        superType("IntermediateCatchEvent", "CatchEvent");
+        superType("BoundaryEvent", "CatchEvent");
+        superType("EndEvent", "ThrowEvent");
+        superType("IntermediateThrowEvent", "ThrowEvent");
+
+        superType("Gateway", "FlowNode");
+        for (var gateway : new String[]{"ExclusiveGateway", "ParallelGateway", "InclusiveGateway", "ComplexGateway",
+                "EventBasedGateway"}) {
+            superType(gateway, "Gateway");
+        }
+
+        superType("RootElement", "BaseElement");
+        for (var rootElement : new String[]{"Process", "Collaboration", "Message", "Signal", "Error", "Escalation"}) {
+            superType(rootElement, "RootElement");
+        }
+
+        superType("Artifact", "BaseElement");
+        for (var artifact : new String[]{"Association", "TextAnnotation", "Group"}) {
+            superType(artifact, "Artifact");
+        }
+    }
+
+    /**
+     * Returns the type together with all its supertypes.
+     * The result is computed once per type and shared by all elements of the type.
+     *
+     * @param type The type of an element, e.g. {@code UserTask}
+     * @return The type and its supertypes, e.g. {@code UserTask}, {@code Task}, {@code Activity}, ...
+     */
+    static Set<String> getTypeHierarchy(String type) {
+        return TYPE_HIERARCHIES.computeIfAbsent(type, key -> {
+            var hierarchy = new HashSet<String>();
+            for (var current = key; current != null; current = SUPER_TYPES.get(current)) {
+                hierarchy.add(current);
+            }
+
+            return Set.copyOf(hierarchy);
+        });
+    }
+
+    /**
+     * Registers the direct supertype of a type.
+     *
+     * @param type      The type
+     * @param superType The direct supertype
+     */
+    private static void superType(String type, String superType) {
+        SUPER_TYPES.put(type, superType);
+    }
+}
@@ -0,0 +1,130 @@
+package dev.camunda.bpmn.editor.lint.engine;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import dev.camunda.bpmn.editor.lint.rule.LintRules;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The rule severities of a {@code .bpmnlintrc} configuration.
+ *
+ * <p>The {@code bpmnlint:recommended} and {@code bpmnlint:all} configs are expanded, the severities
+ * of the {@code rules} override them. Rules and configs of lint plugins are not supported by the Java
+ * lint engine and are ignored.</p>
+ *
+ * @param severities The severities of the configured rules by rule name
+ * @author Oleksandr Havrysh
+ */
+public record LintConfig(Map<String, LintSeverity> severities) {
+
+    public static final String BPMNLINTRC = ".bpmnlintrc";
+
+    private static final String EXTENDS = "extends";
+    private static final String RULES = "rules";
+    private static final String RECOMMENDED = "bpmnlint:recommended";
+    private static final String ALL = "bpmnlint:all";
+    private static final String BPMNLINT_PREFIX = "bpmnlint/";
+
+    /**
+     * Returns the configuration of the {@code bpmnlint:recommended} rule set.
+     *
+     * @return The recommended configuration
+     */
+    public static LintConfig recommended() {
+        return new LintConfig(LintRules.recommended());
+    }
+
+    /**
+     * Parses a {@code .bpmnlintrc} configuration.
+     *
+     * @param bpmnlintrc The content of the {@code .bpmnlintrc} file
+     * @return The configuration
+     * @throws IllegalArgumentException if the content is not a JSON object
+     */
+    public static LintConfig parse(String bpmnlintrc) {
+        try {
+            var json = JsonParser.parseString(bpmnlintrc);
+            if (!json.isJsonObject()) {
+                throw new IllegalArgumentException("The .bpmnlintrc must be a JSON object");
+            }
+
+            var config = json.getAsJsonObject();
+            var severities = new LinkedHashMap<String, LintSeverity>();
+            if (config.has(EXTENDS)) {
+                toList(config.get(EXTENDS)).forEach(name -> extend(name, severities));
+            }
+
+            if (config.has(RULES) && config.get(RULES).isJsonObject()) {
+                config.getAsJsonObject(RULES).entrySet().forEach(rule -> {
+                    var name = rule.getKey().startsWith(BPMNLINT_PREFIX)
+                            ? rule.getKey().substring(BPMNLINT_PREFIX.length())
+                            : rule.getKey();
+                    parseSeverity(rule.getValue()).ifPresent(severity -> severities.put(name, severity));
+                });
+            }
+
+            return new LintConfig(Collections.unmodifiableMap(severities));
+        } catch (JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+            throw new IllegalArgumentException("Invalid .bpmnlintrc: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the severity of a rule.
+     *
+     * @param rule The name of the rule
+     * @return The configured severity, {@link LintSeverity#OFF} if the rule is not configured
+     */
+    public LintSeverity getSeverity(String rule) {
+        return severities.getOrDefault(rule, LintSeverity.OFF);
+    }
+
+    /**
+     * Adds the severities of an extended bpmnlint config.
+     *
+     * @param name       The name of the extended config
+     * @param severities The severities collected so far
+     */
+    private static void extend(String name, Map<String, LintSeverity> severities) {
+        if (RECOMMENDED.equals(name)) {
+            severities.putAll(LintRules.recommended());
+        } else if (ALL.equals(name)) {
+            LintRules.names().forEach(rule -> severities.put(rule, LintSeverity.ERROR));
+        }
+    }
+
+    /**
+     * Parses the severity of a rule, given as a severity or as an array of the severity and the rule options.
+     *
+     * @param value The configured value
+     * @return The severity, or empty if the value is not a known severity
+     */
+    private static Optional<LintSeverity> parseSeverity(JsonElement value) {
+        var severity = value.isJsonArray() && !value.getAsJsonArray().isEmpty()
+                ? value.getAsJsonArray().get(0)
+                : value;
+        return severity.isJsonPrimitive() ? LintSeverity.parse(severity.getAsString()) : Optional.empty();
+    }
+
+    /**
+     * Converts a single value or an array of values to a list of strings.
+     *
+     * @param value The value
+     * @return The string values
+     */
+    private static List<String> toList(JsonElement value) {
+        if (!value.isJsonArray()) {
+            return List.of(value.getAsString());
+        }
+
+        var values = new ArrayList<String>();
+        value.getAsJsonArray().forEach(element -> values.add(element.getAsString()));
+        return values;
+    }
+}
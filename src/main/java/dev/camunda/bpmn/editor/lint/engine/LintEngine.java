@@ -0,0 +1,88 @@
+package dev.camunda.bpmn.editor.lint.engine;
+
+import dev.camunda.bpmn.editor.lint.rule.LintRules;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Lints BPMN 2.0 models with the Java implementation of the bpmnlint rules, without a browser.
+ *
+ * <p>The enabled rules are selected from the {@link LintConfig} once, when the engine is created.
+ * Linting reads the model with a single streaming pass and calls every enabled rule for every element.
+ * The results have the shape of the bpmnlint results: the reports of every rule with at least one report,
+ * by rule name, each report with the id of the element, the message and the severity category.</p>
+ *
+ * <p>The engine is immutable and can be shared between threads.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public final class LintEngine {
+
+    private final List<ConfiguredRule> rules;
+
+    /**
+     * Creates an engine running the rules enabled in the configuration.
+     * Configured rules without a Java implementation are ignored.
+     *
+     * @param config The lint configuration
+     */
+    public LintEngine(LintConfig config) {
+        var configuredRules = new ArrayList<ConfiguredRule>();
+        config.severities().forEach((name, severity) -> {
+            if (severity != LintSeverity.OFF) {
+                LintRules.find(name).ifPresent(rule -> configuredRules.add(new ConfiguredRule(rule, severity)));
+            }
+        });
+
+        this.rules = List.copyOf(configuredRules);
+    }
+
+    /**
+     * Reads and lints a BPMN 2.0 model.
+     *
+     * @param inputStream The BPMN 2.0 XML
+     * @return The reports by rule name
+     * @throws XMLStreamException if the XML is malformed or not a BPMN model
+     */
+    public Map<String, List<LintReport>> lint(InputStream inputStream) throws XMLStreamException {
+        return lint(BpmnModelReader.read(inputStream));
+    }
+
+    /**
+     * Lints a BPMN 2.0 model.
+     *
+     * @param model The model
+     * @return The reports by rule name, only rules with reports are included
+     */
+    public Map<String, List<LintReport>> lint(BpmnModel model) {
+        var results = new LinkedHashMap<String, List<LintReport>>();
+        for (var configuredRule : rules) {
+            var rule = configuredRule.rule();
+            var category = configuredRule.severity().getCategory();
+            var reports = new ArrayList<LintReport>();
+            LintReporter reporter = (id, message) -> reports.add(new LintReport(id, message, category));
+            for (var element : model.elements()) {
+                rule.check(element, model, reporter);
+            }
+
+            if (!reports.isEmpty()) {
+                results.put(rule.getName(), reports);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * An enabled rule with its configured severity.
+     *
+     * @param rule     The rule
+     * @param severity The severity
+     */
+    private record ConfiguredRule(LintRule rule, LintSeverity severity) {
+    }
+}
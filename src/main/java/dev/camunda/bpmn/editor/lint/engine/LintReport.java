@@ -0,0 +1,12 @@
+package dev.camunda.bpmn.editor.lint.engine;
+
+/**
+ * A lint result in the shape of a bpmnlint report.
+ *
+ * @param id       The id of the reported element
+ * @param message  The message of the report
+ * @param category The severity category of the rule, {@code error}, {@code warn} or {@code info}
+ * @author Oleksandr Havrysh
+ */
+public record LintReport(String id, String message, String category) {
+}
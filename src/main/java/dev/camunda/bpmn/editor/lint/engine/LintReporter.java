@@ -0,0 +1,18 @@
+package dev.camunda.bpmn.editor.lint.engine;
+
+/**
+ * Collects the reports of a lint rule.
+ *
+ * @author Oleksandr Havrysh
+ */
+@FunctionalInterface
+public interface LintReporter {
+
+    /**
+     * Reports a problem of a model element.
+     *
+     * @param id      The id of the element
+     * @param message The message describing the problem
+     */
+    void report(String id, String message);
+}
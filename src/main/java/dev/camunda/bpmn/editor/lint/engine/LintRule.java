@@ -0,0 +1,28 @@
+package dev.camunda.bpmn.editor.lint.engine;
+
+/**
+ * A lint rule checking BPMN model elements, the Java counterpart of a bpmnlint rule.
+ * The rule is called for every element of the model in document order.
+ *
+ * <p>Rules must be stateless, the same instance is used for all models.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public interface LintRule {
+
+    /**
+     * Returns the name of the rule, e.g. {@code label-required}.
+     *
+     * @return The name of the rule
+     */
+    String getName();
+
+    /**
+     * Checks a model element and reports its problems.
+     *
+     * @param element  The element to check
+     * @param model    The model of the element
+     * @param reporter The reporter of the problems
+     */
+    void check(BpmnElement element, BpmnModel model, LintReporter reporter);
+}
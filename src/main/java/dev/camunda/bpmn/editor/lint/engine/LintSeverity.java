@@ -0,0 +1,40 @@
+package dev.camunda.bpmn.editor.lint.engine;
+
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The severity of a lint rule, as configured in {@code .bpmnlintrc}.
+ * The category is reported with every result of the rule, like in bpmnlint.
+ *
+ * @author Oleksandr Havrysh
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LintSeverity {
+
+    OFF("off"),
+    INFO("info"),
+    WARN("warn"),
+    ERROR("error");
+
+    private final String category;
+
+    /**
+     * Parses a severity given by its name or by its bpmnlint number, {@code 0} for off, {@code 1} for warn
+     * and {@code 2} for error.
+     *
+     * @param value The configured severity
+     * @return The severity, or empty if the value is not a known severity
+     */
+    public static Optional<LintSeverity> parse(String value) {
+        return switch (value) {
+            case "off", "0" -> Optional.of(OFF);
+            case "info" -> Optional.of(INFO);
+            case "warn", "warning", "1" -> Optional.of(WARN);
+            case "error", "2" -> Optional.of(ERROR);
+            default -> Optional.empty();
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code ad-hoc-sub-process} rule: an ad-hoc sub process must not contain start and end events,
+ * and its intermediate catch events must have an outgoing sequence flow.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class AdHocSubProcessRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "ad-hoc-sub-process";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.is("AdHocSubProcess")) {
+            return;
+        }
+
+        for (var flowElement : element.getFlowElements()) {
+            if (flowElement.is("StartEvent")) {
+                reporter.report(flowElement.getId(), "A <Start Event> is not allowed in <Ad Hoc Sub Process>");
+            } else if (flowElement.is("EndEvent")) {
+                reporter.report(flowElement.getId(), "An <End Event> is not allowed in <Ad Hoc Sub Process>");
+            } else if (flowElement.is("IntermediateCatchEvent") && flowElement.getOutgoing().isEmpty()) {
+                reporter.report(flowElement.getId(), "An intermediate catch event inside <Ad Hoc Sub Process> "
+                        + "must have an outgoing sequence flow");
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import static java.util.Objects.isNull;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code conditional-flows} rule: when a flow node splits into several sequence flows,
+ * every sequence flow except the default flow must have a condition.
+ * Parallel and event-based gateways split unconditionally and are not checked.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class ConditionalFlowsRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "conditional-flows";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.is("FlowNode") || element.isAny("ParallelGateway", "EventBasedGateway")) {
+            return;
+        }
+
+        var outgoing = element.getOutgoing();
+        if (outgoing.size() < 2) {
+            return;
+        }
+
+        for (var flow : outgoing) {
+            if (isNull(flow.getConditionExpression()) && !element.isDefaultFlow(flow)) {
+                reporter.report(flow.getId(), "Sequence flow is missing condition");
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Base class of the rules discouraging the use of an element type.
+ *
+ * @author Oleksandr Havrysh
+ */
+@RequiredArgsConstructor
+public abstract class DiscouragedTypeRule implements LintRule {
+
+    @Getter
+    private final String name;
+    private final String type;
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (element.is(type)) {
+            reporter.report(element.getId(), "Element type <bpmn:%s> is discouraged".formatted(type));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import static java.util.Objects.nonNull;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code event-based-gateway} rule: an event-based gateway must have at least two outgoing sequence flows,
+ * each leading to an intermediate catch event or a receive task.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class EventBasedGatewayRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "event-based-gateway";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.is("EventBasedGateway")) {
+            return;
+        }
+
+        if (element.getOutgoing().size() < 2) {
+            reporter.report(element.getId(), "Event-based gateway must have at least two outgoing sequence flows");
+        }
+
+        for (var flow : element.getOutgoing()) {
+            var target = flow.getTarget();
+            if (nonNull(target) && !target.isAny("IntermediateCatchEvent", "ReceiveTask")) {
+                reporter.report(target.getId(),
+                        "Event-based gateway target must be an intermediate catch event or a receive task");
+            }
+        }
+    }
+}
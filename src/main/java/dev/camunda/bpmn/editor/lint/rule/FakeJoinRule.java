@@ -0,0 +1,26 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code fake-join} rule: only gateways may join several incoming sequence flows.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class FakeJoinRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "fake-join";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (element.is("FlowNode") && !element.is("Gateway") && element.getIncoming().size() > 1) {
+            reporter.report(element.getId(), "Incoming flows do not join");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import static java.util.Objects.nonNull;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * The {@code global} rule: global messages, signals, errors and escalations must be referenced
+ * and their names must be unique among the global elements of the same type.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class GlobalRule implements LintRule {
+
+    private static final List<String> GLOBAL_TYPES = List.of("Message", "Signal", "Error", "Escalation");
+    private static final List<String> REFERENCES = List.of("messageRef", "signalRef", "errorRef", "escalationRef");
+
+    @Override
+    public String getName() {
+        return "global";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (element != model.definitions()) {
+            return;
+        }
+
+        var referenced = new HashSet<String>();
+        for (var modelElement : model.elements()) {
+            for (var reference : REFERENCES) {
+                var id = modelElement.getAttribute(reference);
+                if (nonNull(id)) {
+                    referenced.add(id);
+                }
+            }
+        }
+
+        var names = new HashSet<String>();
+        for (var rootElement : element.getChildren()) {
+            if (!GLOBAL_TYPES.contains(rootElement.getType())) {
+                continue;
+            }
+
+            if (!referenced.contains(rootElement.getId())) {
+                reporter.report(rootElement.getId(), "Element is unused");
+            }
+
+            if (nonNull(rootElement.getName()) && !names.add(rootElement.getType() + ":" + rootElement.getName())) {
+                reporter.report(rootElement.getId(),
+                        "Element name <%s> is not unique".formatted(rootElement.getName()));
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import static java.util.Objects.isNull;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code label-required} rule: flow nodes, participants and lanes must have a name.
+ * Boundary events, parallel and event-based gateways and gateways which do not fork are exempt.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class LabelRequiredRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "label-required";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.isAny("FlowNode", "Participant", "Lane")
+                || element.isAny("BoundaryEvent", "ParallelGateway", "EventBasedGateway")
+                || (element.is("Gateway") && element.getOutgoing().size() < 2)) {
+            return;
+        }
+
+        if (isNull(element.getName()) || element.getName().isBlank()) {
+            reporter.report(element.getId(), "Element is missing label/name");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+
+/**
+ * The {@code link-event} rule: link events must be named, every link throw event must have a link catch event
+ * with the same name in its scope and the names of the link catch events of a scope must be unique.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class LinkEventRule implements LintRule {
+
+    private static final String LINK_EVENT_DEFINITION = "LinkEventDefinition";
+
+    @Override
+    public String getName() {
+        return "link-event";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.isAny("Process", "SubProcess")) {
+            return;
+        }
+
+        var catchNames = new HashSet<String>();
+        var throwEvents = new LinkedHashMap<BpmnElement, String>();
+        for (var flowElement : element.getFlowElements()) {
+            if (!flowElement.isAny("IntermediateCatchEvent", "IntermediateThrowEvent")
+                    || !flowElement.hasEventDefinition(LINK_EVENT_DEFINITION)) {
+                continue;
+            }
+
+            var name = getLinkName(flowElement);
+            if (isNull(name)) {
+                reporter.report(flowElement.getId(), "Link event is missing name");
+            } else if (flowElement.is("IntermediateThrowEvent")) {
+                throwEvents.put(flowElement, name);
+            } else if (!catchNames.add(name)) {
+                reporter.report(flowElement.getId(), "Duplicate link catch event with name <%s>".formatted(name));
+            }
+        }
+
+        throwEvents.forEach((throwEvent, name) -> {
+            if (!catchNames.contains(name)) {
+                reporter.report(throwEvent.getId(), "Missing link catch event with name <%s>".formatted(name));
+            }
+        });
+    }
+
+    /**
+     * Returns the name of the link, the name of the link event definition or, if missing, of the event.
+     *
+     * @param event The link event
+     * @return The name of the link, or null if the link is not named
+     */
+    private static String getLinkName(BpmnElement event) {
+        var definitionName = event.getEventDefinitions().stream()
+                .filter(definition -> LINK_EVENT_DEFINITION.equals(definition.getType()))
+                .map(BpmnElement::getName)
+                .filter(name -> nonNull(name) && !name.isBlank())
+                .findFirst();
+        if (definitionName.isPresent()) {
+            return definitionName.get().trim();
+        }
+
+        if (nonNull(event.getName()) && !event.getName().isBlank()) {
+            return event.getName().trim();
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,126 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+import dev.camunda.bpmn.editor.lint.engine.LintSeverity;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.NoArgsConstructor;
+
+/**
+ * The registry of the Java implementations of the bpmnlint rules, together with the severities
+ * of the {@code bpmnlint:recommended} config and helpers shared by the rules.
+ *
+ * @author Oleksandr Havrysh
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class LintRules {
+
+    private static final Map<String, LintRule> RULES = new LinkedHashMap<>();
+    private static final Map<String, LintSeverity> RECOMMENDED = new LinkedHashMap<>();
+
+    static {
+        register(new AdHocSubProcessRule(), LintSeverity.ERROR);
+        register(new ConditionalFlowsRule(), LintSeverity.ERROR);
+        register(new EndEventRequiredRule(), LintSeverity.ERROR);
+        register(new EventBasedGatewayRule(), LintSeverity.ERROR);
+        register(new EventSubProcessTypedStartEventRule(), LintSeverity.ERROR);
+        register(new FakeJoinRule(), LintSeverity.WARN);
+        register(new GlobalRule(), LintSeverity.WARN);
+        register(new LabelRequiredRule(), LintSeverity.ERROR);
+        register(new LinkEventRule(), LintSeverity.ERROR);
+        register(new NoBpmnDiRule(), LintSeverity.ERROR);
+        register(new NoComplexGatewayRule(), LintSeverity.ERROR);
+        register(new NoDisconnectedRule(), LintSeverity.ERROR);
+        register(new NoDuplicateSequenceFlowsRule(), LintSeverity.ERROR);
+        register(new NoGatewayJoinForkRule(), LintSeverity.ERROR);
+        register(new NoImplicitEndRule(), LintSeverity.ERROR);
+        register(new NoImplicitSplitRule(), LintSeverity.ERROR);
+        register(new NoImplicitStartRule(), LintSeverity.ERROR);
+        register(new NoInclusiveGatewayRule(), LintSeverity.ERROR);
+        register(new NoOverlappingElementsRule(), LintSeverity.WARN);
+        register(new SingleBlankStartEventRule(), LintSeverity.ERROR);
+        register(new SingleEventDefinitionRule(), LintSeverity.ERROR);
+        register(new StartEventRequiredRule(), LintSeverity.ERROR);
+        register(new SubProcessBlankStartEventRule(), LintSeverity.ERROR);
+        register(new SuperfluousGatewayRule(), LintSeverity.WARN);
+        register(new SuperfluousTerminationRule(), LintSeverity.WARN);
+    }
+
+    /**
+     * Finds a rule by its name.
+     *
+     * @param name The name of the rule, e.g. {@code label-required}
+     * @return The rule, or empty if the rule has no Java implementation
+     */
+    public static Optional<LintRule> find(String name) {
+        return Optional.ofNullable(RULES.get(name));
+    }
+
+    /**
+     * Returns the names of all rules.
+     *
+     * @return The rule names
+     */
+    public static Set<String> names() {
+        return Collections.unmodifiableSet(RULES.keySet());
+    }
+
+    /**
+     * Returns the severities of the {@code bpmnlint:recommended} config.
+     *
+     * @return The severities by rule name
+     */
+    public static Map<String, LintSeverity> recommended() {
+        return Collections.unmodifiableMap(RECOMMENDED);
+    }
+
+    /**
+     * Checks whether the element is a process or a sub process which must have start and end events,
+     * i.e. not an ad-hoc sub process.
+     *
+     * @param element The element
+     * @return true for processes and sub processes except ad-hoc sub processes
+     */
+    static boolean isProcessOrSubProcess(BpmnElement element) {
+        return element.is("Process") || (element.is("SubProcess") && !element.is("AdHocSubProcess"));
+    }
+
+    /**
+     * Returns the label of a process or sub process used in the messages.
+     *
+     * @param element The process or sub process
+     * @return {@code Sub process} or {@code Process}
+     */
+    static String getContainerLabel(BpmnElement element) {
+        return element.is("SubProcess") ? "Sub process" : "Process";
+    }
+
+    /**
+     * Checks whether the flow node is not expected to be connected by sequence flows: event sub processes,
+     * compensation activities and boundary events and the elements of ad-hoc sub processes.
+     *
+     * @param element The flow node
+     * @return true if the flow node does not need sequence flows
+     */
+    static boolean isExemptFromFlow(BpmnElement element) {
+        return element.isTriggeredByEvent() || element.isForCompensation() || element.isCompensationBoundary()
+                || element.isInAdHocSubProcess();
+    }
+
+    /**
+     * Registers a rule with its recommended severity.
+     *
+     * @param rule     The rule
+     * @param severity The severity of the rule in the {@code bpmnlint:recommended} config
+     */
+    private static void register(LintRule rule, LintSeverity severity) {
+        RULES.put(rule.getName(), rule);
+        RECOMMENDED.put(rule.getName(), severity);
+    }
+}
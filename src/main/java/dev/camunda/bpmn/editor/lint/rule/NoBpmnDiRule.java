@@ -0,0 +1,31 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code no-bpmndi} rule: every visual model element must have a shape or an edge in the diagram.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class NoBpmnDiRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "no-bpmndi";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.isAny("FlowNode", "SequenceFlow", "MessageFlow", "Participant", "Lane", "DataObjectReference",
+                "DataStoreReference", "TextAnnotation", "Association", "Group")) {
+            return;
+        }
+
+        if (!element.isVisualized()) {
+            reporter.report(element.getId(), "Element is missing bpmndi");
+        }
+    }
+}
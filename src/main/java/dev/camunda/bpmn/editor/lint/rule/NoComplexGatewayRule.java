@@ -0,0 +1,16 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+/**
+ * The {@code no-complex-gateway} rule: complex gateways are discouraged.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class NoComplexGatewayRule extends DiscouragedTypeRule {
+
+    /**
+     * Creates the rule.
+     */
+    public NoComplexGatewayRule() {
+        super("no-complex-gateway", "ComplexGateway");
+    }
+}
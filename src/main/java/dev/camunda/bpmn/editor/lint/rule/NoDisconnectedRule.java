@@ -0,0 +1,32 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code no-disconnected} rule: tasks, gateways, sub processes and events must be connected
+ * by sequence flows. Event sub processes, compensation activities and boundary events and the elements
+ * of ad-hoc sub processes are exempt.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class NoDisconnectedRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "no-disconnected";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.isAny("Task", "Gateway", "SubProcess", "Event") || LintRules.isExemptFromFlow(element)) {
+            return;
+        }
+
+        if (element.getIncoming().isEmpty() && element.getOutgoing().isEmpty()) {
+            reporter.report(element.getId(), "Element is not connected");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import static java.util.Objects.isNull;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+import java.util.HashSet;
+
+/**
+ * The {@code no-duplicate-sequence-flows} rule: two sequence flows must not connect the same source
+ * and target with the same condition. The duplicate flows are reported together with their source and target.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class NoDuplicateSequenceFlowsRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "no-duplicate-sequence-flows";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.is("FlowNode")) {
+            return;
+        }
+
+        if (element.getOutgoing().size() > 1) {
+            var keys = new HashSet<String>();
+            var hasDuplicates = false;
+            for (var flow : element.getOutgoing()) {
+                if (!keys.add(toKey(flow))) {
+                    hasDuplicates = true;
+                    reporter.report(flow.getId(), "SequenceFlow is a duplicate");
+                }
+            }
+
+            if (hasDuplicates) {
+                reporter.report(element.getId(), "Duplicate outgoing sequence flows");
+            }
+        }
+
+        if (element.getIncoming().size() > 1) {
+            var keys = new HashSet<String>();
+            if (!element.getIncoming().stream().allMatch(flow -> keys.add(toKey(flow)))) {
+                reporter.report(element.getId(), "Duplicate incoming sequence flows");
+            }
+        }
+    }
+
+    /**
+     * Returns the key identifying the connection and the condition of a sequence flow.
+     *
+     * @param flow The sequence flow
+     * @return The key
+     */
+    private static String toKey(BpmnElement flow) {
+        var condition = flow.getConditionExpression();
+        return flow.getAttribute("sourceRef") + "\n" + flow.getAttribute("targetRef") + "\n"
+                + (isNull(condition) ? "" : condition.getText());
+    }
+}
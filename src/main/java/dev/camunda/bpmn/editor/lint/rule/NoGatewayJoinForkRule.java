@@ -0,0 +1,26 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code no-gateway-join-fork} rule: a gateway must not join and fork at the same time.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class NoGatewayJoinForkRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "no-gateway-join-fork";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (element.is("Gateway") && element.getIncoming().size() > 1 && element.getOutgoing().size() > 1) {
+            reporter.report(element.getId(), "Gateway forks and joins");
+        }
+    }
+}
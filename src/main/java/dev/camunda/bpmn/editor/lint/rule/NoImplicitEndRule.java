@@ -0,0 +1,33 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code no-implicit-end} rule: every flow node without outgoing sequence flows must be an end event.
+ * Link throw events, event sub processes, compensation activities and boundary events and the elements
+ * of ad-hoc sub processes are exempt.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class NoImplicitEndRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "no-implicit-end";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.is("FlowNode") || element.is("EndEvent") || LintRules.isExemptFromFlow(element)
+                || (element.is("IntermediateThrowEvent") && element.hasEventDefinition("LinkEventDefinition"))) {
+            return;
+        }
+
+        if (element.getOutgoing().isEmpty()) {
+            reporter.report(element.getId(), "Element is an implicit end");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import static java.util.Objects.isNull;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code no-implicit-split} rule: only gateways may split into several unconditional sequence flows.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class NoImplicitSplitRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "no-implicit-split";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.is("FlowNode") || element.is("Gateway")) {
+            return;
+        }
+
+        var unconditional = element.getOutgoing().stream()
+                .filter(flow -> isNull(flow.getConditionExpression()) && !element.isDefaultFlow(flow))
+                .count();
+        if (unconditional > 1) {
+            reporter.report(element.getId(), "Flow splits implicitly");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code no-implicit-start} rule: every flow node without incoming sequence flows must be a start event.
+ * Boundary events, link catch events, event sub processes, compensation activities and the elements
+ * of ad-hoc sub processes are exempt.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class NoImplicitStartRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "no-implicit-start";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.is("FlowNode") || element.isAny("StartEvent", "BoundaryEvent")
+                || LintRules.isExemptFromFlow(element)
+                || (element.is("IntermediateCatchEvent") && element.hasEventDefinition("LinkEventDefinition"))) {
+            return;
+        }
+
+        if (element.getIncoming().isEmpty()) {
+            reporter.report(element.getId(), "Element is an implicit start");
+        }
+    }
+}
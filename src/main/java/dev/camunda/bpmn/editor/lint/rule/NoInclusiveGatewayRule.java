@@ -0,0 +1,16 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+/**
+ * The {@code no-inclusive-gateway} rule: inclusive gateways are discouraged.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class NoInclusiveGatewayRule extends DiscouragedTypeRule {
+
+    /**
+     * Creates the rule.
+     */
+    public NoInclusiveGatewayRule() {
+        super("no-inclusive-gateway", "InclusiveGateway");
+    }
+}
@@ -0,0 +1,58 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import static java.util.Objects.nonNull;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+
+/**
+ * The {@code no-overlapping-elements} rule: the shapes of the flow nodes of a process or sub process
+ * must not overlap. Boundary events, which are attached to their host, are exempt.
+ *
+ * <p>The shapes of a scope are swept from left to right, so only shapes overlapping horizontally
+ * are compared with each other instead of comparing all pairs.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public class NoOverlappingElementsRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "no-overlapping-elements";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.isAny("Process", "SubProcess")) {
+            return;
+        }
+
+        var shapes = element.getFlowElements().stream()
+                .filter(flowElement -> flowElement.is("FlowNode") && !flowElement.is("BoundaryEvent"))
+                .filter(flowElement -> nonNull(flowElement.getBounds()))
+                .sorted(Comparator.comparingDouble(flowElement -> flowElement.getBounds().x()))
+                .toList();
+
+        var overlapping = new LinkedHashSet<BpmnElement>();
+        var active = new ArrayList<BpmnElement>();
+        for (var shape : shapes) {
+            var bounds = shape.getBounds();
+            active.removeIf(other -> other.getBounds().x() + other.getBounds().width() <= bounds.x());
+            for (var other : active) {
+                if (bounds.overlaps(other.getBounds())) {
+                    overlapping.add(other);
+                    overlapping.add(shape);
+                }
+            }
+
+            active.add(shape);
+        }
+
+        overlapping.forEach(shape -> reporter.report(shape.getId(), "Element overlaps with other element"));
+    }
+}
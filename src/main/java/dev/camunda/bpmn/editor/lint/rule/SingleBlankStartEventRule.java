@@ -0,0 +1,35 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code single-blank-start-event} rule: a process or sub process must not have more than one
+ * blank start event.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class SingleBlankStartEventRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "single-blank-start-event";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.isAny("Process", "SubProcess")) {
+            return;
+        }
+
+        var blankStartEvents = element.getFlowElements().stream()
+                .filter(flowElement -> flowElement.is("StartEvent") && flowElement.getEventDefinitions().isEmpty())
+                .count();
+        if (blankStartEvents > 1) {
+            reporter.report(element.getId(),
+                    LintRules.getContainerLabel(element) + " has multiple blank start events");
+        }
+    }
+}
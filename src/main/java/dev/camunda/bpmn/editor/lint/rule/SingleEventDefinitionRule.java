@@ -0,0 +1,26 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code single-event-definition} rule: an event must not have more than one event definition.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class SingleEventDefinitionRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "single-event-definition";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (element.is("Event") && element.getEventDefinitions().size() > 1) {
+            reporter.report(element.getId(), "Event has multiple event definitions");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code start-event-required} rule: every process and sub process, except ad-hoc sub processes,
+ * must contain a start event.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class StartEventRequiredRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "start-event-required";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!LintRules.isProcessOrSubProcess(element)) {
+            return;
+        }
+
+        if (element.getFlowElements().stream().noneMatch(flowElement -> flowElement.is("StartEvent"))) {
+            reporter.report(element.getId(), LintRules.getContainerLabel(element) + " is missing start event");
+        }
+    }
+}
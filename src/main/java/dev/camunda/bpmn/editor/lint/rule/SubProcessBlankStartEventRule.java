@@ -0,0 +1,33 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code sub-process-blank-start-event} rule: the start events of a sub process, which is not
+ * an event sub process, must be blank.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class SubProcessBlankStartEventRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "sub-process-blank-start-event";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.is("SubProcess") || element.isTriggeredByEvent()) {
+            return;
+        }
+
+        for (var flowElement : element.getFlowElements()) {
+            if (flowElement.is("StartEvent") && !flowElement.getEventDefinitions().isEmpty()) {
+                reporter.report(flowElement.getId(), "Start event must be blank");
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code superfluous-gateway} rule: a gateway with a single incoming and a single outgoing sequence flow
+ * has no effect.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class SuperfluousGatewayRule implements LintRule {
+
+    @Override
+    public String getName() {
+        return "superfluous-gateway";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (element.is("Gateway") && element.getIncoming().size() == 1 && element.getOutgoing().size() == 1) {
+            reporter.report(element.getId(), "Gateway is superfluous. It only has one source and target.");
+        }
+    }
+}
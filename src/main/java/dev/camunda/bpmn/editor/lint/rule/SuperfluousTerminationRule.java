@@ -0,0 +1,70 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import static java.util.Objects.isNull;
+
+import dev.camunda.bpmn.editor.lint.engine.BpmnElement;
+import dev.camunda.bpmn.editor.lint.engine.BpmnModel;
+import dev.camunda.bpmn.editor.lint.engine.LintReporter;
+import dev.camunda.bpmn.editor.lint.engine.LintRule;
+
+/**
+ * The {@code superfluous-termination} rule: terminate end events are superfluous in a process or sub process
+ * which never runs parallel paths, because a plain end event ends it as well.
+ *
+ * <p>A scope may run parallel paths when it contains a forking parallel, inclusive or complex gateway,
+ * an implicit split, a non-interrupting boundary event or an event sub process.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public class SuperfluousTerminationRule implements LintRule {
+
+    private static final String TERMINATE_EVENT_DEFINITION = "TerminateEventDefinition";
+
+    @Override
+    public String getName() {
+        return "superfluous-termination";
+    }
+
+    @Override
+    public void check(BpmnElement element, BpmnModel model, LintReporter reporter) {
+        if (!element.isAny("Process", "SubProcess")) {
+            return;
+        }
+
+        var flowElements = element.getFlowElements();
+        if (flowElements.stream().anyMatch(SuperfluousTerminationRule::mayRunInParallel)) {
+            return;
+        }
+
+        for (var flowElement : flowElements) {
+            if (flowElement.is("EndEvent") && flowElement.hasEventDefinition(TERMINATE_EVENT_DEFINITION)) {
+                reporter.report(flowElement.getId(), "Termination is superfluous.");
+            }
+        }
+    }
+
+    /**
+     * Checks whether the flow element may start a parallel path.
+     *
+     * @param flowElement The flow element
+     * @return true if the element may start a parallel path
+     */
+    private static boolean mayRunInParallel(BpmnElement flowElement) {
+        if (flowElement.isAny("ParallelGateway", "InclusiveGateway", "ComplexGateway")) {
+            return flowElement.getOutgoing().size() > 1;
+        }
+
+        if (flowElement.is("BoundaryEvent")) {
+            return "false".equals(flowElement.getAttribute("cancelActivity"));
+        }
+
+        if (flowElement.is("SubProcess") && flowElement.isTriggeredByEvent()) {
+            return true;
+        }
+
+        return flowElement.is("FlowNode") && !flowElement.is("Gateway")
+                && flowElement.getOutgoing().stream()
+                .filter(flow -> isNull(flow.getConditionExpression()) && !flowElement.isDefaultFlow(flow))
+                .count() > 1;
+    }
+}
@@ -1,10 +1,8 @@
 package dev.camunda.bpmn.editor.project;
 
 import static com.intellij.notification.NotificationType.ERROR;
-import static com.intellij.openapi.vfs.VirtualFileUtil.findFileOrDirectory;
-import static java.util.Arrays.copyOfRange;
+import static com.intellij.notification.NotificationType.INFORMATION;
 import static java.util.Objects.isNull;
-import static java.util.stream.Collectors.toSet;
 
 import com.intellij.notification.NotificationGroupManager;
 import com.intellij.openapi.fileEditor.FileEditorManager;
@@ -13,9 +11,9 @@ import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.vfs.VirtualFileUtil;
 import com.intellij.util.concurrency.annotations.RequiresReadLock;
+import dev.camunda.bpmn.editor.lint.LintModuleIndex;
 import java.util.ArrayDeque;
 import java.util.HashSet;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -33,6 +31,7 @@ import java.util.Set;
 public record ProjectService(Project project) {
 
     private static final String NOTIFICATION_ERROR_TITLE = "Camunda BPMN Editor";
+    private static final String NOTIFICATION_INFO_TITLE = "Camunda BPMN Editor";
     private static final String NOTIFICATION_GROUP_ID = "dev.camunda.bpmn.editor.notification";
 
     /**
@@ -47,6 +46,18 @@ public record ProjectService(Project project) {
                 .notify(project);
     }
 
+    /**
+     * Displays an information notification in the IntelliJ IDEA environment.
+     *
+     * @param message The message to be displayed in the notification.
+     */
+    public void showInfoNotification(String message) {
+        NotificationGroupManager.getInstance()
+                .getNotificationGroup(NOTIFICATION_GROUP_ID)
+                .createNotification(NOTIFICATION_INFO_TITLE, message, INFORMATION)
+                .notify(project);
+    }
+
     /**
      * Retrieves the FileEditorManager instance for the current project.
      *
@@ -65,7 +76,21 @@ public record ProjectService(Project project) {
      */
     @RequiresReadLock
     public Optional<String> findContentByPath(String[] path) {
-        return findFilesByPath(path).stream().findFirst().map(VirtualFileUtil::readText);
+        return findFileByPath(path).map(VirtualFileUtil::readText);
+    }
+
+    /**
+     * Finds a file by its path.
+     * The first segment of the path must be a lint plugin directory, a {@code node_modules} directory
+     * or a package inside it, it is resolved with the {@link LintModuleIndex} of the project.
+     * This method requires a read lock on the project model.
+     *
+     * @param path An array of strings representing the path to the file.
+     * @return An Optional containing the file if found, or empty if not found.
+     */
+    @RequiresReadLock
+    public Optional<VirtualFile> findFileByPath(String[] path) {
+        return LintModuleIndex.getInstance(project).findFile(path);
     }
 
     /**
@@ -77,25 +102,19 @@ public record ProjectService(Project project) {
      */
     @RequiresReadLock
     public Optional<String> findContentByFileName(String fileName) {
-        return findFilesByFileName(fileName, true).stream().findFirst().map(VirtualFileUtil::readText);
+        return findFileByFileName(fileName).map(VirtualFileUtil::readText);
     }
 
     /**
-     * Finds a VirtualFile by its path.
+     * Finds the first file with the given name in the project directory and its subdirectories.
+     * This method requires a read lock on the project model.
      *
-     * @param path An array of strings representing the path to the file.
-     * @return An Optional containing the VirtualFile if found, or empty if not found.
+     * @param fileName The name of the file to find.
+     * @return An Optional containing the file if found, or empty if not found.
      */
-    private Set<VirtualFile> findFilesByPath(String[] path) {
-        if (isNull(path) || path.length == 0) {
-            return Set.of();
-        }
-
-        return findFilesByFileName(path[0], false).stream()
-                .map(startDir -> findFileOrDirectory(startDir,
-                        String.join("/", copyOfRange(path, 1, path.length))))
-                .filter(Objects::nonNull)
-                .collect(toSet());
+    @RequiresReadLock
+    public Optional<VirtualFile> findFileByFileName(String fileName) {
+        return findFilesByFileName(fileName, true).stream().findFirst();
     }
 
     /**
@@ -1,35 +1,96 @@
 package dev.camunda.bpmn.editor.server;
 
+import static java.util.UUID.randomUUID;
+
+import com.intellij.openapi.project.ProjectManager;
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
+import dev.camunda.bpmn.editor.lint.LintContentCache;
+import dev.camunda.bpmn.editor.server.asset.LintModuleStore;
+import dev.camunda.bpmn.editor.server.handler.BpmnServerHandler;
 import dev.camunda.bpmn.editor.server.handler.ClipboardServerHandler;
+import dev.camunda.bpmn.editor.server.handler.EventsServerHandler;
+import dev.camunda.bpmn.editor.server.handler.LintModuleServerHandler;
 import dev.camunda.bpmn.editor.server.handler.LintServerHandler;
+import dev.camunda.bpmn.editor.server.handler.MetricsServerHandler;
 import dev.camunda.bpmn.editor.server.handler.UIServerHandler;
+import dev.camunda.bpmn.editor.server.metrics.RouteMetrics;
+import dev.camunda.bpmn.editor.server.metrics.ServerMetrics;
+import dev.camunda.bpmn.editor.settings.BpmnEditorSettings.ExecutorMode;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.Getter;
 
 /**
- * A wrapper class for managing an HTTP server dedicated to the BPMN Editor UI.
+ * A wrapper class for managing the HTTP server dedicated to the BPMN Editor UI.
  * This class encapsulates the creation, configuration, and lifecycle management of an HTTP server
  * that handles requests for the BPMN Editor UI and linting functionality.
  * <p>
- * The server is initialized with two main contexts:
+ * A single server is shared by all opened editors (see {@link ServerService}), so every editor
+ * uses the same origin and the browser cache is reused between them. The server provides:
  * <ul>
- *     <li>BPMN Editor UI: Handles requests related to the BPMN editor user interface</li>
- *     <li>Lint: Handles requests related to linting functionality for BPMN diagrams</li>
+ *     <li>BPMN Editor UI: a shared context serving the static editor resources</li>
+ *     <li>Lint modules: a shared context serving the content addressed lint modules of the {@link LintModuleStore},
+ *     so their paths and the compiled code cached by the browser are the same in every editor</li>
+ *     <li>Editor routes: per-editor contexts (lint, clipboard, events, diagram upload and metrics) prefixed
+ *     with a unique token, registered with {@link #register} and released with {@link ServerRoutes#dispose()}</li>
  * </ul>
  * <p>
+ * The server listens on the loopback address only. The metrics route reports the per-route {@link ServerMetrics},
+ * the request executor counters and the lint content cache counters. It is reachable with an editor token only,
+ * the Help menu action reads the same report with {@link #getMetricsReport()}.
+ * <p>
+ * When the editor UI is served in-process by the browser from {@link #IN_PROCESS_ORIGIN},
+ * the routes answer its cross-origin requests with the matching {@code Access-Control-Allow-Origin} header.
+ * <p>
  * The server is started automatically upon instantiation and can be stopped using the {@link #stop()} method.
  *
  * @author Oleksandr Havrysh
  */
 public class Server {
 
+    /**
+     * The origin of the BPMN Editor UI when it is served in-process by the browser.
+     */
+    public static final String IN_PROCESS_ORIGIN = "http://bpmn-editor.local";
+
     private static final int ZERO = 0;
     private static final String LINT_PATH = "/lint";
     private static final String CLIPBOARD_PATH = "/clipboard";
+    private static final String EVENTS_PATH = "/events";
+    private static final String BPMN_PATH = "/bpmn";
     private static final String BPMN_EDITOR_UI_PATH = "/bpmn-editor-ui";
+    private static final String METRICS_PATH = "/metrics";
+    private static final String ROUTE_PATH = "/%s%s";
+    private static final String EXECUTOR_LINE = "%-16s mode=%s queued=%d inFlight=%d maxQueued=%d maxInFlight=%d completed=%d";
+    private static final String EXECUTOR = "executor";
+    private static final String LINT_CACHE_LINE = "%-16s project=%s hits=%d loads=%d coalesced=%d";
+    private static final String LINT_CACHE = "lint-cache";
+    private static final String ORIGIN = "Origin";
+    private static final String ACCESS_CONTROL_ALLOW_ORIGIN = "Access-Control-Allow-Origin";
+    private static final Filter ALLOW_IN_PROCESS_ORIGIN = Filter.beforeHandler("Allows the in-process origin",
+            exchange -> {
+                if (IN_PROCESS_ORIGIN.equals(exchange.getRequestHeaders().getFirst(ORIGIN))) {
+                    exchange.getResponseHeaders().set(ACCESS_CONTROL_ALLOW_ORIGIN, IN_PROCESS_ORIGIN);
+                }
+            });
 
     private final HttpServer server;
+    private final ServerExecutor executor;
+    private final Map<String, List<HttpContext>> routes = new ConcurrentHashMap<>();
+
+    /**
+     * The request metrics of the server routes.
+     */
+    @Getter
+    private final ServerMetrics metrics = new ServerMetrics();
 
     /**
      * The port number on which the server is listening to.
@@ -40,23 +101,25 @@ public class Server {
 
     /**
      * Constructs a new HttpServerWrapper and initializes the HTTP server.
-     * The server is created with default settings and starts listening on a system-assigned port.
-     * Two contexts are created for handling BPMN Editor UI and linting requests.
+     * The server is created with default settings and starts listening on a system-assigned port
+     * of the loopback address.
+     * Only the shared BPMN Editor UI and lint module contexts are created here, editor specific contexts
+     * are registered with {@link #register}.
      *
-     * @param UIServerHandler the handler for BPMN Editor UI requests
-     * @param lintServerHandler   the handler for linting plugin requests
-     * @param clipboardServerHandler    the handler for clipboard requests
+     * @param uiServerHandler         the handler for BPMN Editor UI requests
+     * @param lintModuleServerHandler the handler for content addressed lint module requests
+     * @param executorMode            the executor mode used to handle the requests
      * @throws RuntimeException if the server creation or start fails
      */
-    public Server(UIServerHandler UIServerHandler,
-                  LintServerHandler lintServerHandler,
-                  ClipboardServerHandler clipboardServerHandler) {
+    public Server(UIServerHandler uiServerHandler,
+                  LintModuleServerHandler lintModuleServerHandler,
+                  ExecutorMode executorMode) {
         try {
-            this.server = HttpServer.create(new InetSocketAddress(ZERO), ZERO);
-            server.createContext(BPMN_EDITOR_UI_PATH, UIServerHandler);
-            server.createContext(LINT_PATH, lintServerHandler);
-            server.createContext(CLIPBOARD_PATH, clipboardServerHandler);
-            server.setExecutor(null);
+            this.executor = new ServerExecutor(executorMode);
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), ZERO), ZERO);
+            createContext(BPMN_EDITOR_UI_PATH, BPMN_EDITOR_UI_PATH, uiServerHandler);
+            createContext(LintModuleStore.PATH, LintModuleStore.PATH, lintModuleServerHandler);
+            server.setExecutor(executor);
             server.start();
 
             this.port = server.getAddress().getPort();
@@ -65,14 +128,96 @@ public class Server {
         }
     }
 
+    /**
+     * Registers the routes of a single editor.
+     * The contexts are prefixed with a newly generated token, so requests of different editors
+     * never reach handlers of each other.
+     *
+     * @param lintServerHandler      the handler for linting plugin requests
+     * @param clipboardServerHandler the handler for clipboard requests
+     * @param eventsServerHandler    the handler of the events channel to the editor page
+     * @param bpmnServerHandler      the handler for the diagram upload requests
+     * @return the registered editor routes, which must be disposed together with the editor
+     */
+    public ServerRoutes register(LintServerHandler lintServerHandler,
+                                 ClipboardServerHandler clipboardServerHandler,
+                                 EventsServerHandler eventsServerHandler,
+                                 BpmnServerHandler bpmnServerHandler) {
+        var token = randomUUID().toString();
+        routes.put(token, List.of(
+                createContext(ROUTE_PATH.formatted(token, LINT_PATH), LINT_PATH, lintServerHandler),
+                createContext(ROUTE_PATH.formatted(token, CLIPBOARD_PATH), CLIPBOARD_PATH, clipboardServerHandler),
+                createContext(ROUTE_PATH.formatted(token, EVENTS_PATH), EVENTS_PATH, eventsServerHandler),
+                createContext(ROUTE_PATH.formatted(token, BPMN_PATH), BPMN_PATH, bpmnServerHandler),
+                server.createContext(ROUTE_PATH.formatted(token, METRICS_PATH),
+                        new MetricsServerHandler(this::getMetricsReport))));
+
+        return new ServerRoutes(this, token);
+    }
+
+    /**
+     * Removes all contexts registered for the given editor token.
+     *
+     * @param token the token of the editor routes
+     */
+    void unregister(String token) {
+        Optional.ofNullable(routes.remove(token)).ifPresent(contexts -> contexts.forEach(server::removeContext));
+    }
+
+    /**
+     * Returns a snapshot of the request executor counters (queue depth and in-flight requests).
+     *
+     * @return The current executor statistics
+     */
+    public ServerExecutor.Stats getExecutorStats() {
+        return executor.getStats();
+    }
+
+    /**
+     * Formats the metrics of all routes, the request executor counters and the lint content cache
+     * counters of every open project as plain text.
+     *
+     * @return The metrics report, one route per line
+     */
+    public String getMetricsReport() {
+        var stats = executor.getStats();
+        var lines = new ArrayList<>(metrics.format());
+        lines.add(EXECUTOR_LINE.formatted(EXECUTOR, stats.mode(), stats.queued(), stats.inFlight(),
+                stats.maxQueued(), stats.maxInFlight(), stats.completed()));
+        for (var project : ProjectManager.getInstance().getOpenProjects()) {
+            var cacheStats = LintContentCache.getInstance(project).getStats();
+            lines.add(LINT_CACHE_LINE.formatted(LINT_CACHE, project.getName(), cacheStats.hits(), cacheStats.loads(),
+                    cacheStats.coalesced()));
+        }
+
+        return String.join(System.lineSeparator(), lines);
+    }
+
+    /**
+     * Creates a context, attaches the metrics of the given route to it
+     * and allows the requests of the in-process origin.
+     *
+     * @param path    the path of the context
+     * @param route   the route the requests are recorded under
+     * @param handler the handler of the context
+     * @return the created context
+     */
+    private HttpContext createContext(String path, String route, HttpHandler handler) {
+        var context = server.createContext(path, handler);
+        context.getAttributes().put(RouteMetrics.ATTRIBUTE, metrics.forRoute(route));
+        context.getFilters().add(ALLOW_IN_PROCESS_ORIGIN);
+        return context;
+    }
+
     /**
      * Stops the HTTP server and releases associated resources.
-     * This method should be called
-     * when the bean is about to be removed from the container or when the application is shutting down.
+     * This method should be called when the application is shutting down.
      * <p>
      * The server is stopped immediately without any delay.
      */
     public void stop() {
+        routes.clear();
         server.stop(ZERO);
+        executor.shutdown();
     }
-}
\ No newline at end of file
+}
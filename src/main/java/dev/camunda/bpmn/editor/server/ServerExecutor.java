@@ -0,0 +1,139 @@
+package dev.camunda.bpmn.editor.server;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.nonNull;
+
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import dev.camunda.bpmn.editor.settings.BpmnEditorSettings.ExecutorMode;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/**
+ * Executor running the requests of the embedded HTTP server.
+ * Wraps the executor selected by {@link ExecutorMode} and counts the queued and in-flight requests,
+ * so head-of-line blocking between slow handlers (lint module lookups, clipboard reads)
+ * and asset requests can be observed.
+ *
+ * <p>Virtual threads are created through reflection, because the plugin is compiled for JDK 17.
+ * When they are not available, a bounded application pool is used instead.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public class ServerExecutor implements Executor {
+
+    private static final Logger LOG = Logger.getInstance(ServerExecutor.class);
+    private static final String POOL_NAME = "Camunda BPMN Editor Server";
+    private static final String VIRTUAL_THREAD_FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+    private static final int POOL_SIZE = max(2, min(8, Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * The executor mode actually in use, after the fallback from virtual threads.
+     */
+    @Getter
+    private final ExecutorMode mode;
+
+    private final Executor delegate;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxQueued = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+
+    /**
+     * Creates the executor for the given mode.
+     *
+     * @param mode The requested executor mode
+     */
+    public ServerExecutor(ExecutorMode mode) {
+        var virtualThreadExecutor = mode == ExecutorMode.VIRTUAL_THREADS ? createVirtualThreadExecutor() : null;
+        if (nonNull(virtualThreadExecutor)) {
+            this.mode = ExecutorMode.VIRTUAL_THREADS;
+            this.delegate = virtualThreadExecutor;
+        } else if (mode == ExecutorMode.SINGLE_THREAD) {
+            this.mode = ExecutorMode.SINGLE_THREAD;
+            this.delegate = Runnable::run;
+        } else {
+            this.mode = ExecutorMode.THREAD_POOL;
+            this.delegate = AppExecutorUtil.createBoundedApplicationPoolExecutor(POOL_NAME, POOL_SIZE);
+        }
+    }
+
+    /**
+     * Submits the request for execution and tracks it in the queue and in-flight counters.
+     * A request rejected by the underlying executor is not counted as queued.
+     *
+     * @param command The request to execute
+     * @throws RejectedExecutionException if the underlying executor does not accept the request
+     */
+    @Override
+    public void execute(Runnable command) {
+        maxQueued.accumulateAndGet(queued.incrementAndGet(), Math::max);
+        try {
+            delegate.execute(() -> {
+                queued.decrementAndGet();
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    command.run();
+                } finally {
+                    inFlight.decrementAndGet();
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the executor counters.
+     *
+     * @return The current executor statistics
+     */
+    public Stats getStats() {
+        return new Stats(mode, queued.get(), inFlight.get(), maxQueued.get(), maxInFlight.get(), completed.sum());
+    }
+
+    /**
+     * Shuts the underlying executor down, if it owns threads.
+     */
+    public void shutdown() {
+        if (delegate instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Creates the virtual thread per task executor when running on JDK 21 or later.
+     *
+     * @return The virtual thread executor, or null if virtual threads are not supported
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod(VIRTUAL_THREAD_FACTORY_METHOD).invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOG.info("Virtual threads are not available, falling back to a bounded thread pool");
+            return null;
+        }
+    }
+
+    /**
+     * A snapshot of the executor counters.
+     *
+     * @param mode        The executor mode in use
+     * @param queued      The number of requests waiting for a thread
+     * @param inFlight    The number of requests being handled
+     * @param maxQueued   The highest observed number of waiting requests
+     * @param maxInFlight The highest observed number of requests handled at once
+     * @param completed   The total number of handled requests
+     */
+    public record Stats(ExecutorMode mode, int queued, int inFlight, int maxQueued, int maxInFlight, long completed) {
+    }
+}
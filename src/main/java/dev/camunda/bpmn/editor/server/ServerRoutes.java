@@ -0,0 +1,45 @@
+package dev.camunda.bpmn.editor.server;
+
+import com.intellij.openapi.Disposable;
+
+/**
+ * Represents the routes registered on the shared {@link Server} for a single BPMN editor.
+ * All editor specific contexts are prefixed with the token, so the base URL returned
+ * by {@link #getBaseUrl()} is unique for every editor while the server origin stays the same.
+ *
+ * @param server The server on which the routes are registered
+ * @param token  The unique token of the editor routes
+ * @author Oleksandr Havrysh
+ */
+public record ServerRoutes(Server server, String token) implements Disposable {
+
+    private static final String BASE_URL = "http://localhost:%s/%s";
+
+    /**
+     * Returns the port number of the shared server.
+     *
+     * @return The port number of the server
+     */
+    public int getPort() {
+        return server.getPort();
+    }
+
+    /**
+     * Returns the base URL of the editor routes, used by the BPMN editor UI
+     * to reach the lint, clipboard and events handlers of this editor.
+     *
+     * @return The base URL of the editor routes
+     */
+    public String getBaseUrl() {
+        return BASE_URL.formatted(server.getPort(), token);
+    }
+
+    /**
+     * Releases the editor routes on the shared server.
+     * The server itself keeps running for the other editors.
+     */
+    @Override
+    public void dispose() {
+        server.unregister(token);
+    }
+}
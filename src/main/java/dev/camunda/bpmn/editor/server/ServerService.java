@@ -0,0 +1,121 @@
+package dev.camunda.bpmn.editor.server;
+
+import static com.intellij.openapi.application.ApplicationManager.getApplication;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.ui.jcef.JBCefApp;
+import dev.camunda.bpmn.editor.server.asset.AssetCache;
+import dev.camunda.bpmn.editor.server.asset.LintModuleStore;
+import dev.camunda.bpmn.editor.server.handler.LintModuleServerHandler;
+import dev.camunda.bpmn.editor.server.handler.UIServerHandler;
+import dev.camunda.bpmn.editor.settings.BpmnEditorSettings;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Application level service owning the single HTTP server shared by all BPMN editors.
+ * The server is created lazily on the first request and stopped when the application is disposed,
+ * so its port stays the same for every editor opened during the IDE session.
+ * The service also keeps the in-memory cache of the BPMN Editor UI resources
+ * and the content addressed store of the lint modules shared by all editors.
+ *
+ * <p>The whole infrastructure can be warmed up in the background with {@link #warmUp()},
+ * so the first opened editor is as fast as the following ones.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public final class ServerService implements Disposable {
+
+    private static final Logger LOG = Logger.getInstance(ServerService.class);
+    private static final String BPMN_EDITOR_UI_DIRECTORY = "bpmn-editor-ui";
+
+    /**
+     * The in-memory cache of the BPMN Editor UI resources.
+     */
+    @Getter
+    private final AssetCache assetCache = new AssetCache();
+
+    /**
+     * The content addressed store of the lint modules served to the BPMN Editor UI.
+     */
+    @Getter
+    private final LintModuleStore lintModuleStore = new LintModuleStore();
+
+    private volatile Server server;
+
+    private final AtomicBoolean warmedUp = new AtomicBoolean();
+
+    /**
+     * Returns the instance of the server service.
+     *
+     * @return The instance of the server service
+     */
+    public static @NotNull ServerService getInstance() {
+        return getApplication().getService(ServerService.class);
+    }
+
+    /**
+     * Returns the shared HTTP server, starting it on the first call.
+     *
+     * @return The shared HTTP server
+     */
+    public @NotNull Server getServer() {
+        var current = server;
+        if (isNull(current)) {
+            synchronized (this) {
+                current = server;
+                if (isNull(current)) {
+                    var executorMode = BpmnEditorSettings.getInstance().getState().getExecutorMode();
+                    current = server = new Server(new UIServerHandler(assetCache),
+                            new LintModuleServerHandler(lintModuleStore), executorMode);
+                }
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * Starts the shared HTTP server, loads the BPMN Editor UI resources into memory
+     * and initializes the JCEF runtime. Only the first call does the work,
+     * it is intended to be called from a background thread.
+     */
+    public void warmUp() {
+        if (!warmedUp.compareAndSet(false, true)) {
+            return;
+        }
+
+        var start = System.currentTimeMillis();
+        getServer();
+        var assets = assetCache.preload(BPMN_EDITOR_UI_DIRECTORY);
+        if (JBCefApp.isSupported()) {
+            JBCefApp.getInstance();
+        }
+
+        LOG.info("Camunda BPMN Editor warmed up in %d ms, %d assets loaded".formatted(System.currentTimeMillis() - start, assets));
+    }
+
+    /**
+     * Returns the shared HTTP server if it has already been started.
+     *
+     * @return The shared HTTP server, or empty if no editor has requested it yet
+     */
+    public Optional<Server> findServer() {
+        return Optional.ofNullable(server);
+    }
+
+    /**
+     * Stops the shared HTTP server when the application is shutting down.
+     */
+    @Override
+    public void dispose() {
+        if (nonNull(server)) {
+            server.stop();
+        }
+    }
+}
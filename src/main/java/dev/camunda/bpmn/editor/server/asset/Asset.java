@@ -0,0 +1,52 @@
+package dev.camunda.bpmn.editor.server.asset;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * An in-memory BPMN Editor UI resource prepared for serving.
+ * Holds the raw bytes together with the pre-compressed representation and the HTTP metadata
+ * required for conditional and cached responses.
+ *
+ * @param content        The raw content of the resource
+ * @param gzipContent    The gzip compressed content, or null if compression does not reduce the size
+ * @param etag           The entity tag of the raw content (quoted)
+ * @param contentType    The MIME type of the resource
+ * @param immutable      Whether the resource name contains a content hash and never changes
+ * @author Oleksandr Havrysh
+ */
+public record Asset(byte[] content,
+                    byte[] gzipContent,
+                    String etag,
+                    String contentType,
+                    boolean immutable) {
+
+    private static final String GZIP_ETAG_SUFFIX = "-gz\"";
+
+    /**
+     * Returns the entity tag of the gzip representation.
+     * Each encoding gets its own strong entity tag, as the representations differ byte by byte.
+     *
+     * @return The entity tag of the raw content with a {@code -gz} suffix (quoted)
+     */
+    public String gzipEtag() {
+        return etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX;
+    }
+
+    /**
+     * Returns the memory held by the asset.
+     *
+     * @return The total length of the raw and the gzip content
+     */
+    public long size() {
+        return (long) content.length + (hasGzipContent() ? gzipContent.length : 0);
+    }
+
+    /**
+     * Checks whether a gzip compressed representation is available.
+     *
+     * @return true if the asset can be served gzip encoded, false otherwise
+     */
+    public boolean hasGzipContent() {
+        return nonNull(gzipContent);
+    }
+}
@@ -0,0 +1,231 @@
+package dev.camunda.bpmn.editor.server.asset;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.regex.Pattern.compile;
+import static org.apache.commons.io.IOUtils.toByteArray;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+
+/**
+ * In-memory cache of the BPMN Editor UI resources.
+ * Every resource is read from the plugin jar only once, its gzip representation is computed
+ * at the same time and both are kept in memory for the rest of the IDE session.
+ * Only existing resources are cached. The cache is bounded by the number of assets and their total size,
+ * the least recently used assets are evicted first and loaded again on the next request.
+ *
+ * <p>Resources produced by webpack with a {@code [contenthash]} in their name are marked as immutable,
+ * so the browser can keep them without revalidation.</p>
+ *
+ * <p>All resources of a directory can be loaded ahead of time with {@link #preload(String)},
+ * so the first editor does not pay for reading and compressing them.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public class AssetCache {
+
+    private static final int MAX_ENTRIES = 1024;
+    private static final long MAX_BYTES = 64L * 1024 * 1024;
+    private static final String ETAG = "\"%08x-%x\"";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final String JAR_PROTOCOL = "jar";
+    private static final String FILE_PROTOCOL = "file";
+    private static final String SLASH = "/";
+    private static final Pattern CONTENT_HASH_PATTERN = compile(".*\\.[0-9a-f]{16,}\\.[a-z0-9]+$");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "js", "text/javascript; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "json", "application/json; charset=utf-8",
+            "svg", "image/svg+xml",
+            "ttf", "font/ttf",
+            "woff", "font/woff",
+            "woff2", "font/woff2");
+
+    private final Map<String, Asset> assets = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+
+    /**
+     * Returns the asset for the given path, loading it from the classpath on the first request.
+     * The resource is read outside the lock, so concurrent first requests may read it more than once.
+     *
+     * @param path The path of the requested resource, typically starting with a slash
+     * @return The asset, or null if the resource does not exist or cannot be read
+     */
+    public Asset get(String path) {
+        var resourcePath = path.startsWith("/") ? path.substring(1) : path;
+        synchronized (this) {
+            var asset = assets.get(resourcePath);
+            if (nonNull(asset)) {
+                return asset;
+            }
+        }
+
+        var asset = load(resourcePath);
+        if (nonNull(asset)) {
+            put(resourcePath, asset);
+        }
+
+        return asset;
+    }
+
+    /**
+     * Adds the asset to the cache and evicts the least recently used assets above the bounds.
+     *
+     * @param resourcePath The classpath location of the resource
+     * @param asset        The loaded asset
+     */
+    private synchronized void put(String resourcePath, Asset asset) {
+        var previous = assets.put(resourcePath, asset);
+        totalSize += asset.size() - (isNull(previous) ? 0 : previous.size());
+
+        var iterator = assets.values().iterator();
+        while ((assets.size() > MAX_ENTRIES || totalSize > MAX_BYTES) && iterator.hasNext()) {
+            totalSize -= iterator.next().size();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Loads all resources of the given classpath directory into the cache.
+     * Both the packaged plugin jar and an exploded classpath directory are supported.
+     *
+     * @param directory The classpath location of the directory, without a leading slash
+     * @return The number of loaded resources
+     */
+    public int preload(String directory) {
+        var directoryUrl = AssetCache.class.getClassLoader().getResource(directory);
+        if (isNull(directoryUrl)) {
+            return 0;
+        }
+
+        try {
+            var resourcePaths = switch (directoryUrl.getProtocol()) {
+                case JAR_PROTOCOL -> listJarDirectory((JarURLConnection) directoryUrl.openConnection(), directory);
+                case FILE_PROTOCOL -> listFileDirectory(Path.of(directoryUrl.toURI()), directory);
+                default -> List.<String>of();
+            };
+
+            return (int) resourcePaths.stream().map(this::get).filter(Objects::nonNull).count();
+        } catch (IOException | URISyntaxException | UncheckedIOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Lists the resources of a directory inside a jar.
+     *
+     * @param connection The connection to the directory entry of the jar
+     * @param directory  The classpath location of the directory
+     * @return The classpath locations of the resources
+     * @throws IOException if the jar cannot be opened
+     */
+    private static List<String> listJarDirectory(JarURLConnection connection, String directory) throws IOException {
+        var prefix = directory.endsWith(SLASH) ? directory : directory + SLASH;
+        return connection.getJarFile().stream()
+                .filter(entry -> !entry.isDirectory())
+                .map(ZipEntry::getName)
+                .filter(name -> name.startsWith(prefix))
+                .toList();
+    }
+
+    /**
+     * Lists the resources of a directory on the file system.
+     *
+     * @param root      The directory on the file system
+     * @param directory The classpath location of the directory
+     * @return The classpath locations of the resources
+     * @throws IOException if the directory cannot be walked
+     */
+    private static List<String> listFileDirectory(Path root, String directory) throws IOException {
+        try (var files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                    .map(file -> Path.of(directory).resolve(root.relativize(file)).toString().replace(File.separatorChar, '/'))
+                    .toList();
+        }
+    }
+
+    /**
+     * Loads the resource from the classpath and prepares its compressed representation.
+     *
+     * @param resourcePath The classpath location of the resource
+     * @return The loaded asset, or null if the resource does not exist or cannot be read
+     */
+    private static Asset load(String resourcePath) {
+        try (var fileStream = AssetCache.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (isNull(fileStream)) {
+                return null;
+            }
+
+            var content = toByteArray(fileStream);
+            var gzipContent = gzip(content);
+            return new Asset(content,
+                    gzipContent.length < content.length ? gzipContent : null,
+                    etag(content),
+                    contentType(resourcePath),
+                    CONTENT_HASH_PATTERN.matcher(resourcePath).matches());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Compresses the content with gzip.
+     *
+     * @param content The raw content
+     * @return The gzip compressed content
+     * @throws IOException if the compression fails
+     */
+    private static byte[] gzip(byte[] content) throws IOException {
+        var result = new ByteArrayOutputStream(content.length / 3 + 32);
+        try (var gzipStream = new GZIPOutputStream(result)) {
+            gzipStream.write(content);
+        }
+
+        return result.toByteArray();
+    }
+
+    /**
+     * Calculates the entity tag of the content.
+     *
+     * @param content The raw content
+     * @return The quoted entity tag
+     */
+    private static String etag(byte[] content) {
+        var crc = new CRC32();
+        crc.update(content);
+        return ETAG.formatted(crc.getValue(), content.length);
+    }
+
+    /**
+     * Resolves the MIME type of the resource by its extension.
+     *
+     * @param resourcePath The classpath location of the resource
+     * @return The MIME type of the resource
+     */
+    private static String contentType(String resourcePath) {
+        var extension = resourcePath.substring(resourcePath.lastIndexOf('.') + 1);
+        var contentType = CONTENT_TYPES.get(extension);
+        if (isNull(contentType)) {
+            contentType = URLConnection.guessContentTypeFromName(resourcePath);
+        }
+
+        return isNull(contentType) ? DEFAULT_CONTENT_TYPE : contentType;
+    }
+}
@@ -0,0 +1,88 @@
+package dev.camunda.bpmn.editor.server.asset;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Content addressed store of the lint modules served to the BPMN Editor UI.
+ *
+ * <p>Every module is stored under the SHA-256 hash of its source and served from {@code /lint-modules/<hash>.js},
+ * wrapped in a script registering its factory in {@code self.bpmnLintModules} under this path, so the UI loads it
+ * with a script tag instead of compiling the source with {@code new Function}. The module of a hash never changes,
+ * which lets the browser keep the script in its HTTP cache together with the compiled code: an unchanged rule
+ * or bundle opened in another editor is neither transferred nor compiled again.</p>
+ *
+ * <p>The store keeps the most recently used modules only, an evicted module is stored again
+ * when the UI asks for its path the next time.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public final class LintModuleStore {
+
+    public static final String PATH = "/lint-modules";
+
+    private static final int MAX_MODULES = 256;
+    private static final String SHA_256 = "SHA-256";
+    private static final String MODULE_PATH = PATH + "/%s.js";
+    private static final String ETAG = "\"%s\"";
+    private static final String CONTENT_TYPE = "text/javascript; charset=utf-8";
+    private static final String MODULE_SCRIPT = """
+            (self.bpmnLintModules = self.bpmnLintModules || {})['%s'] = function (module) {
+            %s
+            };
+            """;
+
+    private final Map<String, Asset> modules = new LinkedHashMap<>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Asset> eldest) {
+            return size() > MAX_MODULES;
+        }
+    };
+
+    /**
+     * Stores the module, unless a module with the same source is already stored.
+     *
+     * @param source The source of the module, exporting through {@code module.exports}
+     * @return The path the module is served from, also the key its factory is registered under
+     */
+    public synchronized String put(String source) {
+        var hash = hash(source);
+        var path = MODULE_PATH.formatted(hash);
+        if (!modules.containsKey(hash)) {
+            var content = MODULE_SCRIPT.formatted(path, source).getBytes(UTF_8);
+            modules.put(hash, new Asset(content, null, ETAG.formatted(hash), CONTENT_TYPE, true));
+        }
+
+        return path;
+    }
+
+    /**
+     * Returns the module with the given content hash.
+     *
+     * @param hash The content hash of the module
+     * @return The module, or null if it is not stored
+     */
+    public synchronized Asset get(String hash) {
+        return modules.get(hash);
+    }
+
+    /**
+     * Calculates the SHA-256 hash of the source.
+     *
+     * @param source The source of the module
+     * @return The hexadecimal hash
+     */
+    private static String hash(String source) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(SHA_256).digest(source.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
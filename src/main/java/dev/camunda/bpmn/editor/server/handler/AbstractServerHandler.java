@@ -1,11 +1,19 @@
 package dev.camunda.bpmn.editor.server.handler;
 
+import static dev.camunda.bpmn.editor.server.handler.ResponseBody.UNKNOWN_LENGTH;
+import static java.lang.Long.parseLong;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static java.util.regex.Pattern.compile;
 
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
-import java.io.BufferedOutputStream;
+import dev.camunda.bpmn.editor.server.metrics.CountingOutputStream;
+import dev.camunda.bpmn.editor.server.metrics.RouteMetrics;
 import java.io.IOException;
+import java.util.regex.Pattern;
 
 /**
  * Abstract base class for server handlers in the BPMN Editor.
@@ -15,35 +23,89 @@ import java.io.IOException;
  * The class defines a common structure for processing requests, retrieving content,
  * and sending responses. It includes error handling for cases where requested content
  * is not found.
+ * <p>
+ * Responses are written from a {@link ResponseBody}: bodies of known length honour single
+ * HTTP {@code Range} requests, bodies of unknown length are streamed with chunked transfer encoding.
+ * <p>
+ * When the context of the request carries {@link RouteMetrics}, the latency, response size
+ * and status of every request are recorded into them.
  *
  * @author Oleksandr Havrysh
  */
 public abstract class AbstractServerHandler implements HttpHandler {
 
-    private static final int SUCCESS_CODE = 200;
+    protected static final int SUCCESS_CODE = 200;
+    private static final int PARTIAL_CONTENT_CODE = 206;
+    protected static final int NOT_MODIFIED_CODE = 304;
     private static final int NOT_FOUND_CODE = 404;
+    private static final int RANGE_NOT_SATISFIABLE_CODE = 416;
     private static final String ERROR_MESSAGE = "File not found: %s";
+    private static final String RANGE = "Range";
+    private static final String BYTES = "bytes";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String CONTENT_RANGE_VALUE = "bytes %d-%d/%d";
+    private static final String UNSATISFIED_CONTENT_RANGE_VALUE = "bytes */%d";
+    private static final Pattern RANGE_PATTERN = compile("bytes=(\\d*)-(\\d*)");
 
     /**
      * Handles incoming HTTP requests.
      * This method implements the {@link HttpHandler#handle(HttpExchange)} method.
      * It extracts the request path, retrieves the corresponding content, and sends
-     * an appropriate response.
+     * an appropriate response, recording the request into the route metrics if present.
      *
      * @param exchange the {@link HttpExchange} object representing the current HTTP transaction
      * @throws IOException if an I/O error occurs while handling the request
      */
     @Override
     public void handle(HttpExchange exchange) throws IOException {
-        var path = exchange.getRequestURI().getPath();
-        var content = getContent(path);
-        if (nonNull(content)) {
-            writeBody(exchange, SUCCESS_CODE, content);
+        var metrics = (RouteMetrics) exchange.getHttpContext().getAttributes().get(RouteMetrics.ATTRIBUTE);
+        if (isNull(metrics)) {
+            handleRequest(exchange, exchange.getRequestURI().getPath());
+            return;
+        }
+
+        var start = System.nanoTime();
+        var responseBody = new CountingOutputStream(exchange.getResponseBody());
+        exchange.setStreams(null, responseBody);
+        try {
+            handleRequest(exchange, exchange.getRequestURI().getPath());
+        } finally {
+            metrics.record(exchange.getResponseCode(), System.nanoTime() - start, responseBody.getCount());
+        }
+    }
+
+    /**
+     * Handles the request for the given path.
+     * The default implementation retrieves the body with {@link #getBody(String)} and sends it
+     * as the response, subclasses may override it to add headers or conditional responses.
+     *
+     * @param exchange the {@link HttpExchange} object representing the current HTTP transaction
+     * @param path     the path of the request
+     * @throws IOException if an I/O error occurs while handling the request
+     */
+    protected void handleRequest(HttpExchange exchange, String path) throws IOException {
+        var body = getBody(path);
+        if (nonNull(body)) {
+            writeBody(exchange, body);
         } else {
-            writeBody(exchange, NOT_FOUND_CODE, ERROR_MESSAGE.formatted(path).getBytes());
+            writeNotFound(exchange, path);
         }
     }
 
+    /**
+     * Retrieves the response body for a given path.
+     * The default implementation wraps the content returned by {@link #getContent(String)},
+     * subclasses may override it to stream the content instead of materialising it.
+     *
+     * @param path the path for which to retrieve the body
+     * @return the response body, or null if no content is found
+     */
+    protected ResponseBody getBody(String path) {
+        var content = getContent(path);
+        return nonNull(content) ? ResponseBody.of(content) : null;
+    }
+
     /**
      * Retrieves the content for a given path.
      * This method should be implemented by subclasses to provide the specific
@@ -55,21 +117,133 @@ public abstract class AbstractServerHandler implements HttpHandler {
     protected abstract byte[] getContent(String path);
 
     /**
-     * Writes the response body to the HTTP exchange with improved performance.
+     * Writes the "not found" response for the given path.
+     *
+     * @param exchange the {@link HttpExchange} object representing the current HTTP transaction
+     * @param path     the path of the request
+     * @throws IOException if an I/O error occurs while writing the response
+     */
+    protected static void writeNotFound(HttpExchange exchange, String path) throws IOException {
+        writeBody(exchange, NOT_FOUND_CODE, ERROR_MESSAGE.formatted(path).getBytes());
+    }
+
+    /**
+     * Writes the response body to the HTTP exchange.
+     *
+     * @param exchange       the {@link HttpExchange} object representing the current HTTP transaction
+     * @param httpStatusCode the HTTP status code to be set in the response
+     * @param response       the body of the response as a byte array
+     * @throws IOException if an I/O error occurs while sending the response headers or writing the response body
+     */
+    protected static void writeBody(HttpExchange exchange, int httpStatusCode, byte[] response) throws IOException {
+        writeBody(exchange, httpStatusCode, ResponseBody.of(response), 0, response.length);
+    }
+
+    /**
+     * Writes the successful response for the body, honouring the {@code Range} request header.
      * <p>
-     * This method sets the response headers, including the HTTP status code and content length,
-     * and then writes the response body using a BufferedOutputStream for efficiency.
+     * A satisfiable single range of a body with known length is answered with "206 Partial Content",
+     * an unsatisfiable one with "416 Range Not Satisfiable". Multiple ranges are not supported
+     * and the whole body is sent instead, which is allowed by the specification, as for an invalid range.
+     *
+     * @param exchange the {@link HttpExchange} object representing the current HTTP transaction
+     * @param body     the body of the response
+     * @throws IOException if an I/O error occurs while sending the response headers or writing the response body
+     */
+    protected static void writeBody(HttpExchange exchange, ResponseBody body) throws IOException {
+        var length = body.length();
+        if (length == UNKNOWN_LENGTH) {
+            writeBody(exchange, SUCCESS_CODE, body, 0, UNKNOWN_LENGTH);
+            return;
+        }
+
+        var headers = exchange.getResponseHeaders();
+        headers.set(ACCEPT_RANGES, BYTES);
+
+        var range = parseRange(exchange.getRequestHeaders().getFirst(RANGE));
+        if (isNull(range)) {
+            writeBody(exchange, SUCCESS_CODE, body, 0, length);
+            return;
+        }
+
+        long start;
+        long end;
+        if (isNull(range.first())) {
+            start = max(0, length - range.last());
+            end = length - 1;
+        } else {
+            start = range.first();
+            end = isNull(range.last()) ? length - 1 : min(range.last(), length - 1);
+        }
+
+        if (start >= length || start > end) {
+            headers.set(CONTENT_RANGE, UNSATISFIED_CONTENT_RANGE_VALUE.formatted(length));
+            exchange.sendResponseHeaders(RANGE_NOT_SATISFIABLE_CODE, -1);
+            exchange.close();
+            return;
+        }
+
+        headers.set(CONTENT_RANGE, CONTENT_RANGE_VALUE.formatted(start, end, length));
+        writeBody(exchange, PARTIAL_CONTENT_CODE, body, start, end - start + 1);
+    }
+
+    /**
+     * Parses a single byte range of the {@code Range} request header.
+     * <p>
+     * A header which is not a valid single byte range, e.g. with the last position before the first one
+     * or with positions overflowing a {@code long}, is ignored as required by RFC 9110.
+     *
+     * @param range the value of the {@code Range} request header, or null if there is none
+     * @return the range, or null if the header is absent or invalid
+     */
+    private static ByteRange parseRange(String range) {
+        var matcher = isNull(range) ? null : RANGE_PATTERN.matcher(range.trim());
+        if (isNull(matcher) || !matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return null;
+        }
+
+        try {
+            var first = matcher.group(1).isEmpty() ? null : parseLong(matcher.group(1));
+            var last = matcher.group(2).isEmpty() ? null : parseLong(matcher.group(2));
+            return nonNull(first) && nonNull(last) && first > last ? null : new ByteRange(first, last);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Sends the response headers and writes the given range of the body.
+     * <p>
+     * A count of {@link ResponseBody#UNKNOWN_LENGTH} selects chunked transfer encoding,
+     * an empty body is sent without a response body at all.
      * The method ensures that the output stream is properly closed after writing.
      *
      * @param exchange       the {@link HttpExchange} object representing the current HTTP transaction
      * @param httpStatusCode the HTTP status code to be set in the response
-     * @param response       the body of the response as a byte array
+     * @param body           the body of the response
+     * @param offset         the index of the first byte to write
+     * @param count          the number of bytes to write, or {@link ResponseBody#UNKNOWN_LENGTH}
      * @throws IOException if an I/O error occurs while sending the response headers or writing the response body
      */
-    private static void writeBody(HttpExchange exchange, int httpStatusCode, byte[] response) throws IOException {
-        exchange.sendResponseHeaders(httpStatusCode, response.length);
-        try (var os = new BufferedOutputStream(exchange.getResponseBody())) {
-            os.write(response);
+    private static void writeBody(HttpExchange exchange,
+                                  int httpStatusCode,
+                                  ResponseBody body,
+                                  long offset,
+                                  long count) throws IOException {
+        exchange.sendResponseHeaders(httpStatusCode, count == UNKNOWN_LENGTH ? 0 : (count == 0 ? -1 : count));
+        try (var os = exchange.getResponseBody()) {
+            if (count != 0) {
+                body.writeTo(os, offset, count);
+            }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * A single byte range of the {@code Range} request header.
+     *
+     * @param first the first position, or null for a suffix range
+     * @param last  the last position, or null for an open range, or the suffix length of a suffix range
+     */
+    private record ByteRange(Long first, Long last) {
+    }
+}
@@ -0,0 +1,122 @@
+package dev.camunda.bpmn.editor.server.handler;
+
+import static com.intellij.openapi.application.ApplicationManager.getApplication;
+import static java.util.Objects.nonNull;
+
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.sun.net.httpserver.HttpExchange;
+import dev.camunda.bpmn.editor.vfs.BpmnFile;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.InflaterInputStream;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Handler for the BPMN diagram upload HTTP requests.
+ * The BPMN Editor UI posts the raw UTF-8 XML of the diagram, which is written to the {@link BpmnFile}
+ * as is, without the Base64 round trip of a JavaScript query.
+ *
+ * <p>Large diagrams can be sent deflate compressed, which is indicated by the
+ * {@code encoding=deflate} query parameter. Only {@code POST} requests are accepted.</p>
+ *
+ * <p>The response is sent once the diagram is written: {@code 204} on success, {@code 500} if the
+ * write failed and {@code 503} if the file could not be written in time, e.g. because the project
+ * was closed, the file was deleted or a modal dialog is open.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+@RequiredArgsConstructor
+public class BpmnServerHandler extends AbstractServerHandler {
+
+    private static final Logger LOG = Logger.getInstance(BpmnServerHandler.class);
+
+    private static final int NO_CONTENT_CODE = 204;
+    private static final int METHOD_NOT_ALLOWED_CODE = 405;
+    private static final int INTERNAL_SERVER_ERROR_CODE = 500;
+    private static final int SERVICE_UNAVAILABLE_CODE = 503;
+    private static final long WRITE_TIMEOUT_SECONDS = 10;
+    private static final String POST = "POST";
+    private static final String DEFLATE_ENCODING = "encoding=deflate";
+
+    private final Project project;
+    private final BpmnFile bpmnFile;
+
+    /**
+     * Reads the posted diagram, writes it to the file on the event dispatch thread and replies with the result.
+     *
+     * @param exchange the {@link HttpExchange} object representing the current HTTP transaction
+     * @param path     the path of the request
+     * @throws IOException if an I/O error occurs while reading the request or writing the response
+     */
+    @Override
+    protected void handleRequest(HttpExchange exchange, String path) throws IOException {
+        if (!POST.equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(METHOD_NOT_ALLOWED_CODE, -1);
+            exchange.close();
+            return;
+        }
+
+        var query = exchange.getRequestURI().getQuery();
+        var requestBody = nonNull(query) && query.contains(DEFLATE_ENCODING)
+                ? new InflaterInputStream(exchange.getRequestBody())
+                : exchange.getRequestBody();
+
+        byte[] content;
+        try (requestBody) {
+            content = requestBody.readAllBytes();
+        }
+
+        exchange.sendResponseHeaders(write(content), -1);
+        exchange.close();
+    }
+
+    /**
+     * Writes the content to the file in a write action and waits for the result.
+     * The write is skipped once the project is disposed or the file is no longer valid.
+     *
+     * @param content The raw UTF-8 content of the diagram
+     * @return The HTTP status code reporting the result of the write
+     */
+    private int write(byte[] content) {
+        var written = new CompletableFuture<Void>();
+        getApplication().invokeLater(() -> {
+            try {
+                WriteAction.run(() -> bpmnFile.saveContent(content));
+                written.complete(null);
+            } catch (Throwable e) {
+                written.completeExceptionally(e);
+            }
+        }, ModalityState.defaultModalityState(), o -> project.isDisposed() || !bpmnFile.isValid());
+
+        try {
+            written.get(WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return NO_CONTENT_CODE;
+        } catch (ExecutionException e) {
+            LOG.warn("Failed to save " + bpmnFile.getPath(), e.getCause());
+            return INTERNAL_SERVER_ERROR_CODE;
+        } catch (TimeoutException e) {
+            LOG.warn("Timed out saving " + bpmnFile.getPath());
+            return SERVICE_UNAVAILABLE_CODE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return SERVICE_UNAVAILABLE_CODE;
+        }
+    }
+
+    /**
+     * The diagram is only uploaded, never served.
+     *
+     * @param path the path of the request, ignored
+     * @return Always null
+     */
+    @Override
+    protected byte[] getContent(String path) {
+        return null;
+    }
+}
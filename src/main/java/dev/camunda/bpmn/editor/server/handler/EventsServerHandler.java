@@ -0,0 +1,298 @@
+package dev.camunda.bpmn.editor.server.handler;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.google.gson.Gson;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Handler for the Server-Sent Events channel from the IDE to the BPMN Editor UI.
+ * The page subscribes with an {@code EventSource}, the exchange is kept open
+ * and every message pushed with {@link #push} is delivered as a structured JSON object
+ * instead of a generated JavaScript snippet, so the browser does not compile a new script per message.
+ *
+ * <p>Messages are batched: all messages pushed within {@link #FLUSH_DELAY_MILLIS} are written
+ * as a single event containing a JSON array of {@code {"type": ..., "data": {...}}} objects.
+ * The batches are written on a single-threaded executor of the handler, because the writes block on the socket.
+ * The executor is shut down when the handler is disposed together with its editor.</p>
+ *
+ * <p>A handler belongs to a single editor and is registered under the editor route token, so a new subscription
+ * of the reloaded page replaces the previous one. A successful write does not prove delivery to a page which has
+ * navigated away, so the page acknowledges the batches by posting the last received event id with the {@code ack}
+ * query. An acknowledgement is cumulative, it covers every batch up to its event id written to the same subscriber,
+ * so the page acknowledges a burst of batches with a single request. The fallbacks of a batch which is not
+ * acknowledged within {@link #ACK_TIMEOUT_MILLIS} are run instead, and its subscriber is dropped. A late
+ * acknowledgement may thus deliver a message twice, so the handlers of the page must be idempotent.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public class EventsServerHandler extends AbstractServerHandler implements Disposable {
+
+    private static final Logger LOG = Logger.getInstance(EventsServerHandler.class);
+    private static final Gson GSON = new Gson();
+    private static final String WRITER_NAME = "Camunda BPMN Editor Events";
+    private static final long FLUSH_DELAY_MILLIS = 16;
+    private static final long ACK_TIMEOUT_MILLIS = 2000;
+    private static final int NO_CONTENT_CODE = 204;
+    private static final int BAD_REQUEST_CODE = 400;
+    private static final String POST = "POST";
+    private static final String ACK_QUERY = "ack=";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final String EVENT_STREAM = "text/event-stream; charset=utf-8";
+    private static final String NO_CACHE = "no-cache";
+    private static final String RETRY = "retry: 1000\n\n";
+    private static final String EVENT = "id: %d\ndata: %s\n\n";
+
+    private final AtomicReference<HttpExchange> subscriber = new AtomicReference<>();
+    private final Queue<PendingMessage> messages = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Batch> unacknowledged = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong lastEventId = new AtomicLong();
+    private final ExecutorService writer = AppExecutorUtil.createBoundedApplicationPoolExecutor(WRITER_NAME, 1);
+
+    /**
+     * Subscribes the client to the events, replacing the previous subscription of the editor,
+     * or acknowledges the delivered batches if the request is a {@code POST} with the {@code ack} query.
+     * The response headers of a subscription are sent immediately and the exchange stays open until
+     * the client disconnects, it is replaced or the handler is disposed.
+     *
+     * @param exchange the {@link HttpExchange} object representing the current HTTP transaction
+     * @param path     the path of the request
+     * @throws IOException if an I/O error occurs while sending the response headers
+     */
+    @Override
+    protected void handleRequest(HttpExchange exchange, String path) throws IOException {
+        if (POST.equals(exchange.getRequestMethod())) {
+            acknowledge(exchange);
+            return;
+        }
+
+        var headers = exchange.getResponseHeaders();
+        headers.set(CONTENT_TYPE, EVENT_STREAM);
+        headers.set(CACHE_CONTROL, NO_CACHE);
+        exchange.sendResponseHeaders(SUCCESS_CODE, 0);
+
+        var responseBody = exchange.getResponseBody();
+        responseBody.write(RETRY.getBytes(UTF_8));
+        responseBody.flush();
+
+        var previous = subscriber.getAndSet(exchange);
+        if (nonNull(previous)) {
+            previous.close();
+        }
+    }
+
+    /**
+     * The events are only delivered through the open exchange.
+     *
+     * @param path the path of the request, ignored
+     * @return Always null
+     */
+    @Override
+    protected byte[] getContent(String path) {
+        return null;
+    }
+
+    /**
+     * Checks whether the page is subscribed to the events.
+     *
+     * @return true if a client is subscribed
+     */
+    public boolean isSubscribed() {
+        return nonNull(subscriber.get());
+    }
+
+    /**
+     * Queues the message for the subscribed client and schedules the flush of the batch.
+     * The fallback delivers the message by other means, it is run immediately if no client is subscribed,
+     * or later if the client does not acknowledge the message.
+     *
+     * @param type     The type of the message, the name of the handler on the page
+     * @param data     The payload of the message
+     * @param fallback The delivery of the message used if the events channel fails
+     */
+    public void push(String type, Map<String, Object> data, Runnable fallback) {
+        if (!isSubscribed()) {
+            fallback.run();
+            return;
+        }
+
+        messages.add(new PendingMessage(new Message(type, data), fallback));
+        if (flushScheduled.compareAndSet(false, true)) {
+            AppExecutorUtil.getAppScheduledExecutorService()
+                    .schedule(() -> write(this::flush), FLUSH_DELAY_MILLIS, MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes all queued messages as a single event to the subscribed client
+     * and schedules the check of its acknowledgement.
+     * If no client is subscribed or it can no longer be written to, the fallbacks of the messages are run.
+     */
+    private synchronized void flush() {
+        flushScheduled.set(false);
+
+        var batch = new ArrayList<PendingMessage>();
+        for (var message = messages.poll(); message != null; message = messages.poll()) {
+            batch.add(message);
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        var client = subscriber.get();
+        if (isNull(client)) {
+            batch.forEach(message -> message.fallback().run());
+            return;
+        }
+
+        var eventId = lastEventId.incrementAndGet();
+        var event = EVENT.formatted(eventId, GSON.toJson(batch.stream().map(PendingMessage::message).toList()));
+        unacknowledged.put(eventId, new Batch(client, batch));
+        try {
+            var responseBody = client.getResponseBody();
+            responseBody.write(event.getBytes(UTF_8));
+            responseBody.flush();
+        } catch (IOException e) {
+            LOG.debug("Events subscriber disconnected", e);
+            fail(eventId);
+            return;
+        }
+
+        AppExecutorUtil.getAppScheduledExecutorService()
+                .schedule(() -> write(() -> fail(eventId)), ACK_TIMEOUT_MILLIS, MILLISECONDS);
+    }
+
+    /**
+     * Runs the task on the writer executor, unless the handler has been disposed.
+     *
+     * @param task the task writing to or failing the subscriber
+     */
+    private void write(Runnable task) {
+        try {
+            writer.execute(task);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Events handler disposed", e);
+        }
+    }
+
+    /**
+     * Marks the batches up to the posted event id as delivered.
+     * The events of a subscriber arrive in order, so receiving a batch proves the delivery of the previous batches
+     * written to the same subscriber, but not of those written to a replaced one.
+     *
+     * @param exchange the {@link HttpExchange} object representing the acknowledgement
+     * @throws IOException if an I/O error occurs while sending the response
+     */
+    private void acknowledge(HttpExchange exchange) throws IOException {
+        var query = exchange.getRequestURI().getQuery();
+        var code = NO_CONTENT_CODE;
+        try {
+            if (isNull(query) || !query.startsWith(ACK_QUERY)) {
+                code = BAD_REQUEST_CODE;
+            } else {
+                acknowledge(Long.parseLong(query.substring(ACK_QUERY.length())));
+            }
+        } catch (NumberFormatException e) {
+            code = BAD_REQUEST_CODE;
+        }
+
+        exchange.sendResponseHeaders(code, -1);
+        exchange.close();
+    }
+
+    /**
+     * Removes the batch with the event id and the previous batches of its subscriber from the unacknowledged ones.
+     *
+     * @param eventId the last event id received by the page
+     */
+    private void acknowledge(long eventId) {
+        var batch = unacknowledged.get(eventId);
+        if (nonNull(batch)) {
+            unacknowledged.entrySet().removeIf(entry -> entry.getKey() <= eventId
+                    && entry.getValue().subscriber() == batch.subscriber());
+        }
+    }
+
+    /**
+     * Runs the fallbacks of a batch which was not delivered, unless it has been acknowledged,
+     * and drops the subscriber it was written to.
+     *
+     * @param eventId the event id of the batch
+     */
+    private void fail(long eventId) {
+        var batch = unacknowledged.remove(eventId);
+        if (isNull(batch)) {
+            return;
+        }
+
+        if (subscriber.compareAndSet(batch.subscriber(), null)) {
+            batch.subscriber().close();
+        }
+
+        batch.messages().forEach(message -> message.fallback().run());
+    }
+
+    /**
+     * Closes the exchange of the subscribed client, discards the undelivered messages
+     * and shuts the writer executor down.
+     */
+    @Override
+    public void dispose() {
+        writer.shutdown();
+        var client = subscriber.getAndSet(null);
+        if (nonNull(client)) {
+            client.close();
+        }
+
+        messages.clear();
+        unacknowledged.clear();
+    }
+
+    /**
+     * A message pushed to the page.
+     *
+     * @param type The type of the message
+     * @param data The payload of the message
+     */
+    private record Message(String type, Map<String, Object> data) {
+    }
+
+    /**
+     * A message waiting for its delivery.
+     *
+     * @param message  The message
+     * @param fallback The delivery of the message used if the events channel fails
+     */
+    private record PendingMessage(Message message, Runnable fallback) {
+    }
+
+    /**
+     * A batch written to a client and waiting for its acknowledgement.
+     *
+     * @param subscriber The exchange of the client
+     * @param messages   The messages of the batch
+     */
+    private record Batch(HttpExchange subscriber, List<PendingMessage> messages) {
+    }
+}
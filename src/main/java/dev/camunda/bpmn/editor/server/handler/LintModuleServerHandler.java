@@ -0,0 +1,77 @@
+package dev.camunda.bpmn.editor.server.handler;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.sun.net.httpserver.HttpExchange;
+import dev.camunda.bpmn.editor.server.asset.LintModuleStore;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Handler serving the content addressed lint modules of the {@link LintModuleStore}
+ * from {@code /lint-modules/<hash>.js}.
+ *
+ * <p>The path of a module is derived from its content, so every module is served as immutable:
+ * the browser keeps it in its HTTP cache together with the code compiled from it
+ * and never asks for the same path again.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+@RequiredArgsConstructor
+public class LintModuleServerHandler extends AbstractServerHandler {
+
+    private static final String JS_EXTENSION = ".js";
+    private static final String SLASH = "/";
+    private static final String ETAG = "ETag";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private final LintModuleStore lintModuleStore;
+
+    /**
+     * Serves the requested module with immutable caching headers.
+     *
+     * @param exchange the {@link HttpExchange} object representing the current HTTP transaction
+     * @param path     the path of the requested module
+     * @throws IOException if an I/O error occurs while writing the response
+     */
+    @Override
+    protected void handleRequest(HttpExchange exchange, String path) throws IOException {
+        var module = lintModuleStore.get(toHash(path));
+        if (isNull(module)) {
+            writeNotFound(exchange, path);
+            return;
+        }
+
+        var headers = exchange.getResponseHeaders();
+        headers.set(ETAG, module.etag());
+        headers.set(CONTENT_TYPE, module.contentType());
+        headers.set(CACHE_CONTROL, IMMUTABLE);
+        writeBody(exchange, ResponseBody.of(module.content()));
+    }
+
+    /**
+     * Retrieves the content of the requested module.
+     *
+     * @param path the path of the requested module
+     * @return the content of the module, or null if it is not stored
+     */
+    @Override
+    protected byte[] getContent(String path) {
+        var module = lintModuleStore.get(toHash(path));
+        return nonNull(module) ? module.content() : null;
+    }
+
+    /**
+     * Extracts the content hash from the path of a module.
+     *
+     * @param path the path of the requested module
+     * @return the content hash
+     */
+    private static String toHash(String path) {
+        var name = path.substring(path.lastIndexOf(SLASH) + 1);
+        return name.endsWith(JS_EXTENSION) ? name.substring(0, name.length() - JS_EXTENSION.length()) : name;
+    }
+}
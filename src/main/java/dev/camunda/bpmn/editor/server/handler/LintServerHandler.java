@@ -1,28 +1,58 @@
 package dev.camunda.bpmn.editor.server.handler;
 
-import static java.util.regex.Pattern.compile;
-import static org.apache.groovy.util.Arrays.concat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
-import com.intellij.openapi.util.JDOMUtil;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileUtil;
+import com.sun.net.httpserver.HttpExchange;
+import dev.camunda.bpmn.editor.lint.LintConfigResolver;
+import dev.camunda.bpmn.editor.lint.LintContentCache;
+import dev.camunda.bpmn.editor.lint.LintModuleIndex;
+import dev.camunda.bpmn.editor.lint.LintResultCache;
+import dev.camunda.bpmn.editor.lint.bundle.LintBundler;
+import dev.camunda.bpmn.editor.lint.bundle.LintConfigFlattener;
+import dev.camunda.bpmn.editor.lint.bundle.LintPluginNames;
 import dev.camunda.bpmn.editor.project.ProjectService;
+import dev.camunda.bpmn.editor.server.asset.LintModuleStore;
+import dev.camunda.bpmn.editor.vfs.BpmnFile;
 import java.io.IOException;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
-import org.jdom.JDOMException;
 
 /**
  * Handler for BPMN Editor UI HTTP requests related to linting plugins.
  * This class is responsible for serving and processing JavaScript files for linting plugins.
- * It handles file retrieval, module inlining, and serves the processed content to the BPMN Editor UI.
+ * It handles file retrieval, module bundling, and serves the processed content to the BPMN Editor UI.
  *
  * <p>The LintPluginHandler extends AbstractServerHandler and works in conjunction
  * with the ProjectService to provide linting plugin functionality over HTTP.</p>
  *
- * <p>This handler dynamically processes JavaScript files, inlining required modules
- * to create self-contained linting plugins that can be executed in the BPMN Editor UI.</p>
+ * <p>This handler dynamically processes JavaScript files, bundling them with their required modules
+ * by the {@link LintBundler} to create self-contained linting plugins that can be executed in the BPMN Editor UI.
+ * All plugins referenced by the {@code .bpmnlintrc} closest to the edited BPMN file are also served together
+ * from the {@code /lint/bundle} path, so the UI loads them with a single request, and the effective configuration
+ * is served from the {@code /lint/config} path with its {@code extends} chain flattened by
+ * the {@link LintConfigFlattener}, so the UI does not resolve the extended plugin configs one by one.
+ * The processed content is kept in the {@link LintContentCache} of the project until
+ * one of the files it was produced from changes.</p>
+ *
+ * <p>JavaScript requested with the {@code ?module} query is put into the {@link LintModuleStore} instead,
+ * and the response is the content addressed path the UI loads it from, so the browser compiles every version
+ * of a module once and reuses the compiled code in every editor.</p>
+ *
+ * <p>The {@code /lint/results} path reads ({@code GET}) and stores ({@code POST}) the lint results of the diagram
+ * as loaded into the editor in the {@link LintResultCache}, keyed by the diagram together with the effective
+ * {@code .bpmnlintrc} and the plugins bundle, so the UI shows the results of an unchanged diagram on open
+ * and verifies them in the background.</p>
  *
  * @author Oleksandr Havrysh
  */
@@ -30,86 +60,349 @@ import org.jdom.JDOMException;
 public class LintServerHandler extends AbstractServerHandler {
 
     private static final String SLASH = "/";
+    private static final String JS_EXTENSION = ".js";
     private static final String RESOURCE_PATH = "/lint/";
-    private static final String[] INDEX_JS = {"index.js"};
-    private static final String[] NODE_MODULES = {"node_modules"};
-    private static final String[] PACKAGE_JSON = {"package.json"};
-    private static final String EXPORTS_PATTERN = "(exports.[a-zA-Z0-9_]+\\s*=\\s*[^;]+;)|(module.exports\\s*=\\s*.[a-zA-Z0-9_]+;)";
-    private static final Pattern REQUIRE_PATTERN = compile("require\\(['\"](.*?)['\"]\\)|import\\s*[{},a-zA-Z0-9_\\s]+\\s*from\\s*['\"](.*?)['\"];*");
+    private static final String BUNDLE_PATH = "/lint/bundle";
+    private static final String CONFIG_PATH = "/lint/config";
+    private static final String CACHE_KEY = "%s:%s";
+    private static final String INDEX_JS = "index.js";
+    private static final String RULES = "rules";
+    private static final String RULE_ENTRY = "%s/rules/%s";
+    private static final String MODULE_QUERY = "module";
+    private static final String RESULTS_PATH = "/lint/results";
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String CONFIG_SEPARATOR = "\0";
+    private static final int NO_CONTENT_CODE = 204;
+    private static final int BAD_REQUEST_CODE = 400;
+    private static final int METHOD_NOT_ALLOWED_CODE = 405;
+    private static final int PAYLOAD_TOO_LARGE_CODE = 413;
+    private static final int MAX_RESULTS_BYTES = 4 * 1024 * 1024;
 
     private final ProjectService projectService;
+    private final BpmnFile bpmnFile;
+    private final LintModuleStore lintModuleStore;
+
+    private volatile ResultsKey resultsKey;
+
+    /**
+     * Handles the request for the given path, answering the {@code ?module} query with
+     * the path of the module in the {@link LintModuleStore} and the {@code /lint/results} path
+     * from the {@link LintResultCache}.
+     *
+     * @param exchange the {@link HttpExchange} object representing the current HTTP transaction
+     * @param path     the path of the requested linting plugin file
+     * @throws IOException if an I/O error occurs while writing the response
+     */
+    @Override
+    protected void handleRequest(HttpExchange exchange, String path) throws IOException {
+        if (path.endsWith(RESULTS_PATH)) {
+            handleResults(exchange, path);
+            return;
+        }
+
+        if (!MODULE_QUERY.equals(exchange.getRequestURI().getQuery())) {
+            super.handleRequest(exchange, path);
+            return;
+        }
+
+        var modulePath = getScript(path).map(lintModuleStore::put);
+        if (modulePath.isPresent()) {
+            writeBody(exchange, ResponseBody.of(modulePath.get()));
+        } else {
+            writeNotFound(exchange, path);
+        }
+    }
+
+    /**
+     * Answers a {@code GET} request with the cached lint results of the diagram, and stores
+     * the lint results of a {@code POST} request. The results are a JSON object, posted as {@code text/plain},
+     * so the page served from the in-process origin sends a simple request without a CORS preflight.
+     *
+     * @param exchange the {@link HttpExchange} object representing the current HTTP transaction
+     * @param path     the path of the request
+     * @throws IOException if an I/O error occurs while reading the request or writing the response
+     */
+    private void handleResults(HttpExchange exchange, String path) throws IOException {
+        var method = exchange.getRequestMethod();
+        if (GET.equals(method)) {
+            var results = LintResultCache.getInstance().get(getResultsKey());
+            if (results.isPresent()) {
+                writeBody(exchange, ResponseBody.of(results.get()));
+            } else {
+                writeNotFound(exchange, path);
+            }
+
+            return;
+        }
+
+        if (!POST.equals(method)) {
+            exchange.sendResponseHeaders(METHOD_NOT_ALLOWED_CODE, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] content;
+        try (var requestBody = exchange.getRequestBody()) {
+            content = requestBody.readNBytes(MAX_RESULTS_BYTES + 1);
+        }
+
+        exchange.sendResponseHeaders(storeResults(content), -1);
+        exchange.close();
+    }
+
+    /**
+     * Stores the lint results of the diagram if they are a JSON object within the size limit.
+     *
+     * @param content The lint results
+     * @return The status code of the response
+     */
+    private int storeResults(byte[] content) {
+        if (content.length > MAX_RESULTS_BYTES) {
+            return PAYLOAD_TOO_LARGE_CODE;
+        }
+
+        var results = new String(content, UTF_8);
+        try {
+            if (!JsonParser.parseString(results).isJsonObject()) {
+                return BAD_REQUEST_CODE;
+            }
+        } catch (JsonParseException e) {
+            return BAD_REQUEST_CODE;
+        }
+
+        LintResultCache.getInstance().put(getResultsKey(), results);
+        return NO_CONTENT_CODE;
+    }
+
+    /**
+     * Creates the key of the lint results of the diagram as loaded into the editor, under the {@code .bpmnlintrc}
+     * of the edited BPMN file and the plugins bundle it references.
+     *
+     * <p>The diagram never changes for the handler and the {@code .bpmnlintrc} and the bundle are cached strings,
+     * so the key is hashed again only when one of them is replaced by a new instance.</p>
+     *
+     * @return The key of the lint results
+     */
+    private String getResultsKey() {
+        var bpmnlintrc = resolveConfig().map(LintConfigResolver.Entry::content).orElse(null);
+        var bundle = isNull(bpmnlintrc) ? null : getPluginsBundle().orElse(null);
+        var cached = resultsKey;
+        if (nonNull(cached) && cached.bpmnlintrc() == bpmnlintrc && cached.bundle() == bundle) {
+            return cached.key();
+        }
+
+        var config = isNull(bpmnlintrc) ? "" : bpmnlintrc + CONFIG_SEPARATOR + (isNull(bundle) ? "" : bundle);
+        var key = LintResultCache.key(bpmnFile.getContent(), config);
+        resultsKey = new ResultsKey(bpmnlintrc, bundle, key);
+        return key;
+    }
+
+    /**
+     * Retrieves the response body of a linting plugin file.
+     *
+     * <p>The {@code /lint/bundle} path returns all lint plugins referenced by the {@code .bpmnlintrc}
+     * of the edited BPMN file in a single script, the {@code /lint/config} path returns its flat configuration
+     * as JSON. JavaScript files are bundled with their required modules, the bundle is kept as a string
+     * in the {@link LintContentCache} and only its encoding is streamed. Any other file is streamed directly
+     * from the virtual file without reading it into memory.</p>
+     *
+     * @param path The path of the requested linting plugin file.
+     * @return The response body, or null if not found.
+     */
+    @Override
+    protected ResponseBody getBody(String path) {
+        if (path.endsWith(BUNDLE_PATH)) {
+            return getPluginsBundle().map(ResponseBody::of).orElse(null);
+        }
+
+        if (path.endsWith(CONFIG_PATH)) {
+            return getFlatConfig().map(ResponseBody::of).orElse(null);
+        }
+
+        if (path.endsWith(JS_EXTENSION)) {
+            return getInlinedContent(path).map(ResponseBody::of).orElse(null);
+        }
+
+        return projectService.findFileByPath(toFolderPath(path))
+                .map(file -> ResponseBody.of(file::getInputStream, file.getLength()))
+                .orElse(null);
+    }
 
     /**
      * Retrieves and processes the content of a linting plugin file.
      *
      * <p>This method overrides the abstract method from AbstractServerHandler.
      * It locates the requested file using the ProjectService, then processes
-     * the file content by inlining required modules.</p>
+     * the file content by bundling it with its required modules.</p>
      *
      * @param path The path of the requested linting plugin file.
      * @return A byte array containing the processed JavaScript content, or null if not found.
      */
     @Override
     protected byte[] getContent(String path) {
-        var folderPath = path.replace(RESOURCE_PATH, "").split(SLASH);
-        var fileContent = projectService.findContentByPath(folderPath);
-        return fileContent.map(s -> inlineModules(s, new HashSet<>()).getBytes()).orElse(null);
-    }
-
-    /**
-     * Processes JavaScript code by inlining required modules.
-     * This method recursively processes require and import statements, replacing them with the actual module content.
-     *
-     * <p>It handles circular dependencies by keeping track of processed modules.</p>
-     *
-     * @param jsCode           The original JavaScript code to process.
-     * @param processedModules A set of module names that have already been processed to avoid circular dependencies.
-     * @return The processed JavaScript code with modules inlined.
-     */
-    private String inlineModules(String jsCode, Set<String> processedModules) {
-        var result = new StringBuilder();
-        var matcher = REQUIRE_PATTERN.matcher(jsCode);
-        var lastIndex = 0;
-        while (matcher.find()) {
-            var moduleName = matcher.group(1);
-            if (!processedModules.contains(moduleName)) {
-                processedModules.add(moduleName);
-                var moduleFile = findModuleFile(moduleName);
-                if (moduleFile.isPresent()) {
-                    result.append(inlineModules(moduleFile.get(), processedModules));
-                } else {
-                    result.append("/* Missing module: ").append(moduleName).append(" */");
-                }
-            }
+        return getInlinedContent(path).map(String::getBytes).orElse(null);
+    }
 
-            lastIndex = matcher.end();
+    /**
+     * Retrieves the JavaScript content of the plugins bundle or of a linting plugin file.
+     *
+     * @param path The path of the requested linting plugin file.
+     * @return An Optional containing the JavaScript content, or empty if not found or not JavaScript.
+     */
+    private Optional<String> getScript(String path) {
+        if (path.endsWith(BUNDLE_PATH)) {
+            return getPluginsBundle();
         }
 
-        result.append(jsCode.substring(lastIndex));
-        return result.toString().replaceAll(EXPORTS_PATTERN, "");
+        return path.endsWith(JS_EXTENSION) ? getInlinedContent(path) : Optional.empty();
     }
 
     /**
-     * Locates the file for a given module name in the project's node_modules directory.
+     * Locates the requested file using the ProjectService and bundles it with its required modules.
      *
-     * <p>This method attempts to find the main file for the module by checking the package.json file.
-     * If package.json is not found or cannot be parsed, it falls back to looking for an index.js file.</p>
+     * @param path The path of the requested linting plugin file.
+     * @return An Optional containing the processed JavaScript content, or empty if not found.
+     */
+    private Optional<String> getInlinedContent(String path) {
+        var folderPath = toFolderPath(path);
+        var contentCache = LintContentCache.getInstance(projectService.project());
+        return Optional.ofNullable(contentCache.get(String.join(SLASH, folderPath), () -> bundle(folderPath)));
+    }
+
+    /**
+     * Bundles the requested file with its required modules and collects all files the result was produced from.
      *
-     * @param moduleName The name of the module to find.
-     * @return An Optional containing the module file content if found, or empty if not found.
+     * @param folderPath The folder path segments of the requested file.
+     * @return The cache entry with the bundled JavaScript content, or null if the file is not found.
      */
-    private Optional<String> findModuleFile(String moduleName) {
-        var nodeModulePath = concat(NODE_MODULES, moduleName.split(SLASH));
-        var packageJson = projectService.findContentByPath(concat(nodeModulePath, PACKAGE_JSON));
-        if (packageJson.isEmpty()) {
-            return projectService.findContentByPath(concat(nodeModulePath, INDEX_JS));
-        }
+    private LintContentCache.Entry bundle(String[] folderPath) {
+        var bundler = new LintBundler(LintModuleIndex.getInstance(projectService.project()));
+        return projectService.findFileByPath(folderPath).map(bundler::bundle).orElse(null);
+    }
 
-        try {
-            var mainFile = JDOMUtil.load(packageJson.get()).getChild("main").getValue();
-            return projectService.findContentByPath(concat(nodeModulePath, mainFile.split(SLASH)));
-        } catch (IOException | JDOMException e) {
-            return Optional.empty();
+    /**
+     * Returns the bundle of all lint plugins referenced by the {@code .bpmnlintrc} of the edited BPMN file.
+     *
+     * @return An Optional containing the bundle, or empty if there is no {@code .bpmnlintrc}.
+     */
+    private Optional<String> getPluginsBundle() {
+        return resolveConfig().map(bpmnlintrc -> LintContentCache.getInstance(projectService.project())
+                .get(CACHE_KEY.formatted(BUNDLE_PATH, bpmnlintrc.file().getPath()), () -> bundlePlugins(bpmnlintrc)));
+    }
+
+    /**
+     * Returns the flat configuration of the {@code .bpmnlintrc} of the edited BPMN file.
+     *
+     * @return An Optional containing the configuration as JSON, or empty if there is no {@code .bpmnlintrc}
+     *         or it cannot be flattened.
+     */
+    private Optional<String> getFlatConfig() {
+        return resolveConfig().map(bpmnlintrc -> LintContentCache.getInstance(projectService.project())
+                .get(CACHE_KEY.formatted(CONFIG_PATH, bpmnlintrc.file().getPath()), () -> flattenConfig(bpmnlintrc)));
+    }
+
+    /**
+     * Resolves the {@code .bpmnlintrc} of the edited BPMN file with the {@link LintConfigResolver} of the project.
+     *
+     * @return An Optional containing the configuration, or empty if there is no {@code .bpmnlintrc}.
+     */
+    private Optional<LintConfigResolver.Entry> resolveConfig() {
+        return ReadAction.compute(() -> LintConfigResolver.getInstance(projectService.project())
+                .resolve(bpmnFile.getFile()));
+    }
+
+    /**
+     * Flattens the {@code .bpmnlintrc} and collects the plugin indexes the extended configs were read from.
+     *
+     * @param bpmnlintrc The resolved {@code .bpmnlintrc}
+     * @return The cache entry with the flat configuration, or null if it cannot be flattened.
+     */
+    private LintContentCache.Entry flattenConfig(LintConfigResolver.Entry bpmnlintrc) {
+        var dependencies = new HashMap<VirtualFile, Long>();
+        dependencies.put(bpmnlintrc.file(), bpmnlintrc.file().getModificationStamp());
+
+        var flattener = new LintConfigFlattener(plugin -> readPluginIndex(plugin, dependencies));
+        return flattener.flatten(bpmnlintrc.content())
+                .map(config -> new LintContentCache.Entry(config, dependencies))
+                .orElse(null);
+    }
+
+    /**
+     * Reads the index of a lint plugin and adds it to the dependencies.
+     *
+     * @param plugin       The package name of the plugin
+     * @param dependencies The dependencies collected so far
+     * @return An Optional containing the source of the index, or empty if the plugin is not found.
+     */
+    private Optional<String> readPluginIndex(String plugin, Map<VirtualFile, Long> dependencies) {
+        return projectService.findFileByPath(concat(plugin.split(SLASH), INDEX_JS)).map(index -> {
+            dependencies.put(index, index.getModificationStamp());
+            return VirtualFileUtil.readText(index);
+        });
+    }
+
+    /**
+     * Bundles the index and every rule of the lint plugins referenced by the {@code .bpmnlintrc}.
+     * The index of a plugin is available in the bundle under the plugin name,
+     * its rules under {@code <plugin>/rules/<rule>}. Plugins which are not found are skipped.
+     *
+     * @param bpmnlintrc The resolved {@code .bpmnlintrc}
+     * @return The cache entry with the bundle.
+     */
+    private LintContentCache.Entry bundlePlugins(LintConfigResolver.Entry bpmnlintrc) {
+        var dependencies = new HashMap<VirtualFile, Long>();
+        dependencies.put(bpmnlintrc.file(), bpmnlintrc.file().getModificationStamp());
+
+        var entries = new LinkedHashMap<String, VirtualFile>();
+        for (var plugin : LintPluginNames.fromConfig(bpmnlintrc.content())) {
+            var pluginPath = plugin.split(SLASH);
+            projectService.findFileByPath(concat(pluginPath, INDEX_JS)).ifPresent(index -> entries.put(plugin, index));
+            projectService.findFileByPath(concat(pluginPath, RULES))
+                    .map(VirtualFile::getChildren)
+                    .stream()
+                    .flatMap(Arrays::stream)
+                    .filter(rule -> !rule.isDirectory() && rule.getName().endsWith(JS_EXTENSION))
+                    .forEach(rule -> entries.put(RULE_ENTRY.formatted(plugin, rule.getNameWithoutExtension()), rule));
         }
+
+        var bundler = new LintBundler(LintModuleIndex.getInstance(projectService.project()));
+        return new LintContentCache.Entry(bundler.bundle(entries, dependencies), dependencies);
+    }
+
+    /**
+     * Appends a segment to the path.
+     *
+     * @param path    The path segments.
+     * @param segment The appended segment.
+     * @return The new path segments.
+     */
+    private static String[] concat(String[] path, String segment) {
+        var result = Arrays.copyOf(path, path.length + 1);
+        result[path.length] = segment;
+        return result;
+    }
+
+    /**
+     * Converts the request path to the project folder path of the requested file.
+     *
+     * <p>The path may be prefixed with the editor route token, so everything up to
+     * and including the lint resource path is stripped.</p>
+     *
+     * @param path The path of the requested linting plugin file.
+     * @return The folder path segments of the requested file.
+     */
+    private static String[] toFolderPath(String path) {
+        return path.substring(path.indexOf(RESOURCE_PATH) + RESOURCE_PATH.length()).split(SLASH);
+    }
+
+    /**
+     * The key of the lint results, with the instances of the configuration it was created from.
+     *
+     * @param bpmnlintrc The content of the {@code .bpmnlintrc}, or null if there is none
+     * @param bundle     The plugins bundle, or null if there is none
+     * @param key        The key of the lint results
+     */
+    private record ResultsKey(String bpmnlintrc, String bundle, String key) {
     }
-}
\ No newline at end of file
+}
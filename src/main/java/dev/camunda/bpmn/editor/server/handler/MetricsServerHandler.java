@@ -0,0 +1,31 @@
+package dev.camunda.bpmn.editor.server.handler;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Handler for the metrics HTTP requests.
+ * This class serves the plain text report of the embedded server metrics:
+ * per-route request counts, latency percentiles, response sizes and "not found" responses,
+ * together with the request executor counters and the lint content cache counters.
+ *
+ * @author Oleksandr Havrysh
+ */
+@RequiredArgsConstructor
+public class MetricsServerHandler extends AbstractServerHandler {
+
+    private final Supplier<String> reportSupplier;
+
+    /**
+     * Retrieves the current metrics report.
+     *
+     * @param path The path of the request, ignored.
+     * @return A byte array containing the metrics report.
+     */
+    @Override
+    protected byte[] getContent(String path) {
+        return reportSupplier.get().getBytes(UTF_8);
+    }
+}
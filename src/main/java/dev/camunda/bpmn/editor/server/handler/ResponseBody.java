@@ -0,0 +1,133 @@
+package dev.camunda.bpmn.editor.server.handler;
+
+import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.intellij.openapi.util.ThrowableComputable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+
+/**
+ * The body of an HTTP response written by {@link AbstractServerHandler}.
+ * A body either has a known length, in which case any byte range of it can be written,
+ * or an unknown length, in which case it is streamed with chunked transfer encoding.
+ *
+ * <p>Bodies are written through a fixed size buffer, so serving a large file does not
+ * materialise it on the heap.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public interface ResponseBody {
+
+    /**
+     * The length of a body which is only known after it has been written.
+     */
+    long UNKNOWN_LENGTH = -1;
+
+    /**
+     * The size of the buffer used to copy streamed content.
+     */
+    int BUFFER_SIZE = 8192;
+
+    /**
+     * Returns the length of the body in bytes.
+     *
+     * @return The length of the body, or {@link #UNKNOWN_LENGTH} if it is not known in advance
+     */
+    long length();
+
+    /**
+     * Writes a range of the body to the output stream.
+     * Bodies of unknown length ignore the range and are always written completely.
+     *
+     * @param outputStream The stream to write to
+     * @param offset       The index of the first byte to write
+     * @param count        The number of bytes to write
+     * @throws IOException if an I/O error occurs while writing
+     */
+    void writeTo(OutputStream outputStream, long offset, long count) throws IOException;
+
+    /**
+     * Creates a body of an in-memory byte array.
+     * Ranges are written directly from the array without copying it.
+     *
+     * @param content The content of the body
+     * @return The body of the given content
+     */
+    static ResponseBody of(byte[] content) {
+        return new ResponseBody() {
+
+            @Override
+            public long length() {
+                return content.length;
+            }
+
+            @Override
+            public void writeTo(OutputStream outputStream, long offset, long count) throws IOException {
+                outputStream.write(content, (int) offset, (int) count);
+            }
+        };
+    }
+
+    /**
+     * Creates a body of a text, encoded as UTF-8 while it is written.
+     * The encoded length is not known in advance, so the body is streamed.
+     *
+     * @param content The text content of the body
+     * @return The body of the given text
+     */
+    static ResponseBody of(String content) {
+        return new ResponseBody() {
+
+            @Override
+            public long length() {
+                return UNKNOWN_LENGTH;
+            }
+
+            @Override
+            public void writeTo(OutputStream outputStream, long offset, long count) throws IOException {
+                var writer = new OutputStreamWriter(outputStream, UTF_8);
+                for (var start = 0; start < content.length(); start += BUFFER_SIZE) {
+                    writer.write(content, start, min(BUFFER_SIZE, content.length() - start));
+                }
+
+                writer.flush();
+            }
+        };
+    }
+
+    /**
+     * Creates a body streamed from an input stream.
+     * The stream is opened for every write, so the body can serve several ranges.
+     *
+     * @param streamSupplier The supplier opening the content stream
+     * @param length         The length of the content, or {@link #UNKNOWN_LENGTH}
+     * @return The body streaming the content
+     */
+    static ResponseBody of(ThrowableComputable<? extends InputStream, IOException> streamSupplier, long length) {
+        return new ResponseBody() {
+
+            @Override
+            public long length() {
+                return length;
+            }
+
+            @Override
+            public void writeTo(OutputStream outputStream, long offset, long count) throws IOException {
+                try (var inputStream = streamSupplier.compute()) {
+                    inputStream.skipNBytes(offset);
+
+                    var buffer = new byte[BUFFER_SIZE];
+                    var remaining = length == UNKNOWN_LENGTH ? Long.MAX_VALUE : count;
+                    int read;
+                    while (remaining > 0 && (read = inputStream.read(buffer, 0, (int) min(buffer.length, remaining))) != -1) {
+                        outputStream.write(buffer, 0, read);
+                        remaining -= read;
+                    }
+                }
+            }
+        };
+    }
+}
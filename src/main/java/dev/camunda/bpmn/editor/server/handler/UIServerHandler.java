@@ -1,18 +1,24 @@
 package dev.camunda.bpmn.editor.server.handler;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static org.apache.commons.io.IOUtils.toByteArray;
 
+import com.sun.net.httpserver.HttpExchange;
+import dev.camunda.bpmn.editor.server.asset.AssetCache;
 import java.io.IOException;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
 
 /**
  * Handler for BPMN Editor UI HTTP requests.
  * This class is responsible for serving static files for the BPMN Editor UI.
- * It extends the AbstractServerHandler and implements the getContent method
- * to retrieve static resources from the classpath.
+ * It extends the AbstractServerHandler and serves the resources from the in-memory {@link AssetCache},
+ * so the plugin jar is read only once per resource.
  *
- * <p>The handler uses the class loader to access resources, making it suitable
- * for serving files packaged within the application's JAR or classpath.</p>
+ * <p>Responses carry an entity tag and caching headers: resources with a content hash in their name
+ * are served as immutable, the rest is revalidated with {@code If-None-Match}. The gzip representation
+ * is sent when the client accepts it and does not request a byte range. It has its own entity tag and
+ * the responses vary by {@code Accept-Encoding}.</p>
  *
  * <p>This handler is typically used in conjunction with an HTTP server to
  * provide the necessary UI files (HTML, CSS, JavaScript, etc.) for the
@@ -20,15 +26,65 @@ import java.io.IOException;
  *
  * @author Oleksandr Havrysh
  */
+@RequiredArgsConstructor
 public class UIServerHandler extends AbstractServerHandler {
 
+    private static final String GZIP = "gzip";
+    private static final String ANY_ETAG = "*";
+    private static final String ETAG = "ETag";
+    private static final String VARY = "Vary";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String RANGE = "Range";
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String NO_CACHE = "no-cache";
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private final AssetCache assetCache;
+
     /**
-     * Retrieves the content of a static file based on the given path.
+     * Serves the requested resource from the asset cache.
+     * Answers with "304 Not Modified" when the client already has the current version,
+     * otherwise sends the (compressed, if accepted) content with caching headers.
      *
-     * <p>This method attempts to load the requested resource from the classpath
-     * using the class loader.
-     * It removes the leading slash from the path to
-     * correctly locate the resource within the classpath.</p>
+     * @param exchange the {@link HttpExchange} object representing the current HTTP transaction
+     * @param path     the path of the requested resource
+     * @throws IOException if an I/O error occurs while writing the response
+     */
+    @Override
+    protected void handleRequest(HttpExchange exchange, String path) throws IOException {
+        var asset = assetCache.get(path);
+        if (isNull(asset)) {
+            writeNotFound(exchange, path);
+            return;
+        }
+
+        var gzip = asset.hasGzipContent() && acceptsGzip(exchange);
+        var etag = gzip ? asset.gzipEtag() : asset.etag();
+        var headers = exchange.getResponseHeaders();
+        headers.set(ETAG, etag);
+        headers.set(CONTENT_TYPE, asset.contentType());
+        headers.set(CACHE_CONTROL, asset.immutable() ? IMMUTABLE : NO_CACHE);
+        headers.set(VARY, ACCEPT_ENCODING);
+
+        if (isNotModified(exchange, etag)) {
+            exchange.sendResponseHeaders(NOT_MODIFIED_CODE, -1);
+            exchange.close();
+            return;
+        }
+
+        if (gzip) {
+            headers.set(CONTENT_ENCODING, GZIP);
+            writeBody(exchange, ResponseBody.of(asset.gzipContent()));
+        } else {
+            writeBody(exchange, ResponseBody.of(asset.content()));
+        }
+    }
+
+    /**
+     * Retrieves the raw content of a static file based on the given path.
      *
      * @param path The path of the requested resource, typically starting with a slash.
      * @return A byte array containing the file content if found, or null if the file
@@ -36,10 +92,34 @@ public class UIServerHandler extends AbstractServerHandler {
      */
     @Override
     protected byte[] getContent(String path) {
-        try (var fileStream = UIServerHandler.class.getClassLoader().getResourceAsStream(path.substring(1))) {
-            return nonNull(fileStream) ? toByteArray(fileStream) : null;
-        } catch (IOException e) {
-            return null;
-        }
+        var asset = assetCache.get(path);
+        return nonNull(asset) ? asset.content() : null;
+    }
+
+    /**
+     * Checks whether the client already has the current version of the selected representation.
+     *
+     * @param exchange the current HTTP transaction
+     * @param etag     the entity tag of the representation that would be sent
+     * @return true if one of the entity tags from {@code If-None-Match} matches the representation
+     */
+    private static boolean isNotModified(HttpExchange exchange, String etag) {
+        var ifNoneMatch = exchange.getRequestHeaders().getFirst(IF_NONE_MATCH);
+        return nonNull(ifNoneMatch) && Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(match -> ANY_ETAG.equals(match) || etag.equals(match));
+    }
+
+    /**
+     * Checks whether the client accepts gzip encoded responses.
+     * Range requests are always answered from the raw content.
+     *
+     * @param exchange the current HTTP transaction
+     * @return true if gzip is listed in {@code Accept-Encoding} and no range is requested
+     */
+    private static boolean acceptsGzip(HttpExchange exchange) {
+        var acceptEncoding = exchange.getRequestHeaders().getFirst(ACCEPT_ENCODING);
+        return nonNull(acceptEncoding) && acceptEncoding.contains(GZIP)
+                && !exchange.getRequestHeaders().containsKey(RANGE);
     }
-}
\ No newline at end of file
+}
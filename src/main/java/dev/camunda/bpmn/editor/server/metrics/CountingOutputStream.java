@@ -0,0 +1,42 @@
+package dev.camunda.bpmn.editor.server.metrics;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import lombok.Getter;
+
+/**
+ * Output stream counting the bytes written to the wrapped stream.
+ * Used to measure the size of response bodies.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class CountingOutputStream extends FilterOutputStream {
+
+    /**
+     * The number of bytes written so far.
+     */
+    @Getter
+    private long count;
+
+    /**
+     * Creates the counting stream.
+     *
+     * @param out The stream to write to
+     */
+    public CountingOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        count += len;
+    }
+}
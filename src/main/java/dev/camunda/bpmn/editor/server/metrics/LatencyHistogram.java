@@ -0,0 +1,93 @@
+package dev.camunda.bpmn.editor.server.metrics;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.ceil;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets.
+ * Every bucket covers the latencies up to the next power of two microseconds,
+ * so a percentile is reported with an error of at most a factor of two, which is enough
+ * to tell a one millisecond request from a one second one.
+ *
+ * <p>Recording a latency is a couple of atomic increments, so the histogram can be updated
+ * from every request thread without contention on a lock.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a single latency.
+     *
+     * @param nanos The latency in nanoseconds
+     */
+    public void record(long nanos) {
+        var micros = NANOSECONDS.toMicros(nanos);
+        buckets.incrementAndGet(Long.SIZE - numberOfLeadingZeros(micros));
+        count.incrementAndGet();
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return The number of recorded latencies
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Returns the highest recorded latency.
+     *
+     * @return The highest latency in microseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the upper bound of the bucket containing the given percentile.
+     *
+     * @param percentile The percentile between 0 and 1
+     * @return The latency in microseconds, never higher than the recorded maximum
+     */
+    public long getPercentile(double percentile) {
+        var total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        var target = (long) ceil(total * percentile);
+        var seen = 0L;
+        for (var bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += buckets.get(bucket);
+            if (seen >= target) {
+                return min(upperBound(bucket), max.get());
+            }
+        }
+
+        return max.get();
+    }
+
+    /**
+     * Returns the highest latency covered by the bucket.
+     *
+     * @param bucket The index of the bucket
+     * @return The latency in microseconds
+     */
+    private static long upperBound(int bucket) {
+        return bucket == 0 ? 0 : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,79 @@
+package dev.camunda.bpmn.editor.server.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Request counters and latency histogram of a single server route.
+ * The metrics are attached to every {@link com.sun.net.httpserver.HttpContext} of the route
+ * under {@link #ATTRIBUTE}, so requests of all editors sharing the route are aggregated.
+ *
+ * @author Oleksandr Havrysh
+ */
+@RequiredArgsConstructor
+public class RouteMetrics {
+
+    /**
+     * The name of the context attribute holding the route metrics.
+     */
+    public static final String ATTRIBUTE = RouteMetrics.class.getName();
+
+    private static final int NOT_FOUND_CODE = 404;
+    private static final double P50 = 0.5;
+    private static final double P99 = 0.99;
+
+    /**
+     * The route path, without the editor token.
+     */
+    @Getter
+    private final String route;
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+
+    /**
+     * Records a handled request.
+     *
+     * @param responseCode The HTTP status code of the response
+     * @param nanos        The time spent handling the request in nanoseconds
+     * @param bytes        The number of response body bytes written
+     */
+    public void record(int responseCode, long nanos, long bytes) {
+        latency.record(nanos);
+        bytesOut.add(bytes);
+        if (responseCode == NOT_FOUND_CODE) {
+            notFound.increment();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the route counters.
+     *
+     * @return The current route statistics
+     */
+    public Snapshot getSnapshot() {
+        return new Snapshot(route,
+                latency.getCount(),
+                latency.getPercentile(P50),
+                latency.getPercentile(P99),
+                latency.getMax(),
+                bytesOut.sum(),
+                notFound.sum());
+    }
+
+    /**
+     * A snapshot of the route counters. Latencies are in microseconds.
+     *
+     * @param route    The route path
+     * @param count    The number of handled requests
+     * @param p50      The median latency
+     * @param p99      The 99th percentile latency
+     * @param max      The highest latency
+     * @param bytesOut The total number of response body bytes written
+     * @param notFound The number of "404 Not Found" responses
+     */
+    public record Snapshot(String route, long count, long p50, long p99, long max, long bytesOut, long notFound) {
+    }
+}
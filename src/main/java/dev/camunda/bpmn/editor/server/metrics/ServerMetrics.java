@@ -0,0 +1,60 @@
+package dev.camunda.bpmn.editor.server.metrics;
+
+import static java.util.Comparator.comparing;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link RouteMetrics} of the embedded HTTP server.
+ * Metrics are created on the first use of a route and live as long as the server.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class ServerMetrics {
+
+    private static final String ROUTE_LINE = "%-16s count=%d p50=%.2fms p99=%.2fms max=%.2fms bytesOut=%d notFound=%d";
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the metrics of the given route, creating them on the first call.
+     *
+     * @param route The route path, without the editor token
+     * @return The metrics of the route
+     */
+    public RouteMetrics forRoute(String route) {
+        return routes.computeIfAbsent(route, RouteMetrics::new);
+    }
+
+    /**
+     * Returns the snapshots of all routes, ordered by the route path.
+     *
+     * @return The current route statistics
+     */
+    public List<RouteMetrics.Snapshot> getSnapshots() {
+        return routes.values().stream()
+                .map(RouteMetrics::getSnapshot)
+                .sorted(comparing(RouteMetrics.Snapshot::route))
+                .toList();
+    }
+
+    /**
+     * Formats the snapshots of all routes as plain text, one route per line.
+     *
+     * @return The formatted route statistics
+     */
+    public List<String> format() {
+        return getSnapshots().stream()
+                .map(snapshot -> ROUTE_LINE.formatted(snapshot.route(),
+                        snapshot.count(),
+                        snapshot.p50() / MICROS_PER_MILLI,
+                        snapshot.p99() / MICROS_PER_MILLI,
+                        snapshot.max() / MICROS_PER_MILLI,
+                        snapshot.bytesOut(),
+                        snapshot.notFound()))
+                .toList();
+    }
+}
@@ -48,6 +48,16 @@ public final class BpmnEditorSettings implements PersistentStateComponent<BpmnEd
 
         private Boolean useBpmnLinter = true;
 
+        @NotNull
+        private LintMode lintMode = LintMode.MAIN_THREAD;
+
+        @NotNull
+        private ExecutorMode executorMode = ExecutorMode.VIRTUAL_THREADS;
+
+        private Boolean useInProcessResources = false;
+
+        private Boolean warmUpOnStartup = false;
+
         /**
          * Adds file settings for a specific file.
          *
@@ -222,6 +232,44 @@ public final class BpmnEditorSettings implements PersistentStateComponent<BpmnEd
         }
     }
 
+    /**
+     * An enum representing the executor used by the embedded HTTP server of the BPMN Editor.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum ExecutorMode {
+
+        VIRTUAL_THREADS("Virtual threads"),
+        THREAD_POOL("Thread pool"),
+        SINGLE_THREAD("Single thread");
+
+        private final String name;
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * An enum representing where the BPMN Editor UI runs the BPMN linter.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum LintMode {
+
+        MAIN_THREAD("Main thread"),
+        WEB_WORKER("Web Worker"),
+        INCREMENTAL("Incremental");
+
+        private final String name;
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
     /**
      * A class representing the file settings for the BPMN Editor.
      */
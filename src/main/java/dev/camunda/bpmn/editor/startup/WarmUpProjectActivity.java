@@ -0,0 +1,68 @@
+package dev.camunda.bpmn.editor.startup;
+
+import static com.intellij.psi.search.GlobalSearchScope.projectScope;
+import static dev.camunda.bpmn.editor.util.BpmnFileNames.isBpmnFileName;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.ProjectActivity;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import dev.camunda.bpmn.editor.server.ServerService;
+import dev.camunda.bpmn.editor.settings.BpmnEditorSettings;
+import kotlin.Unit;
+import kotlin.coroutines.Continuation;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Project activity warming up the BPMN editor infrastructure when a project is opened.
+ * If the warm-up is enabled in the settings and the project contains BPMN files,
+ * the shared HTTP server is started, the editor UI resources are loaded into memory
+ * and the JCEF runtime is initialized in the background (see {@link ServerService#warmUp()}).
+ *
+ * <p>The BPMN files are looked up in the file name index in smart mode, the check is cancelled
+ * and restarted by the platform if indexing starts again.</p>
+ *
+ * <p>{@link ProjectActivity} is a Kotlin suspend interface, it is implemented from Java by taking the
+ * continuation as the last parameter. The activity never suspends, it only schedules the non-blocking
+ * read action and returns {@link Unit} at once.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+public class WarmUpProjectActivity implements ProjectActivity {
+
+    /**
+     * Schedules the warm-up if it is enabled and the project contains BPMN files.
+     *
+     * @param project      The opened project
+     * @param continuation The continuation of the suspend call, unused as the activity never suspends
+     * @return {@link Unit#INSTANCE}
+     */
+    @Override
+    public Object execute(@NotNull Project project, @NotNull Continuation<? super Unit> continuation) {
+        if (!BpmnEditorSettings.getInstance().getState().getWarmUpOnStartup()) {
+            return Unit.INSTANCE;
+        }
+
+        ReadAction.nonBlocking(() -> containsBpmnFiles(project))
+                .inSmartMode(project)
+                .expireWith(project)
+                .submit(AppExecutorUtil.getAppExecutorService())
+                .onSuccess(containsBpmnFiles -> {
+                    if (containsBpmnFiles) {
+                        ServerService.getInstance().warmUp();
+                    }
+                });
+        return Unit.INSTANCE;
+    }
+
+    /**
+     * Checks whether the project contains at least one BPMN file.
+     *
+     * @param project The opened project
+     * @return true if a file with a supported extension exists in the project
+     */
+    private static boolean containsBpmnFiles(Project project) {
+        return !FilenameIndex.processAllFileNames(name -> !isBpmnFileName(name), projectScope(project), null);
+    }
+}
@@ -73,6 +73,10 @@ public class SettingsConfigurable implements Configurable {
                         || component.getScriptTypeValue() != state.getScriptType()
                         || component.getEngineValue() != state.getEngine()
                         || component.getUseBpmnLinter() != state.getUseBpmnLinter()
+                        || component.getLintModeValue() != state.getLintMode()
+                        || component.getExecutorModeValue() != state.getExecutorMode()
+                        || component.getUseInProcessResources() != state.getUseInProcessResources()
+                        || component.getWarmUpOnStartup() != state.getWarmUpOnStartup()
                         || !component.getFileSettings().equals(state.getFileSettings()))
                 .orElse(false);
     }
@@ -90,6 +94,10 @@ public class SettingsConfigurable implements Configurable {
             state.setEngine(component.getEngineValue());
             state.setFileSettings(component.getFileSettings());
             state.setUseBpmnLinter(component.getUseBpmnLinter());
+            state.setLintMode(component.getLintModeValue());
+            state.setExecutorMode(component.getExecutorModeValue());
+            state.setUseInProcessResources(component.getUseInProcessResources());
+            state.setWarmUpOnStartup(component.getWarmUpOnStartup());
         });
     }
 
@@ -106,6 +114,10 @@ public class SettingsConfigurable implements Configurable {
             component.setEngineValue(state.getEngine());
             component.setFileSettings(state.getFileSettings());
             component.setUseBpmnLinter(state.getUseBpmnLinter());
+            component.setLintModeValue(state.getLintMode());
+            component.setExecutorModeValue(state.getExecutorMode());
+            component.setUseInProcessResources(state.getUseInProcessResources());
+            component.setWarmUpOnStartup(state.getWarmUpOnStartup());
         });
     }
 
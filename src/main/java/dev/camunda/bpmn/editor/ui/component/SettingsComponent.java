@@ -35,6 +35,9 @@ import org.jetbrains.annotations.NotNull;
  *   <li>Default script type selection</li>
  *   <li>Default engine selection</li>
  *   <li>BPMN Linter usage toggle</li>
+ *   <li>Embedded server executor selection</li>
+ *   <li>In-process editor resources toggle</li>
+ *   <li>Warm-up on project open toggle</li>
  *   <li>File-specific settings management through a table</li>
  * </ul>
  *
@@ -46,11 +49,15 @@ import org.jetbrains.annotations.NotNull;
 public class SettingsComponent extends JPanel implements Disposable {
 
     private final JCheckBox useBpmnLinter;
+    private final JCheckBox useInProcessResources;
+    private final JCheckBox warmUpOnStartup;
     private final BpmnSettingsTable bpmnSettingsTable;
     private final JComboBox<BpmnEditorSettings.Engine> engineComboBox;
     private final JComboBox<BpmnEditorSettings.ScriptType> scriptTypeComboBox;
     private final JComboBox<BpmnEditorSettings.ColorTheme> colorThemeComboBox;
     private final JComboBox<BpmnEditorSettings.SchemaTheme> schemeThemeComboBox;
+    private final JComboBox<BpmnEditorSettings.LintMode> lintModeComboBox;
+    private final JComboBox<BpmnEditorSettings.ExecutorMode> executorModeComboBox;
 
     /**
      * Constructs a new BpmnEditorSettingsComponent.
@@ -65,6 +72,10 @@ public class SettingsComponent extends JPanel implements Disposable {
         this.engineComboBox = createNullableComboBox(BpmnEditorSettings.Engine.values());
         this.scriptTypeComboBox = createNullableComboBox(BpmnEditorSettings.ScriptType.values());
         this.useBpmnLinter = new JCheckBox("Use BPMN Linter");
+        this.lintModeComboBox = new ComboBox<>(BpmnEditorSettings.LintMode.values());
+        this.executorModeComboBox = new ComboBox<>(BpmnEditorSettings.ExecutorMode.values());
+        this.useInProcessResources = new JCheckBox("Serve editor resources in-process");
+        this.warmUpOnStartup = new JCheckBox("Warm up the editor on project open");
 
         add(addDisclaimerComponents());
         add(new TitledSeparator("Global Settings"));
@@ -104,6 +115,21 @@ public class SettingsComponent extends JPanel implements Disposable {
         useBpmnLinterPanel.add(useBpmnLinter);
         useBpmnLinterPanel.add(new DescriptionLabel("Add '.bpmnlintrc' file to the project to enable BPMN linter"));
         useBpmnLinterPanel.add(new DescriptionLabel("For use custom plugins, put the source code or add it to 'package.json' to the project and run 'npm install'"));
+        useBpmnLinterPanel.add(createComboboxPanel("Lint mode:", lintModeComboBox));
+        useBpmnLinterPanel.add(new DescriptionLabel("Web Worker lints large diagrams without blocking the canvas, Main thread lints in the editor page"));
+        useBpmnLinterPanel.add(new DescriptionLabel("Incremental re-checks only the changed elements in the editor page, rules of plugins still check the whole diagram"));
+
+        var executorModePanel = new JPanel(new VerticalLayout(3));
+        executorModePanel.add(createComboboxPanel("Server executor:", executorModeComboBox));
+        executorModePanel.add(new DescriptionLabel("Threads handling the editor requests. Virtual threads fall back to a thread pool before JDK 21. Applied after IDE restart"));
+
+        var useInProcessResourcesPanel = new JPanel(new VerticalLayout(3));
+        useInProcessResourcesPanel.add(useInProcessResources);
+        useInProcessResourcesPanel.add(new DescriptionLabel("Load the editor UI directly from memory instead of the local HTTP server"));
+
+        var warmUpOnStartupPanel = new JPanel(new VerticalLayout(3));
+        warmUpOnStartupPanel.add(warmUpOnStartup);
+        warmUpOnStartupPanel.add(new DescriptionLabel("Prepare the editor in the background when a project with BPMN files is opened"));
 
         var globalSettingPanel = new JPanel(new VerticalLayout(3));
         globalSettingPanel.setBorder(emptyLeft(20));
@@ -112,6 +138,9 @@ public class SettingsComponent extends JPanel implements Disposable {
         globalSettingPanel.add(createComboboxPanel("Default script type:", scriptTypeComboBox));
         globalSettingPanel.add(createComboboxPanel("Default engine:", engineComboBox));
         globalSettingPanel.add(useBpmnLinterPanel);
+        globalSettingPanel.add(executorModePanel);
+        globalSettingPanel.add(useInProcessResourcesPanel);
+        globalSettingPanel.add(warmUpOnStartupPanel);
 
         return globalSettingPanel;
     }
@@ -298,6 +327,78 @@ public class SettingsComponent extends JPanel implements Disposable {
         this.useBpmnLinter.setSelected(useBpmnLinter);
     }
 
+    /**
+     * Returns the state of the in-process resources checkbox.
+     *
+     * @return {@code true} if the editor resources are set to be served in-process, {@code false} otherwise
+     */
+    public Boolean getUseInProcessResources() {
+        return useInProcessResources.isSelected();
+    }
+
+    /**
+     * Sets the state of the in-process resources checkbox.
+     *
+     * @param useInProcessResources {@code true} to serve the editor resources in-process, {@code false} otherwise
+     */
+    public void setUseInProcessResources(Boolean useInProcessResources) {
+        this.useInProcessResources.setSelected(useInProcessResources);
+    }
+
+    /**
+     * Returns the state of the warm-up checkbox.
+     *
+     * @return {@code true} if the editor is set to be warmed up on project open, {@code false} otherwise
+     */
+    public Boolean getWarmUpOnStartup() {
+        return warmUpOnStartup.isSelected();
+    }
+
+    /**
+     * Sets the state of the warm-up checkbox.
+     *
+     * @param warmUpOnStartup {@code true} to warm up the editor on project open, {@code false} otherwise
+     */
+    public void setWarmUpOnStartup(Boolean warmUpOnStartup) {
+        this.warmUpOnStartup.setSelected(warmUpOnStartup);
+    }
+
+    /**
+     * Returns the currently selected lint mode.
+     *
+     * @return The currently selected {@link BpmnEditorSettings.LintMode}
+     */
+    public BpmnEditorSettings.LintMode getLintModeValue() {
+        return (BpmnEditorSettings.LintMode) lintModeComboBox.getSelectedItem();
+    }
+
+    /**
+     * Sets the selected lint mode in the combo box.
+     *
+     * @param lintMode The {@link BpmnEditorSettings.LintMode} to be selected
+     */
+    public void setLintModeValue(BpmnEditorSettings.LintMode lintMode) {
+        lintModeComboBox.setSelectedItem(lintMode);
+    }
+
+    /**
+     * Returns the currently selected server executor mode.
+     *
+     * @return The currently selected {@link BpmnEditorSettings.ExecutorMode}
+     */
+    public BpmnEditorSettings.ExecutorMode getExecutorModeValue() {
+        return (BpmnEditorSettings.ExecutorMode) executorModeComboBox.getSelectedItem();
+    }
+
+    /**
+     * Sets the selected server executor mode in the combo box.
+     *
+     * @param executorMode The {@link BpmnEditorSettings.ExecutorMode} to be selected
+     */
+    public void setExecutorModeValue(BpmnEditorSettings.ExecutorMode executorMode) {
+        executorModeComboBox.setSelectedItem(executorMode);
+    }
+
     /**
      * Disposes of the resources used by this component.
      * This method is called when the component is no longer needed and should release any resources it holds.
@@ -311,5 +412,7 @@ public class SettingsComponent extends JPanel implements Disposable {
         colorThemeComboBox.removeAll();
         engineComboBox.removeAll();
         schemeThemeComboBox.removeAll();
+        lintModeComboBox.removeAll();
+        executorModeComboBox.removeAll();
     }
 }
\ No newline at end of file
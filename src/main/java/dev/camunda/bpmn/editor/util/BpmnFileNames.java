@@ -0,0 +1,31 @@
+package dev.camunda.bpmn.editor.util;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.List;
+import lombok.NoArgsConstructor;
+
+/**
+ * Utility class for recognizing BPMN files by their names.
+ * BPMN files are the {@code *.bpmn} and {@code *.bpmn20.xml} files opened with the BPMN Editor.
+ *
+ * <p>The class does not depend on the IntelliJ Platform, so it is shared by the plugin and the standalone
+ * lint CLI.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class BpmnFileNames {
+
+    private static final List<String> SUPPORTED_EXTENSIONS = List.of(".bpmn", ".bpmn20.xml");
+
+    /**
+     * Checks if the file name has a supported BPMN extension.
+     *
+     * @param fileName The name of the file
+     * @return true if the name ends with a supported BPMN extension, false otherwise
+     */
+    public static boolean isBpmnFileName(String fileName) {
+        return SUPPORTED_EXTENSIONS.stream().anyMatch(fileName::endsWith);
+    }
+}
@@ -0,0 +1,29 @@
+package dev.camunda.bpmn.editor.util;
+
+import static dev.camunda.bpmn.editor.util.BpmnFileNames.isBpmnFileName;
+import static java.util.Objects.nonNull;
+import static lombok.AccessLevel.PRIVATE;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import lombok.NoArgsConstructor;
+
+/**
+ * Utility class for recognizing BPMN files in the virtual file system.
+ * BPMN files are the {@code *.bpmn} and {@code *.bpmn20.xml} files opened with the BPMN Editor,
+ * their names are checked by {@link BpmnFileNames}.
+ *
+ * @author Oleksandr Havrysh
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class BpmnFileUtils {
+
+    /**
+     * Checks if the file is a BPMN file.
+     *
+     * @param file The file to check
+     * @return true if the file is not a directory and has a supported BPMN extension, false otherwise
+     */
+    public static boolean isBpmnFile(VirtualFile file) {
+        return !file.isDirectory() && nonNull(file.getExtension()) && isBpmnFileName(file.getName());
+    }
+}
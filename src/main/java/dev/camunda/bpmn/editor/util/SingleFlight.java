@@ -0,0 +1,101 @@
+package dev.camunda.bpmn.editor.util;
+
+import static java.util.Objects.nonNull;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent computations of the same key into a single in-flight computation.
+ *
+ * <p>The first caller for a key runs the loader on its own thread, callers arriving while it runs
+ * wait for it and share its result or its exception instead of running the loader again.
+ * Once the computation completes the key is released, so the next call runs the loader again;
+ * caching the result is left to the caller.</p>
+ *
+ * <p>The number of executed computations and the number of calls which shared one are counted,
+ * the latter being the number of saved duplicate computations.</p>
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the computed values
+ * @author Oleksandr Havrysh
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * Returns the result of the loader for the key, sharing the computation already in flight for the key if any.
+     *
+     * @param key    The key of the computation
+     * @param loader The computation, may return null
+     * @return The computed value
+     */
+    public V execute(K key, Supplier<V> loader) {
+        var call = new CompletableFuture<V>();
+        var inFlight = calls.putIfAbsent(key, call);
+        if (nonNull(inFlight)) {
+            shared.increment();
+            return await(inFlight);
+        }
+
+        executed.increment();
+        try {
+            var value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * Returns the counters of the computations.
+     *
+     * @return The current counters
+     */
+    public Stats getStats() {
+        return new Stats(executed.sum(), shared.sum());
+    }
+
+    /**
+     * Waits for a computation in flight, rethrowing its unchecked exception as is.
+     *
+     * @param call The computation in flight
+     * @param <V>  The type of the computed value
+     * @return The computed value
+     */
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * The counters of the computations.
+     *
+     * @param executed The number of computations which ran the loader
+     * @param shared   The number of calls which shared a computation in flight instead of running the loader
+     */
+    public record Stats(long executed, long shared) {
+    }
+}
@@ -2,7 +2,6 @@ package dev.camunda.bpmn.editor.vfs;
 
 import static com.intellij.openapi.vfs.VirtualFileUtil.readText;
 import static com.intellij.openapi.vfs.VirtualFileUtil.writeBytes;
-import static dev.camunda.bpmn.editor.util.Base64Utils.decodeBytes;
 import static dev.camunda.bpmn.editor.util.Base64Utils.encode;
 
 import com.intellij.openapi.vfs.VirtualFile;
@@ -10,9 +9,9 @@ import lombok.Getter;
 
 /**
  * Service class for handling operations on VirtualFile objects within the BPMN Editor.
- * This class provides methods for reading, encoding, decoding, and saving content of a VirtualFile.
+ * This class provides methods for reading, encoding, and saving content of a VirtualFile.
  * It acts as a wrapper around VirtualFile, offering convenient methods for file operations
- * specific to the BPMN Editor's needs, including Base64 encoding and decoding of file content.
+ * specific to the BPMN Editor's needs, including Base64 encoding of the file content.
  */
 @Getter
 public class BpmnFile {
@@ -43,13 +42,13 @@ public class BpmnFile {
     }
 
     /**
-     * Saves the provided Base64 encoded content to the file.
-     * This method decodes the Base64 string and writes the resulting bytes to the file.
+     * Saves the provided content to the file.
+     * This method requires a write action.
      *
-     * @param encodedContent The Base64 encoded content to be saved to the file.
+     * @param content The raw UTF-8 content to be saved to the file.
      */
-    public void saveEncodedContent(String encodedContent) {
-        writeBytes(file, decodeBytes(encodedContent));
+    public void saveContent(byte[] content) {
+        writeBytes(file, content);
     }
 
     /**
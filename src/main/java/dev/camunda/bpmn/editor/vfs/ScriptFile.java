@@ -21,6 +21,8 @@ import com.intellij.testFramework.LightVirtualFile;
 import com.intellij.util.Alarm;
 import dev.camunda.bpmn.editor.jcef.Browser;
 import dev.camunda.bpmn.editor.project.ProjectService;
+import dev.camunda.bpmn.editor.server.handler.EventsServerHandler;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import lombok.Getter;
@@ -31,6 +33,9 @@ import org.jetbrains.annotations.NotNull;
  * This class allows for the creation of scratch files with different languages based on the file extension.
  * It also provides methods to manage the lifecycle of the script file, such as setting focus, and deleting the file.
  *
+ * <p>Script changes and file deletion are pushed to the page through the events channel,
+ * falling back to JavaScript queries while the page is not subscribed to it.</p>
+ *
  * @author Oleksandr Havrysh
  */
 public class ScriptFile implements FileEditorManagerListener, DocumentListener, Disposable {
@@ -38,6 +43,10 @@ public class ScriptFile implements FileEditorManagerListener, DocumentListener,
     private static final String DOT = ".";
     private static final String JS = "js";
     private static final String JAVASCRIPT = "javascript";
+    private static final String UPDATE_SCRIPT = "updateScript";
+    private static final String DELETE_VIRTUAL_FILE_ID = "deleteVirtualFileId";
+    private static final String VIRTUAL_FILE_ID = "virtualFileId";
+    private static final String SCRIPT = "script";
 
     @Getter
     private final String virtualFileId;
@@ -46,6 +55,7 @@ public class ScriptFile implements FileEditorManagerListener, DocumentListener,
     private final Alarm scriptChangeAlarm;
     private final AtomicBoolean isFileClosed;
     private final Browser browser;
+    private final EventsServerHandler eventsHandler;
     private final ProjectService projectService;
     private final Consumer<String> closeFileConsumer;
     private final AtomicBoolean isDocumentListenerRegistered;
@@ -56,14 +66,17 @@ public class ScriptFile implements FileEditorManagerListener, DocumentListener,
      * @param text              The initial content of the script
      * @param projectService    The projectService in which the script file should be created
      * @param browser           The browser wrapper
+     * @param eventsHandler     The events channel to the page
      * @param closeFileConsumer The consumer to be called when the file is closed
      */
     public ScriptFile(String text,
                       ProjectService projectService,
                       Browser browser,
+                      EventsServerHandler eventsHandler,
                       Consumer<String> closeFileConsumer) {
         this.projectService = projectService;
         this.browser = browser;
+        this.eventsHandler = eventsHandler;
         this.closeFileConsumer = closeFileConsumer;
         this.virtualFileId = randomUUID().toString();
         this.scriptChangeAlarm = new Alarm(this);
@@ -141,7 +154,9 @@ public class ScriptFile implements FileEditorManagerListener, DocumentListener,
         }
 
         isFileClosed.set(true);
-        createDeleteVirtualFileIdJSQuery(browser, virtualFileId).executeQuery();
+        eventsHandler.push(DELETE_VIRTUAL_FILE_ID, Map.of(VIRTUAL_FILE_ID, virtualFileId),
+                () -> createDeleteVirtualFileIdJSQuery(browser, virtualFileId).executeQuery());
+
         closeFileConsumer.accept(virtualFileId);
     }
 
@@ -155,6 +170,16 @@ public class ScriptFile implements FileEditorManagerListener, DocumentListener,
     public void documentChanged(DocumentEvent event) {
         scriptChangeAlarm.cancelAllRequests();
         var text = event.getDocument().getText();
-        scriptChangeAlarm.addRequest(() -> createUpdateScriptJSQuery(browser, virtualFileId, text).executeQuery(), 500);
+        scriptChangeAlarm.addRequest(() -> updateScript(text), 500);
+    }
+
+    /**
+     * Pushes the updated script content to the page.
+     *
+     * @param text The updated script content
+     */
+    private void updateScript(String text) {
+        eventsHandler.push(UPDATE_SCRIPT, Map.of(VIRTUAL_FILE_ID, virtualFileId, SCRIPT, text),
+                () -> createUpdateScriptJSQuery(browser, virtualFileId, text).executeQuery());
     }
 }
\ No newline at end of file
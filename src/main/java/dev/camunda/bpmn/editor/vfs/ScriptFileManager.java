@@ -3,6 +3,7 @@ package dev.camunda.bpmn.editor.vfs;
 import com.intellij.openapi.Disposable;
 import dev.camunda.bpmn.editor.jcef.Browser;
 import dev.camunda.bpmn.editor.project.ProjectService;
+import dev.camunda.bpmn.editor.server.handler.EventsServerHandler;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,6 +21,7 @@ public class ScriptFileManager implements Disposable {
 
     private final ProjectService projectService;
     private final Browser browser;
+    private final EventsServerHandler eventsHandler;
     private final Map<String, ScriptFile> scriptFiles = new ConcurrentHashMap<>(1);
 
     /**
@@ -29,7 +31,7 @@ public class ScriptFileManager implements Disposable {
      * @return The virtual file ID of the created script file
      */
     public String create(String text) {
-        var scriptFile = new ScriptFile(text, projectService, browser, scriptFiles::remove);
+        var scriptFile = new ScriptFile(text, projectService, browser, eventsHandler, scriptFiles::remove);
         var virtualFileId = scriptFile.getVirtualFileId();
         scriptFiles.put(virtualFileId, scriptFile);
         return virtualFileId;
@@ -0,0 +1,31 @@
+import {deleteVirtualFileId, updateScript} from '../script/script-editor';
+
+const ACK_DELAY = 100;
+
+const handlers = {
+    updateScript: ({virtualFileId, script}) => updateScript(virtualFileId, script),
+    deleteVirtualFileId: ({virtualFileId}) => deleteVirtualFileId(virtualFileId)
+};
+
+export function subscribeEvents(serverBaseUrl) {
+    const eventSource = new EventSource(`${serverBaseUrl}/events`);
+    let lastEventId = null;
+    eventSource.onmessage = event => {
+        JSON.parse(event.data).forEach(({type, data}) => {
+            const handler = handlers[type];
+            if (handler) {
+                handler(data);
+            } else {
+                console.warn(`Unknown event type: ${type}`);
+            }
+        });
+        if (lastEventId === null) {
+            setTimeout(() => {
+                fetch(`${serverBaseUrl}/events?ack=${lastEventId}`, {method: 'POST'}).catch(console.error);
+                lastEventId = null;
+            }, ACK_DELAY);
+        }
+        lastEventId = event.lastEventId;
+    };
+    return eventSource;
+}
@@ -0,0 +1,70 @@
+class LintResultCache {
+
+    static async load(serverBaseUrl) {
+        const url = `${serverBaseUrl}/lint/results`;
+        try {
+            const response = await fetch(url);
+            return new LintResultCache(url, response.ok ? await response.text() : null);
+        } catch (e) {
+            console.warn('Failed to load the cached lint results:', e);
+            return new LintResultCache(url, null);
+        }
+    }
+
+    constructor(url, cached) {
+        this.url = url;
+        this.cached = cached;
+        this.lint = null;
+        this.pending = null;
+    }
+
+    show(modeler) {
+        if (!this.cached || !modeler.getDefinitions() || modeler.get('commandStack').canUndo()) {
+            return false;
+        }
+
+        const linting = modeler.get('linting');
+        const results = JSON.parse(this.cached);
+        this.lint = linting.lint;
+        linting.lint = () => Promise.resolve(results);
+        try {
+            linting.toggle(true);
+        } finally {
+            // edits before the linter is loaded keep the cached results until the linter verifies them
+            this.pending = () => new Promise(() => {});
+            linting.lint = this.pending;
+        }
+        return true;
+    }
+
+    track(modeler) {
+        const linting = modeler.get('linting');
+        const commandStack = modeler.get('commandStack');
+        if (this.pending && linting.lint === this.pending) {
+            linting.lint = this.lint;
+        }
+
+        const lint = linting.lint.bind(linting);
+        linting.lint = async () => {
+            const unmodified = !commandStack.canUndo();
+            const results = await lint();
+            if (unmodified) {
+                this.store(results);
+            }
+            return results;
+        };
+    }
+
+    store(results) {
+        const json = JSON.stringify(results);
+        if (json === this.cached) {
+            return;
+        }
+
+        this.cached = json;
+        fetch(this.url, {method: 'POST', headers: {'Content-Type': 'text/plain;charset=UTF-8'}, body: json})
+            .catch(e => console.warn('Failed to store the lint results:', e));
+    }
+}
+
+export default LintResultCache;
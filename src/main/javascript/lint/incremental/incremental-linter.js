@@ -0,0 +1,208 @@
+import {Linter} from 'bpmnlint';
+
+const HIGH_PRIORITY = 2000;
+
+// bpmnlint rules whose reports for a node only depend on the node, its flows, flow ends, children and parent
+const ELEMENT_RULES = new Set([
+    'ad-hoc-sub-process',
+    'conditional-flows',
+    'end-event-required',
+    'event-based-gateway',
+    'event-sub-process-typed-start-event',
+    'fake-join',
+    'label-required',
+    'no-complex-gateway',
+    'no-disconnected',
+    'no-gateway-join-fork',
+    'no-implicit-end',
+    'no-implicit-split',
+    'no-implicit-start',
+    'no-inclusive-gateway',
+    'single-blank-start-event',
+    'single-event-definition',
+    'start-event-required',
+    'sub-process-blank-start-event',
+    'superfluous-gateway'
+]);
+
+function isElementRule({name, rule}) {
+    return ELEMENT_RULES.has(name.replace(/^bpmnlint\//, '')) && typeof rule.check === 'function';
+}
+
+function getNeighbours(node) {
+    const neighbours = new Set();
+    const add = neighbour => neighbour && neighbours.add(neighbour);
+
+    add(node.$parent);
+    add(node.sourceRef);
+    add(node.targetRef);
+    add(node.attachedToRef);
+    (node.incoming || []).forEach(flow => {
+        add(flow);
+        add(flow.sourceRef);
+    });
+    (node.outgoing || []).forEach(flow => {
+        add(flow);
+        add(flow.targetRef);
+    });
+
+    return neighbours;
+}
+
+function isAttached(node, definitions) {
+    while (node.$parent) {
+        node = node.$parent;
+    }
+
+    return node === definitions;
+}
+
+function createReporter(messages) {
+    return {
+        report(id, message, pathOrData) {
+            let report = {id, message};
+            if (Array.isArray(pathOrData)) {
+                report = {...report, path: pathOrData};
+            } else if (pathOrData && typeof pathOrData === 'object') {
+                report = {...report, ...pathOrData};
+            }
+
+            messages.push(report);
+        }
+    };
+}
+
+class IncrementalLinter {
+
+    static async create(modeler, linterConfig) {
+        const linter = new Linter(linterConfig);
+        if (typeof linter.resolveRules !== 'function' || typeof linter.applyRule !== 'function') {
+            return null;
+        }
+
+        const ruleDefinitions = (await linter.resolveRules(linterConfig.config))
+            .filter(ruleDefinition => ruleDefinition && ruleDefinition.category !== 'off');
+        return new IncrementalLinter(modeler, linter, ruleDefinitions);
+    }
+
+    constructor(modeler, linter, ruleDefinitions) {
+        this.modeler = modeler;
+        this.linter = linter;
+        this.elementRules = ruleDefinitions.filter(isElementRule);
+        this.globalRules = ruleDefinitions.filter(ruleDefinition => !isElementRule(ruleDefinition));
+        this.reports = new Map();
+        this.neighbours = new Map();
+        this.changed = new Set();
+        this.fullLint = true;
+
+        // registered before the linting module, so the changed elements are known when it lints
+        modeler.on('elements.changed', HIGH_PRIORITY, ({elements}) => this.track(elements));
+        modeler.on('import.done', () => this.fullLint = true);
+    }
+
+    track(elements) {
+        const root = this.modeler.get('canvas').getRootElement();
+        elements.forEach(element => {
+            if (element === root) {
+                this.fullLint = true;
+            } else if (element.businessObject) {
+                this.changed.add(element.businessObject);
+            }
+        });
+    }
+
+    async lint() {
+        const definitions = this.modeler.getDefinitions();
+        if (this.fullLint) {
+            this.lintAll(definitions);
+        } else {
+            this.lintChanged(definitions);
+        }
+
+        const results = {};
+        const add = (name, reports) => {
+            if (reports.length) {
+                results[name] = (results[name] || []).concat(reports);
+            }
+        };
+
+        this.reports.forEach((nodeReports, node) => {
+            if (isAttached(node, definitions)) {
+                nodeReports.forEach(({name, reports}) => add(name, reports));
+            } else {
+                this.reports.delete(node);
+            }
+        });
+        this.globalRules.forEach(ruleDefinition => add(ruleDefinition.name,
+            this.linter.applyRule(definitions, ruleDefinition)));
+
+        return results;
+    }
+
+    lintAll(definitions) {
+        this.fullLint = false;
+        this.changed.clear();
+        this.reports.clear();
+        this.neighbours.clear();
+
+        // the traversal of bpmnlint visits the nodes, every node is checked by all element rules
+        const visited = new Set();
+        this.linter.applyRule(definitions, {
+            name: 'incremental',
+            category: 'off',
+            rule: {
+                check: node => {
+                    if (!visited.has(node)) {
+                        visited.add(node);
+                        this.checkNode(node);
+                    }
+                }
+            }
+        });
+    }
+
+    lintChanged(definitions) {
+        const nodes = new Set();
+        this.changed.forEach(node => {
+            nodes.add(node);
+            getNeighbours(node).forEach(neighbour => nodes.add(neighbour));
+            (this.neighbours.get(node) || []).forEach(neighbour => nodes.add(neighbour));
+        });
+        this.changed.clear();
+
+        nodes.forEach(node => {
+            if (isAttached(node, definitions)) {
+                this.checkNode(node);
+            } else {
+                this.reports.delete(node);
+                this.neighbours.delete(node);
+            }
+        });
+    }
+
+    checkNode(node) {
+        const nodeReports = [];
+        this.elementRules.forEach(({name, rule, category}) => {
+            const messages = [];
+            try {
+                rule.check(node, createReporter(messages));
+            } catch (err) {
+                messages.push({id: node.id, message: `Rule error: ${err.message}`});
+            }
+
+            if (messages.length) {
+                const meta = rule.meta ? {meta: rule.meta} : {};
+                nodeReports.push({name, reports: messages.map(report => ({...report, category, ...meta}))});
+            }
+        });
+
+        this.neighbours.set(node, getNeighbours(node));
+        if (nodeReports.length) {
+            this.reports.set(node, nodeReports);
+        } else {
+            this.reports.delete(node);
+        }
+    }
+}
+
+export default IncrementalLinter;
@@ -0,0 +1,34 @@
+const DEBOUNCE_MILLIS = 200;
+
+class LintResultsReporter {
+
+    static create(modeler) {
+        return new LintResultsReporter(modeler.get('eventBus'));
+    }
+
+    constructor(eventBus) {
+        this.issues = {};
+        this.reported = null;
+        this.timeout = null;
+        eventBus.on('linting.completed', ({issues}) => this.schedule(issues));
+        eventBus.on('linting.toggle', ({active}) => !active && this.schedule({}));
+        eventBus.on('diagram.destroy', () => clearTimeout(this.timeout));
+    }
+
+    schedule(issues) {
+        this.issues = issues || {};
+        clearTimeout(this.timeout);
+        this.timeout = setTimeout(() => this.flush(), DEBOUNCE_MILLIS);
+    }
+
+    flush() {
+        const results = JSON.stringify(Object.values(this.issues).flat()
+            .map(({id, message, category, rule}) => ({id, message, category, rule})));
+        if (results !== this.reported && typeof window.reportLintResults === 'function') {
+            this.reported = results;
+            window.reportLintResults(results);
+        }
+    }
+}
+
+export default LintResultsReporter;
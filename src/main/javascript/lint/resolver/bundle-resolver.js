@@ -0,0 +1,79 @@
+import HybridResolver from './hybrid-resolver';
+import {getExtendedConfigs, getRules} from './lint-names';
+import {loadModule} from './module-loader';
+
+class BundleResolver {
+
+    static async load(baseUrl, config) {
+        const bundle = await loadModule(`${baseUrl}/lint/bundle`);
+        const resolver = new BundleResolver(bundle, new HybridResolver(baseUrl));
+        await resolver.prefetch(config);
+        return resolver;
+    }
+
+    constructor(bundle, fallbackResolver) {
+        this.bundle = bundle;
+        this.fallbackResolver = fallbackResolver;
+        this.modules = new Map();
+        this.prefetchedConfigs = new Set();
+    }
+
+    async prefetch(config) {
+        await Promise.all([
+            ...getExtendedConfigs(config).map(({pkg, name}) => this.prefetchConfig(pkg, name)),
+            ...getRules(config).map(({pkg, name}) => this.prefetchRule(pkg, name))
+        ]);
+    }
+
+    async prefetchConfig(pkg, configName) {
+        const key = `${pkg}:${configName}`;
+        if (this.prefetchedConfigs.has(key)) {
+            return;
+        }
+
+        this.prefetchedConfigs.add(key);
+        if (!this.bundle.has(pkg)) {
+            await this.fallbackResolver.prefetchConfig(pkg);
+        }
+
+        await this.prefetch(this.resolveConfig(pkg, configName));
+    }
+
+    async prefetchRule(pkg, ruleName) {
+        if (!this.bundle.has(`${pkg}/rules/${ruleName}`)) {
+            await this.fallbackResolver.prefetchRule(pkg, ruleName);
+        }
+    }
+
+    require(name) {
+        if (!this.modules.has(name)) {
+            this.modules.set(name, this.bundle.require(name));
+        }
+
+        return this.modules.get(name);
+    }
+
+    resolveRule(pkg, ruleName) {
+        const name = `${pkg}/rules/${ruleName}`;
+        if (!this.bundle.has(name)) {
+            return this.fallbackResolver.resolveRule(pkg, ruleName);
+        }
+
+        return this.require(name);
+    }
+
+    resolveConfig(pkg, configName) {
+        if (!this.bundle.has(pkg)) {
+            return this.fallbackResolver.resolveConfig(pkg, configName);
+        }
+
+        const moduleExports = this.require(pkg);
+        if (!moduleExports.configs || !(configName in moduleExports.configs)) {
+            throw new Error(`Config ${configName} not found in ${pkg}`);
+        }
+
+        return moduleExports.configs[configName];
+    }
+}
+
+export default BundleResolver;
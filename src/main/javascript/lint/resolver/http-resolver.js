@@ -1,36 +1,62 @@
-import request from 'sync-request';
+import {loadModule} from './module-loader';
 
 class HttpResolver {
 
     constructor(baseUrl) {
         this.baseUrl = baseUrl;
+        this.modules = new Map();
     }
 
-    fetchAndCompileSync(url) {
+    async fetchAndCompile(url) {
         try {
-            const response = request('GET', url);
-            if (response.statusCode !== 200) {
-                throw new Error(`Failed to fetch: ${url} (status code: ${response.statusCode})`);
-            }
-
-            const content = response.getBody('utf8');
-            const module = {};
-            const fn = new Function('module', content);
-            fn(module);
-
-            return module.exports;
+            return await loadModule(url);
         } catch (err) {
             throw new Error(`Error fetching and compiling ${url}: ${err.message}`);
         }
     }
 
+    prefetch(url) {
+        if (!this.modules.has(url)) {
+            const entry = {promise: this.fetchAndCompile(url)};
+            entry.promise.then(moduleExports => entry.exports = moduleExports, () => this.modules.delete(url));
+            this.modules.set(url, entry);
+        }
+
+        return this.modules.get(url).promise;
+    }
+
+    resolve(url) {
+        const entry = this.modules.get(url);
+        if (!entry || !('exports' in entry)) {
+            throw new Error(`Module ${url} has not been prefetched`);
+        }
+
+        return entry.exports;
+    }
+
+    ruleUrl(pkg, ruleName) {
+        return `${this.baseUrl}/lint/${pkg}/rules/${ruleName}.js`;
+    }
+
+    configUrl(pkg) {
+        return `${this.baseUrl}/lint/${pkg}/index.js`;
+    }
+
+    prefetchRule(pkg, ruleName) {
+        return this.prefetch(this.ruleUrl(pkg, ruleName));
+    }
+
+    prefetchConfig(pkg) {
+        return this.prefetch(this.configUrl(pkg));
+    }
+
     resolveRule(pkg, ruleName) {
-        return this.fetchAndCompileSync(`${this.baseUrl}/lint/${pkg}/rules/${ruleName}.js`);
+        return this.resolve(this.ruleUrl(pkg, ruleName));
     }
 
     resolveConfig(pkg, configName) {
-        const url = `${this.baseUrl}/lint/${pkg}/index.js`;
-        const moduleExports = this.fetchAndCompileSync(url);
+        const url = this.configUrl(pkg);
+        const moduleExports = this.resolve(url);
         if (!moduleExports.configs || !(configName in moduleExports.configs)) {
             throw new Error(`Config ${configName} not found in ${url}`);
         }
@@ -39,4 +65,4 @@ class HttpResolver {
     }
 }
 
-export default HttpResolver;
\ No newline at end of file
+export default HttpResolver;
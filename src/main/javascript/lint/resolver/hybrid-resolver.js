@@ -6,6 +6,18 @@ class HybridResolver {
         this.httpResolver = new HttpResolver(baseUrl);
     }
 
+    async prefetchRule(pkg, ruleName) {
+        if (pkg !== 'bpmnlint') {
+            await this.httpResolver.prefetchRule(pkg, ruleName);
+        }
+    }
+
+    async prefetchConfig(pkg) {
+        if (pkg !== 'bpmnlint') {
+            await this.httpResolver.prefetchConfig(pkg);
+        }
+    }
+
     resolveRule(pkg, ruleName) {
         if (pkg === 'bpmnlint') {
             try {
@@ -0,0 +1,47 @@
+const BPMNLINT = 'bpmnlint';
+const PLUGIN_PREFIX = 'plugin:';
+const PACKAGE_PREFIX = 'bpmnlint-plugin-';
+
+function normalizePackage(pkg) {
+    if (pkg === BPMNLINT) {
+        return pkg;
+    }
+
+    if (pkg.startsWith('@')) {
+        const [scope, name] = pkg.split('/');
+        if (!name) {
+            return `${scope}/${PACKAGE_PREFIX.slice(0, -1)}`;
+        }
+
+        return `${scope}/${name.startsWith(PACKAGE_PREFIX) ? name : PACKAGE_PREFIX + name}`;
+    }
+
+    return pkg.startsWith(PACKAGE_PREFIX) ? pkg : PACKAGE_PREFIX + pkg;
+}
+
+export function parseRuleName(name) {
+    const slashIndex = name.lastIndexOf('/');
+    if (slashIndex === -1) {
+        return {pkg: BPMNLINT, name};
+    }
+
+    return {pkg: normalizePackage(name.slice(0, slashIndex)), name: name.slice(slashIndex + 1)};
+}
+
+export function parseConfigName(name) {
+    if (name.startsWith(`${BPMNLINT}:`)) {
+        return {pkg: BPMNLINT, name: name.slice(BPMNLINT.length + 1)};
+    }
+
+    const reference = name.startsWith(PLUGIN_PREFIX) ? name.slice(PLUGIN_PREFIX.length) : name;
+    return parseRuleName(reference);
+}
+
+export function getExtendedConfigs(config) {
+    const extendedConfigs = config && config.extends ? config.extends : [];
+    return (Array.isArray(extendedConfigs) ? extendedConfigs : [extendedConfigs]).map(parseConfigName);
+}
+
+export function getRules(config) {
+    return Object.keys(config && config.rules ? config.rules : {}).map(parseRuleName);
+}
@@ -0,0 +1,38 @@
+const factories = self.bpmnLintModules || (self.bpmnLintModules = {});
+
+function loadScript(url) {
+    if (typeof document === 'undefined') {
+        importScripts(url);
+        return Promise.resolve();
+    }
+
+    return new Promise((resolve, reject) => {
+        const script = document.createElement('script');
+        script.src = url;
+        script.onload = () => {
+            script.remove();
+            resolve();
+        };
+        script.onerror = () => {
+            script.remove();
+            reject(new Error(`Failed to load: ${url}`));
+        };
+        document.head.appendChild(script);
+    });
+}
+
+export async function loadModule(url) {
+    const response = await fetch(`${url}?module`);
+    if (!response.ok) {
+        throw new Error(`Failed to fetch: ${url} (status code: ${response.status})`);
+    }
+
+    const modulePath = await response.text();
+    if (!(modulePath in factories)) {
+        await loadScript(new URL(modulePath, url).href);
+    }
+
+    const module = {};
+    factories[modulePath](module);
+    return module.exports;
+}
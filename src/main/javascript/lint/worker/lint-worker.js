@@ -0,0 +1,28 @@
+import BpmnModdle from 'bpmn-moddle';
+import {Linter} from 'bpmnlint';
+import BundleResolver from '../resolver/bundle-resolver';
+
+let moddle;
+let linter;
+let ready;
+
+async function init({baseUrl, config, moddleExtensions}) {
+    moddle = new BpmnModdle(moddleExtensions);
+    linter = new Linter({config, resolver: await BundleResolver.load(baseUrl, config)});
+}
+
+async function lint({xml}) {
+    const {rootElement} = await moddle.fromXML(xml);
+    const issues = await linter.lint(rootElement);
+
+    // reports may reference rule metadata, only plain data is sent back
+    return JSON.parse(JSON.stringify(issues));
+}
+
+self.onmessage = ({data}) => {
+    const result = data.type === 'init' ? (ready = init(data)) : ready.then(() => lint(data));
+    result.then(
+        issues => self.postMessage({id: data.id, issues}),
+        err => self.postMessage({id: data.id, error: err.message})
+    );
+};
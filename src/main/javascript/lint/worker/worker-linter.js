@@ -0,0 +1,92 @@
+const IDLE_TIMEOUT_MILLIS = 500;
+
+function whenIdle() {
+    return new Promise(resolve => typeof requestIdleCallback === 'function'
+        ? requestIdleCallback(resolve, {timeout: IDLE_TIMEOUT_MILLIS})
+        : setTimeout(resolve));
+}
+
+class WorkerLinter {
+
+    static async create(modeler, baseUrl, config, moddleExtensions) {
+        const worker = new Worker(new URL('./lint-worker.js', import.meta.url));
+        const linter = new WorkerLinter(modeler, worker);
+        try {
+            await linter.request({type: 'init', baseUrl, config, moddleExtensions});
+            return linter;
+        } catch (err) {
+            linter.terminate();
+            throw err;
+        }
+    }
+
+    constructor(modeler, worker) {
+        this.modeler = modeler;
+        this.worker = worker;
+        this.nextId = 0;
+        this.requests = new Map();
+        this.running = null;
+        this.queued = null;
+
+        worker.onmessage = ({data}) => this.complete(data);
+        worker.onerror = event => this.failAll(new Error(event.message || 'Lint worker failed'));
+        modeler.on('diagram.destroy', () => this.terminate());
+    }
+
+    lint() {
+        if (!this.running) {
+            this.running = this.lintSnapshot().finally(() => this.running = null);
+            return this.running;
+        }
+
+        // changes made while a snapshot is linted are coalesced into a single next snapshot
+        if (!this.queued) {
+            this.queued = this.running.catch(() => {}).then(() => {
+                this.queued = null;
+                return this.lint();
+            });
+        }
+
+        return this.queued;
+    }
+
+    async lintSnapshot() {
+        await whenIdle();
+        const {xml} = await this.modeler.saveXML();
+        return this.request({type: 'lint', xml});
+    }
+
+    request(message) {
+        const id = this.nextId++;
+        return new Promise((resolve, reject) => {
+            this.requests.set(id, {resolve, reject});
+            this.worker.postMessage({...message, id});
+        });
+    }
+
+    complete({id, issues, error}) {
+        const request = this.requests.get(id);
+        if (!request) {
+            return;
+        }
+
+        this.requests.delete(id);
+        if (error) {
+            request.reject(new Error(error));
+        } else {
+            request.resolve(issues);
+        }
+    }
+
+    failAll(err) {
+        this.requests.forEach(request => request.reject(err));
+        this.requests.clear();
+    }
+
+    terminate() {
+        this.worker.terminate();
+        this.failAll(new Error('Lint worker terminated'));
+    }
+}
+
+export default WorkerLinter;
@@ -0,0 +1,25 @@
+import LintingModule from 'bpmn-js-bpmnlint';
+
+const [, Linting] = LintingModule.linting;
+
+class WorkerLinting extends Linting {
+
+    constructor(...args) {
+        super(...args);
+        this.workerLinter = null;
+    }
+
+    setWorkerLinter(workerLinter) {
+        this.workerLinter = workerLinter;
+    }
+
+    lint() {
+        return this.workerLinter ? this.workerLinter.lint() : super.lint();
+    }
+}
+
+WorkerLinting.$inject = Linting.$inject;
+
+export default {
+    linting: ['type', WorkerLinting]
+};
@@ -3,6 +3,8 @@ import {setupObserver} from './script/observers';
 import './styles';
 import {isDarkMode, isDraculaMode} from './utils/utils';
 import {handlePasteAsync} from "./modeler/copy-paste";
+import {subscribeEvents} from "./events/events";
+import {flushSaveOnClose, scheduleSave} from "./modeler/save";
 import base64js from 'base64-js';
 
 if (isDarkMode) {
@@ -17,10 +19,6 @@ window.initApp = async function () {
     const {initModeler, setLinting} = await import('./modeler/modeler');
     const useLintModule = window.serverBaseUrl && window.bpmnlintrc;
     const bpmnModeler = await initModeler(useLintModule);
-    if (useLintModule) {
-        await setLinting(bpmnModeler, window.serverBaseUrl, window.bpmnlintrc);
-    }
-
     if (window.bpmnXml && window.bpmnXml.length > 0) {
         const {openDiagram} = await import('./modeler/diagram-handlers');
         await openDiagram(Base64Decode(window.bpmnXml), bpmnModeler);
@@ -29,17 +27,19 @@ window.initApp = async function () {
         await createNewDiagram(bpmnModeler);
     }
 
+    if (useLintModule) {
+        setLinting(bpmnModeler, window.serverBaseUrl, window.bpmnlintrc).catch(console.error);
+    }
+
     enableResizing();
     setupObserver();
 
-    bpmnModeler.on('commandStack.changed', async () => {
-        try {
-            const {xml} = await bpmnModeler.saveXML({format: true});
-            window.updateBpmnXml(Base64Encode(xml));
-        } catch (err) {
-            console.error('Error while saving XML:', err);
-        }
-    });
+    if (window.serverBaseUrl) {
+        subscribeEvents(window.serverBaseUrl);
+    }
+
+    bpmnModeler.on('commandStack.changed', () => scheduleSave(bpmnModeler, window.serverBaseUrl));
+    flushSaveOnClose();
 
     bpmnModeler.on('copyPaste.elementsCopied', event => {
         const {tree} = event;
@@ -50,14 +50,7 @@ window.initApp = async function () {
         }
     });
 
-    bpmnModeler.get('keyboard').addListener(3000, event => {
-        handlePasteAsync(event, bpmnModeler, window.serverBaseUrl);
-    });
-}
-
-function Base64Encode(str, encoding = "utf-8") {
-    var bytes = new (TextEncoder || TextEncoderLite)(encoding).encode(str);
-    return base64js.fromByteArray(bytes);
+    bpmnModeler.get('keyboard').addListener(3000, event => handlePasteAsync(event, bpmnModeler, window.serverBaseUrl));
 }
 
 function Base64Decode(str, encoding = "utf-8") {
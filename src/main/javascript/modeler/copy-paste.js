@@ -1,5 +1,4 @@
 import {isPaste} from "diagram-js/lib/features/keyboard/KeyboardUtil";
-import request from 'sync-request';
 
 export function handlePasteAsync(event, bpmnModeler, serverBaseUrl) {
     const {keyEvent} = event;
@@ -7,19 +6,29 @@ export function handlePasteAsync(event, bpmnModeler, serverBaseUrl) {
         return;
     }
 
-    const response = request('GET', `${serverBaseUrl}/clipboard/`);
-    if (response.statusCode === 200) {
-        const serializedCopy = response.getBody('utf8');
-        if (!serializedCopy) {
-            return;
-        }
+    loadClipboard(bpmnModeler, serverBaseUrl)
+        .catch(err => console.error('Error while loading the clipboard:', err))
+        .finally(() => bpmnModeler.get('editorActions').trigger('paste'));
+
+    return true;
+}
 
-        const reviver = createReviver(bpmnModeler.get('moddle'));
-        const parsedCopy = JSON.parse(serializedCopy, reviver);
+async function loadClipboard(bpmnModeler, serverBaseUrl) {
+    const response = await fetch(`${serverBaseUrl}/clipboard/`);
+    if (response.status !== 200) {
+        return;
+    }
 
-        const clipboard = bpmnModeler.get('clipboard');
-        clipboard.set(parsedCopy);
+    const serializedCopy = await response.text();
+    if (!serializedCopy) {
+        return;
     }
+
+    const reviver = createReviver(bpmnModeler.get('moddle'));
+    const parsedCopy = JSON.parse(serializedCopy, reviver);
+
+    const clipboard = bpmnModeler.get('clipboard');
+    clipboard.set(parsedCopy);
 }
 
 export function createReviver(moddle) {
@@ -1,10 +1,24 @@
 import $ from "jquery";
 import '../styles';
-import {engine, isDarkMode, isDraculaMode, isSketchyMode} from '../utils/utils';
+import {engine, isDarkMode, isDraculaMode, isSketchyMode, lintMode} from '../utils/utils';
 import {Linter} from "bpmnlint";
 
+const useWorkerLinting = lintMode === 'WEB_WORKER' && typeof Worker !== 'undefined';
+
+const getModdleExtensions = async () => {
+    switch (engine) {
+        case 'c7':
+            return {camunda: await import('camunda-bpmn-moddle/resources/camunda.json').then(m => m.default)};
+        case 'c8':
+            return {zeebe: await import('zeebe-bpmn-moddle/resources/zeebe.json').then(m => m.default)};
+        default:
+            return {};
+    }
+};
+
 const getCommonOptions = async () => {
     const config = {
+        moddleExtensions: await getModdleExtensions(),
         keyboard: {bindTo: document},
         container: $('#js-canvas'),
         propertiesPanel: {parent: $('#js-properties-panel')},
@@ -57,6 +71,9 @@ const getCommonModules = async (useLintModule) => {
 
     if (useLintModule) {
         modules.push(await import('bpmn-js-bpmnlint').then(m => m.default));
+        if (useWorkerLinting) {
+            modules.push(await import('../lint/worker/worker-linting').then(m => m.default));
+        }
     }
 
     return modules;
@@ -111,18 +128,33 @@ export class UnsupportedEngineError extends Error {
 }
 
 export async function setLinting(modeler, serverBaseUrl, bpmnlintrc) {
-    const {default: HybridResolver} = await import('../lint/resolver/hybrid-resolver');
     await import('bpmn-js-bpmnlint/dist/assets/css/bpmn-js-bpmnlint.css');
-    const linterConfig = {
-        config: JSON.parse(bpmnlintrc),
-        resolver: new HybridResolver(serverBaseUrl)
-    };
 
     try {
-        new Linter(linterConfig).lint(modeler.getDefinitions());
+        const {default: LintResultCache} = await import('../lint/cache/lint-result-cache');
+        const resultCache = LintResultCache.load(serverBaseUrl);
+        const config = await loadConfig(serverBaseUrl, bpmnlintrc);
+
+        const {default: LintResultsReporter} = await import('../lint/report/lint-results-reporter');
+        LintResultsReporter.create(modeler);
+
+        const cache = await resultCache;
+        const showsCached = cache.show(modeler);
+        const linterConfig = (useWorkerLinting && await createWorkerLinterConfig(modeler, serverBaseUrl, config))
+            || await createLinterConfig(modeler, serverBaseUrl, config);
+        if (lintMode === 'INCREMENTAL') {
+            await setIncrementalLinting(modeler, linterConfig);
+        }
+
+        cache.track(modeler);
+
         const linting = modeler.get('linting');
         linting.setLinterConfig(linterConfig);
-        linting.toggle(true);
+        if (showsCached) {
+            linting.update();
+        } else {
+            linting.toggle(true);
+        }
     } catch (e) {
         console.error(e);
         window.showErrorNotification(`<html lang="en">
@@ -132,4 +164,48 @@ export async function setLinting(modeler, serverBaseUrl, bpmnlintrc) {
                 </p>
             </html>`);
     }
-}
\ No newline at end of file
+}
+
+async function loadConfig(serverBaseUrl, bpmnlintrc) {
+    const response = await fetch(`${serverBaseUrl}/lint/config`);
+    return response.ok ? response.json() : JSON.parse(bpmnlintrc);
+}
+
+async function loadResolver(serverBaseUrl, config) {
+    const {default: BundleResolver} = await import('../lint/resolver/bundle-resolver');
+    return BundleResolver.load(serverBaseUrl, config);
+}
+
+async function createLinterConfig(modeler, serverBaseUrl, config) {
+    const linterConfig = {
+        config,
+        resolver: await loadResolver(serverBaseUrl, config)
+    };
+
+    await new Linter(linterConfig).lint(modeler.getDefinitions());
+    return linterConfig;
+}
+
+async function createWorkerLinterConfig(modeler, serverBaseUrl, config) {
+    const {default: WorkerLinter} = await import('../lint/worker/worker-linter');
+    try {
+        const workerLinter = await WorkerLinter.create(modeler, serverBaseUrl, config, await getModdleExtensions());
+        await workerLinter.lint();
+
+        modeler.get('linting').setWorkerLinter(workerLinter);
+        return {config, resolver: await loadResolver(serverBaseUrl, config)};
+    } catch (e) {
+        console.warn('Failed to lint in a Web Worker, linting on the main thread:', e);
+        return null;
+    }
+}
+
+async function setIncrementalLinting(modeler, linterConfig) {
+    const {default: IncrementalLinter} = await import('../lint/incremental/incremental-linter');
+    const incrementalLinter = await IncrementalLinter.create(modeler, linterConfig);
+    if (incrementalLinter) {
+        modeler.get('linting').lint = () => incrementalLinter.lint();
+    } else {
+        console.warn('Incremental linting is not supported by this bpmnlint version, linting the whole diagram');
+    }
+}
@@ -0,0 +1,64 @@
+const SAVE_DELAY_MILLIS = 500;
+const COMPRESSION_THRESHOLD = 256 * 1024;
+const KEEPALIVE_THRESHOLD = 64 * 1024;
+
+let saveTimeout;
+let scheduledSave = null;
+let pendingSave = Promise.resolve();
+
+export function scheduleSave(bpmnModeler, serverBaseUrl) {
+    clearTimeout(saveTimeout);
+    scheduledSave = unloading => saveXml(bpmnModeler, serverBaseUrl, unloading);
+    saveTimeout = setTimeout(() => flushSave(), SAVE_DELAY_MILLIS);
+}
+
+export function flushSave(unloading = false) {
+    clearTimeout(saveTimeout);
+    const save = scheduledSave;
+    scheduledSave = null;
+    if (!save) {
+        return;
+    }
+
+    // the page does not wait for queued saves while it is unloading, the last change is sent right away
+    pendingSave = unloading ? save(true) : pendingSave.then(() => save(false));
+}
+
+export function flushSaveOnClose() {
+    window.addEventListener('blur', () => flushSave());
+    document.addEventListener('visibilitychange', () => document.hidden && flushSave());
+    window.addEventListener('pagehide', () => flushSave(true));
+    window.addEventListener('beforeunload', () => flushSave(true));
+}
+
+async function saveXml(bpmnModeler, serverBaseUrl, unloading) {
+    try {
+        const {xml} = await bpmnModeler.saveXML({format: true});
+        await postXml(`${serverBaseUrl}/bpmn`, xml, unloading);
+    } catch (err) {
+        console.error('Error while saving XML:', err);
+    }
+}
+
+async function postXml(url, xml, unloading) {
+    if (!unloading && xml.length >= COMPRESSION_THRESHOLD && typeof CompressionStream !== 'undefined') {
+        const compressed = new Blob([xml]).stream().pipeThrough(new CompressionStream('deflate'));
+        return send(`${url}?encoding=deflate`, await new Response(compressed).arrayBuffer(), false);
+    }
+
+    // keepalive requests outlive the page, but browsers limit their body size
+    return send(url, xml, unloading && xml.length < KEEPALIVE_THRESHOLD);
+}
+
+async function send(url, body, keepalive) {
+    const response = await fetch(url, {
+        method: 'POST',
+        headers: {'Content-Type': 'text/plain;charset=UTF-8'},
+        body,
+        keepalive
+    });
+
+    if (!response.ok) {
+        throw new Error(`Failed to save: ${url} (status code: ${response.status})`);
+    }
+}
@@ -99,19 +99,27 @@ function getCodeEditorContainer(virtualFileId) {
     return document.querySelector(`div[virtual-file-id="${virtualFileId}"].code-editor-container`);
 }
 
-window.updateScript = function (virtualFileId, scriptValue) {
+export function updateScript(virtualFileId, script) {
     const editorContainer = getCodeEditorContainer(virtualFileId);
     if (editorContainer) {
         const codeMirror = editorContainer.querySelector('.CodeMirror').CodeMirror;
-        codeMirror.setValue(atob(scriptValue));
+        if (codeMirror.getValue() !== script) {
+            codeMirror.setValue(script);
+        }
     }
 }
 
-window.deleteVirtualFileId = function (virtualFileId) {
+window.updateScript = function (virtualFileId, scriptValue) {
+    updateScript(virtualFileId, atob(scriptValue));
+}
+
+export function deleteVirtualFileId(virtualFileId) {
     const editorContainer = getCodeEditorContainer(virtualFileId);
     if (editorContainer) {
         editorContainer.removeAttribute('virtual-file-id');
         const codeMirror = editorContainer.querySelector('.CodeMirror').CodeMirror;
         codeMirror.setOption("readOnly", false);
     }
-}
\ No newline at end of file
+}
+
+window.deleteVirtualFileId = deleteVirtualFileId;
@@ -2,4 +2,5 @@ export const isDarkMode = new URLSearchParams(window.location.search).get('color
 export const isDraculaMode = new URLSearchParams(window.location.search).get('colorTheme') === 'DRACULA';
 export const isSketchyMode = new URLSearchParams(window.location.search).get('schemaTheme') === 'SKETCHY';
 export const engine = new URLSearchParams(window.location.search).get('engine');
-export const scriptFormat = new URLSearchParams(window.location.search).get('scriptFormat');
\ No newline at end of file
+export const scriptFormat = new URLSearchParams(window.location.search).get('scriptFormat');
+export const lintMode = new URLSearchParams(window.location.search).get('lintMode');
@@ -0,0 +1,84 @@
+package dev.camunda.bpmn.editor.lint.bundle;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests the tokenization of the JavaScript constructs which may hide or break a {@code require}.
+ * Every token is rendered as its type followed by its source text.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class JsTokenizerTest {
+
+    /**
+     * Checks that a slash after an operator or a keyword starts a regular expression.
+     */
+    @Test
+    public void tokenizesRegexAfterOperatorsAndKeywords() {
+        assertEquals(List.of("IDENTIFIER a", "PUNCTUATOR =", "REGEX /re/g", "PUNCTUATOR .", "IDENTIFIER test"),
+                tokenize("a = /re/g.test"));
+        assertEquals(List.of("IDENTIFIER return", "REGEX /x/"), tokenize("return /x/"));
+        assertEquals(List.of("IDENTIFIER r", "PUNCTUATOR =", "REGEX /[/]/"), tokenize("r = /[/]/"));
+    }
+
+    /**
+     * Checks that a slash after an expression is a division.
+     */
+    @Test
+    public void tokenizesDivisionAfterExpressions() {
+        assertEquals(List.of("IDENTIFIER a", "PUNCTUATOR /", "IDENTIFIER b", "PUNCTUATOR /", "IDENTIFIER c"),
+                tokenize("a / b / c"));
+        assertEquals(List.of("PUNCTUATOR (", "IDENTIFIER a", "PUNCTUATOR )", "PUNCTUATOR /", "NUMBER 2"),
+                tokenize("(a) / 2"));
+        assertEquals(List.of("IDENTIFIER a", "PUNCTUATOR ++", "PUNCTUATOR /", "NUMBER 2"), tokenize("a++ / 2"));
+    }
+
+    /**
+     * Checks that nested template literals and object literals in template expressions are told apart.
+     */
+    @Test
+    public void tokenizesNestedTemplates() {
+        assertEquals(List.of("TEMPLATE `a${", "TEMPLATE `b${", "IDENTIFIER c", "TEMPLATE }d`", "TEMPLATE }e`"),
+                tokenize("`a${ `b${c}d` }e`"));
+        assertEquals(List.of("TEMPLATE `${", "PUNCTUATOR {", "IDENTIFIER a", "PUNCTUATOR :", "NUMBER 1",
+                        "PUNCTUATOR }", "PUNCTUATOR .", "IDENTIFIER a", "TEMPLATE }`"),
+                tokenize("`${ {a: 1}.a }`"));
+        assertEquals(List.of("TEMPLATE `${", "REGEX /x/", "PUNCTUATOR .", "IDENTIFIER source", "TEMPLATE }`"),
+                tokenize("`${/x/.source}`"));
+    }
+
+    /**
+     * Checks that comments are skipped, so the calls in them are not seen.
+     */
+    @Test
+    public void skipsComments() {
+        assertEquals(List.of("IDENTIFIER require", "PUNCTUATOR (", "STRING 'c'", "PUNCTUATOR )"),
+                tokenize("// require('a')\n/* require('b') */ require('c')"));
+    }
+
+    /**
+     * Checks the values of terminated, escaped and unterminated string literals.
+     */
+    @Test
+    public void readsStringValues() {
+        assertEquals("it\\'s", JsTokenizer.tokenize("'it\\'s'").get(0).value());
+        assertEquals("abc", JsTokenizer.tokenize("\"abc\"").get(0).value());
+        assertEquals("abc", JsTokenizer.tokenize("'abc").get(0).value());
+        assertEquals(List.of("STRING 'ab", "IDENTIFIER y"), tokenize("'ab\ny"));
+    }
+
+    /**
+     * Tokenizes the source and renders the tokens.
+     *
+     * @param source The JavaScript source code
+     * @return The type and the source text of every token
+     */
+    private static List<String> tokenize(String source) {
+        return JsTokenizer.tokenize(source).stream()
+                .map(token -> token.type() + " " + source.substring(token.start(), token.end()))
+                .toList();
+    }
+}
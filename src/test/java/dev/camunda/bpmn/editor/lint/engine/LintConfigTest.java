@@ -0,0 +1,123 @@
+package dev.camunda.bpmn.editor.lint.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import dev.camunda.bpmn.editor.lint.rule.LintRules;
+import org.junit.Test;
+
+/**
+ * Tests the parsing of {@code .bpmnlintrc} configurations.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class LintConfigTest {
+
+    /**
+     * Checks that {@code bpmnlint:recommended} is expanded to the recommended severities.
+     */
+    @Test
+    public void expandsRecommended() {
+        var config = LintConfig.parse("""
+                {"extends": "bpmnlint:recommended"}""");
+
+        assertEquals(LintRules.recommended(), config.severities());
+        assertEquals(LintSeverity.WARN, config.getSeverity("fake-join"));
+        assertEquals(LintSeverity.ERROR, config.getSeverity("label-required"));
+    }
+
+    /**
+     * Checks that {@code bpmnlint:all} enables every rule as an error.
+     */
+    @Test
+    public void expandsAll() {
+        var config = LintConfig.parse("""
+                {"extends": ["bpmnlint:all"]}""");
+
+        assertEquals(LintRules.names(), config.severities().keySet());
+        assertTrue(config.severities().values().stream().allMatch(severity -> severity == LintSeverity.ERROR));
+    }
+
+    /**
+     * Checks that the configs of lint plugins are ignored next to the bpmnlint configs.
+     */
+    @Test
+    public void ignoresPluginConfigs() {
+        var config = LintConfig.parse("""
+                {"extends": ["bpmnlint:recommended", "plugin:camunda-compat/camunda-platform-7-20"]}""");
+
+        assertEquals(LintRules.recommended(), config.severities());
+    }
+
+    /**
+     * Checks that the rules override the extended configs and the {@code bpmnlint/} prefix is removed.
+     */
+    @Test
+    public void overridesExtendedSeverities() {
+        var config = LintConfig.parse("""
+                {
+                  "extends": "bpmnlint:recommended",
+                  "rules": {
+                    "label-required": "off",
+                    "bpmnlint/fake-join": "error"
+                  }
+                }""");
+
+        assertEquals(LintSeverity.OFF, config.getSeverity("label-required"));
+        assertEquals(LintSeverity.ERROR, config.getSeverity("fake-join"));
+        assertEquals(LintSeverity.ERROR, config.getSeverity("no-disconnected"));
+    }
+
+    /**
+     * Checks the named, numeric and array forms of the severities.
+     */
+    @Test
+    public void parsesSeverities() {
+        var config = LintConfig.parse("""
+                {
+                  "rules": {
+                    "rule-off": "off",
+                    "rule-info": "info",
+                    "rule-warn": "warn",
+                    "rule-warning": "warning",
+                    "rule-error": "error",
+                    "rule-0": 0,
+                    "rule-1": 1,
+                    "rule-2": 2,
+                    "rule-array": ["warn", {"option": true}],
+                    "rule-unknown": "fatal"
+                  }
+                }""");
+
+        assertEquals(LintSeverity.OFF, config.getSeverity("rule-off"));
+        assertEquals(LintSeverity.INFO, config.getSeverity("rule-info"));
+        assertEquals(LintSeverity.WARN, config.getSeverity("rule-warn"));
+        assertEquals(LintSeverity.WARN, config.getSeverity("rule-warning"));
+        assertEquals(LintSeverity.ERROR, config.getSeverity("rule-error"));
+        assertEquals(LintSeverity.OFF, config.getSeverity("rule-0"));
+        assertEquals(LintSeverity.WARN, config.getSeverity("rule-1"));
+        assertEquals(LintSeverity.ERROR, config.getSeverity("rule-2"));
+        assertEquals(LintSeverity.WARN, config.getSeverity("rule-array"));
+        assertFalse(config.severities().containsKey("rule-unknown"));
+    }
+
+    /**
+     * Checks that rules which are not configured are off.
+     */
+    @Test
+    public void treatsUnconfiguredRulesAsOff() {
+        assertEquals(LintSeverity.OFF, LintConfig.parse("{}").getSeverity("label-required"));
+    }
+
+    /**
+     * Checks that malformed content and content which is not a JSON object are rejected.
+     */
+    @Test
+    public void rejectsInvalidContent() {
+        assertThrows(IllegalArgumentException.class, () -> LintConfig.parse("[]"));
+        assertThrows(IllegalArgumentException.class, () -> LintConfig.parse("{\"extends\": "));
+        assertThrows(IllegalArgumentException.class, () -> LintConfig.parse("{\"extends\": {}}"));
+    }
+}
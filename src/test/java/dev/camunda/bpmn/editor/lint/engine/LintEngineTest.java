@@ -0,0 +1,86 @@
+package dev.camunda.bpmn.editor.lint.engine;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Set;
+import javax.xml.stream.XMLStreamException;
+import org.junit.Test;
+
+/**
+ * Tests the selection of the rules and the shape of the results of the {@link LintEngine}.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class LintEngineTest {
+
+    private static final String PROCESS = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <bpmn:definitions xmlns:bpmn="http://www.omg.org/spec/BPMN/20100524/MODEL" id="Definitions_1">
+              <bpmn:process id="Process_1">
+                <bpmn:startEvent id="Start_1" />
+                <bpmn:task id="Task_1" />
+                <bpmn:sequenceFlow id="Flow_1" sourceRef="Start_1" targetRef="Task_1" />
+              </bpmn:process>
+            </bpmn:definitions>
+            """;
+
+    /**
+     * Checks that only the enabled rules run and their reports carry the configured category.
+     */
+    @Test
+    public void runsEnabledRulesWithTheirCategory() throws XMLStreamException {
+        var engine = new LintEngine(LintConfig.parse("""
+                {
+                  "rules": {
+                    "label-required": "warn",
+                    "end-event-required": 2,
+                    "no-implicit-end": "off",
+                    "plugin/rule": "error"
+                  }
+                }"""));
+
+        var results = engine.lint(toStream(PROCESS));
+
+        assertEquals(Set.of("label-required", "end-event-required"), results.keySet());
+        assertEquals(List.of(new LintReport("Start_1", "Element is missing label/name", "warn"),
+                new LintReport("Task_1", "Element is missing label/name", "warn")), results.get("label-required"));
+        assertEquals(List.of(new LintReport("Process_1", "Process is missing end event", "error")),
+                results.get("end-event-required"));
+    }
+
+    /**
+     * Checks that rules without reports are not part of the results.
+     */
+    @Test
+    public void omitsRulesWithoutReports() throws XMLStreamException {
+        var engine = new LintEngine(LintConfig.parse("""
+                {"rules": {"start-event-required": "error"}}"""));
+
+        assertEquals(0, engine.lint(toStream(PROCESS)).size());
+    }
+
+    /**
+     * Checks that malformed XML and documents without BPMN definitions are rejected.
+     */
+    @Test
+    public void rejectsInvalidModels() {
+        var engine = new LintEngine(LintConfig.recommended());
+
+        assertThrows(XMLStreamException.class, () -> engine.lint(toStream("<bpmn:definitions")));
+        assertThrows(XMLStreamException.class, () -> engine.lint(toStream("<definitions />")));
+    }
+
+    /**
+     * Converts the XML to a stream.
+     *
+     * @param xml The XML
+     * @return The UTF-8 encoded stream
+     */
+    private static ByteArrayInputStream toStream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,113 @@
+package dev.camunda.bpmn.editor.lint.rule;
+
+import static java.util.Objects.requireNonNull;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import dev.camunda.bpmn.editor.lint.engine.LintConfig;
+import dev.camunda.bpmn.editor.lint.engine.LintEngine;
+import dev.camunda.bpmn.editor.lint.engine.LintReport;
+import dev.camunda.bpmn.editor.lint.engine.LintSeverity;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Tests every bpmnlint rule of the Java lint engine against its fixtures.
+ *
+ * <p>Each rule has a {@code report.bpmn} fixture, which must be reported at exactly the expected elements,
+ * and a {@code no-report.bpmn} fixture, which must not be reported at all. The fixtures are linted
+ * with the rule alone, so they only need to be valid for the rule under test.</p>
+ *
+ * @author Oleksandr Havrysh
+ */
+@RunWith(Parameterized.class)
+public class LintRulesTest {
+
+    private static final String FIXTURE = "/lint/rules/%s/%s.bpmn";
+    private static final String REPORT = "report";
+    private static final String NO_REPORT = "no-report";
+    private static final Map<String, List<String>> EXPECTED_IDS = Map.ofEntries(
+            Map.entry("ad-hoc-sub-process", List.of("Start_1", "End_1", "Catch_1")),
+            Map.entry("conditional-flows", List.of("Flow_2")),
+            Map.entry("end-event-required", List.of("Process_1")),
+            Map.entry("event-based-gateway", List.of("Gateway_1", "Task_1")),
+            Map.entry("event-sub-process-typed-start-event", List.of("Start_1")),
+            Map.entry("fake-join", List.of("Task_1")),
+            Map.entry("global", List.of("Message_1", "Signal_2")),
+            Map.entry("label-required", List.of("Task_1", "Gateway_1", "End_2")),
+            Map.entry("link-event", List.of("Throw_2", "Catch_2", "Throw_1")),
+            Map.entry("no-bpmndi", List.of("Task_1")),
+            Map.entry("no-complex-gateway", List.of("Gateway_1")),
+            Map.entry("no-disconnected", List.of("Task_1")),
+            Map.entry("no-duplicate-sequence-flows", List.of("Flow_2", "Start_1", "Task_1")),
+            Map.entry("no-gateway-join-fork", List.of("Gateway_1")),
+            Map.entry("no-implicit-end", List.of("Task_1")),
+            Map.entry("no-implicit-split", List.of("Task_1")),
+            Map.entry("no-implicit-start", List.of("Task_1")),
+            Map.entry("no-inclusive-gateway", List.of("Gateway_1")),
+            Map.entry("no-overlapping-elements", List.of("Task_1", "Task_2")),
+            Map.entry("single-blank-start-event", List.of("Process_1")),
+            Map.entry("single-event-definition", List.of("Start_1")),
+            Map.entry("start-event-required", List.of("Process_1")),
+            Map.entry("sub-process-blank-start-event", List.of("Start_1")),
+            Map.entry("superfluous-gateway", List.of("Gateway_1")),
+            Map.entry("superfluous-termination", List.of("End_1")));
+
+    @Parameterized.Parameter
+    public String rule;
+
+    @Parameterized.Parameter(1)
+    public List<String> expectedIds;
+
+    /**
+     * Returns every registered rule with the ids of the elements reported in its {@code report.bpmn} fixture,
+     * so a rule registered without fixtures fails.
+     *
+     * @return The rule names with the expected element ids
+     */
+    @Parameterized.Parameters(name = "{0}")
+    public static List<Object[]> rules() {
+        return LintRules.names().stream()
+                .map(name -> new Object[]{name, EXPECTED_IDS.get(name)})
+                .toList();
+    }
+
+    /**
+     * Checks that the rule reports exactly the expected elements of its {@code report.bpmn} fixture.
+     */
+    @Test
+    public void reportsInvalidElements() throws IOException, XMLStreamException {
+        assertNotNull("No expected reports for " + rule, expectedIds);
+        var reportedIds = lint(REPORT).stream().map(LintReport::id).sorted().toList();
+
+        assertEquals(expectedIds.stream().sorted().toList(), reportedIds);
+    }
+
+    /**
+     * Checks that the rule reports nothing in its {@code no-report.bpmn} fixture.
+     */
+    @Test
+    public void acceptsValidElements() throws IOException, XMLStreamException {
+        assertTrue(lint(NO_REPORT).isEmpty());
+    }
+
+    /**
+     * Lints a fixture of the rule with the rule alone.
+     *
+     * @param fixture The name of the fixture, without the extension
+     * @return The reports of the rule
+     */
+    private List<LintReport> lint(String fixture) throws IOException, XMLStreamException {
+        var engine = new LintEngine(new LintConfig(Map.of(rule, LintSeverity.ERROR)));
+        try (var inputStream = requireNonNull(LintRulesTest.class.getResourceAsStream(
+                FIXTURE.formatted(rule, fixture)), fixture + " fixture of " + rule)) {
+            return engine.lint(inputStream).getOrDefault(rule, List.of());
+        }
+    }
+}
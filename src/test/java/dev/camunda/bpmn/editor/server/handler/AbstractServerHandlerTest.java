@@ -0,0 +1,221 @@
+package dev.camunda.bpmn.editor.server.handler;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.nonNull;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpPrincipal;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import org.junit.Test;
+
+/**
+ * Tests the handling of the {@code Range} request header by {@link AbstractServerHandler#writeBody}.
+ *
+ * @author Oleksandr Havrysh
+ */
+public class AbstractServerHandlerTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(UTF_8);
+
+    /**
+     * Checks that the whole body is sent without a {@code Range} header.
+     */
+    @Test
+    public void sendsWholeBodyWithoutRange() throws IOException {
+        var exchange = write(null);
+
+        assertEquals(200, exchange.responseCode);
+        assertEquals("bytes", exchange.responseHeaders.getFirst("Accept-Ranges"));
+        assertEquals("0123456789", exchange.body());
+    }
+
+    /**
+     * Checks the closed, open and suffix ranges.
+     */
+    @Test
+    public void sendsRequestedRange() throws IOException {
+        assertPartial("bytes=2-5", "bytes 2-5/10", "2345");
+        assertPartial("bytes=7-", "bytes 7-9/10", "789");
+        assertPartial("bytes=-3", "bytes 7-9/10", "789");
+        assertPartial(" bytes=0-0 ", "bytes 0-0/10", "0");
+    }
+
+    /**
+     * Checks that ranges reaching beyond the body are clamped to it.
+     */
+    @Test
+    public void clampsRangeToBody() throws IOException {
+        assertPartial("bytes=8-100", "bytes 8-9/10", "89");
+        assertPartial("bytes=-20", "bytes 0-9/10", "0123456789");
+    }
+
+    /**
+     * Checks that a range starting after the body is not satisfiable.
+     */
+    @Test
+    public void rejectsRangeAfterBody() throws IOException {
+        var exchange = write("bytes=10-");
+
+        assertEquals(416, exchange.responseCode);
+        assertEquals("bytes */10", exchange.responseHeaders.getFirst("Content-Range"));
+        assertEquals("", exchange.body());
+    }
+
+    /**
+     * Checks that invalid, overflowing and multiple ranges are ignored and the whole body is sent.
+     */
+    @Test
+    public void ignoresInvalidRanges() throws IOException {
+        for (var range : new String[]{"bytes=5-2", "bytes=-", "bytes=99999999999999999999-", "bytes=0-1,4-5",
+                "items=0-1"}) {
+            var exchange = write(range);
+
+            assertEquals(range, 200, exchange.responseCode);
+            assertNull(range, exchange.responseHeaders.getFirst("Content-Range"));
+            assertEquals(range, "0123456789", exchange.body());
+        }
+    }
+
+    /**
+     * Checks that a range is answered with the partial content of the body.
+     *
+     * @param range        The value of the {@code Range} request header
+     * @param contentRange The expected {@code Content-Range} response header
+     * @param body         The expected response body
+     */
+    private static void assertPartial(String range, String contentRange, String body) throws IOException {
+        var exchange = write(range);
+
+        assertEquals(range, 206, exchange.responseCode);
+        assertEquals(range, contentRange, exchange.responseHeaders.getFirst("Content-Range"));
+        assertEquals(range, body, exchange.body());
+    }
+
+    /**
+     * Writes the content as the response to a request with the given {@code Range} header.
+     *
+     * @param range The value of the {@code Range} request header, or null to send none
+     * @return The exchange with the recorded response
+     */
+    private static TestExchange write(String range) throws IOException {
+        var exchange = new TestExchange();
+        if (nonNull(range)) {
+            exchange.requestHeaders.set("Range", range);
+        }
+
+        AbstractServerHandler.writeBody(exchange, ResponseBody.of(CONTENT));
+        return exchange;
+    }
+
+    /**
+     * An exchange recording the response in memory.
+     */
+    private static class TestExchange extends HttpExchange {
+
+        private final Headers requestHeaders = new Headers();
+        private final Headers responseHeaders = new Headers();
+        private final ByteArrayOutputStream responseBody = new ByteArrayOutputStream();
+        private int responseCode = -1;
+
+        /**
+         * Returns the written response body.
+         *
+         * @return The response body decoded as UTF-8
+         */
+        String body() {
+            return responseBody.toString(UTF_8);
+        }
+
+        @Override
+        public Headers getRequestHeaders() {
+            return requestHeaders;
+        }
+
+        @Override
+        public Headers getResponseHeaders() {
+            return responseHeaders;
+        }
+
+        @Override
+        public URI getRequestURI() {
+            return URI.create("/test");
+        }
+
+        @Override
+        public String getRequestMethod() {
+            return "GET";
+        }
+
+        @Override
+        public HttpContext getHttpContext() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public InputStream getRequestBody() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        @Override
+        public OutputStream getResponseBody() {
+            return responseBody;
+        }
+
+        @Override
+        public void sendResponseHeaders(int rCode, long responseLength) {
+            this.responseCode = rCode;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public int getResponseCode() {
+            return responseCode;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public String getProtocol() {
+            return "HTTP/1.1";
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return null;
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+        }
+
+        @Override
+        public void setStreams(InputStream i, OutputStream o) {
+        }
+
+        @Override
+        public HttpPrincipal getPrincipal() {
+            return null;
+        }
+    }
+}